@@ -0,0 +1,39 @@
+package kiosk.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks. Takes the same arguments as JMH, but writes the
+ * results as JSON to jmh-result.json unless told otherwise, so results of
+ * different releases can be compared.
+ */
+public class BenchmarkRunner {
+
+    public static final String DEFAULT_RESULT_PATH = "jmh-result.json";
+
+    /**
+     * Run the benchmarks.
+     * @param args JMH command line arguments, e.g. a regex of the benchmarks to run
+     * @throws RunnerException if a benchmark fails
+     * @throws CommandLineOptionException if the arguments are invalid
+     */
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+
+        if (!commandLine.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLine.getResult().hasValue()) {
+            options.result(DEFAULT_RESULT_PATH);
+        }
+
+        new Runner(options.build()).run();
+    }
+}
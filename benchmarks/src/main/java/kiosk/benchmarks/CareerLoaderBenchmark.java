@@ -0,0 +1,66 @@
+package kiosk.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import kiosk.models.CareerModel;
+import kiosk.models.CareerModelLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Loading careers from CSVs of different sizes, both by parsing the CSV
+ * and from the snapshot written by an earlier load.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class CareerLoaderBenchmark {
+
+    @Param({ "100", "1000", "10000", "100000" })
+    public int rowCount;
+
+    private File csvFile;
+    private File snapshotFile;
+
+    /**
+     * Write the CSV, the images it points to, and its snapshot.
+     * @throws IOException if the files can't be written
+     */
+    @Setup
+    public void setUp() throws IOException {
+        File directory = Files.createTempDirectory("career-loader-benchmark").toFile();
+        // Leave one image missing, so the Doctor has something to report
+        for (int i = 1; i < 10; i++) {
+            new File(directory, "career" + i + ".png").createNewFile();
+        }
+
+        csvFile = new File(directory, "careers.csv");
+        Fixtures.writeCareersCsv(csvFile, rowCount, directory);
+        snapshotFile = new File(directory, "careers.csv" + CareerModelLoader.SNAPSHOT_EXTENSION);
+        new CareerModelLoader(csvFile, snapshotFile).load();
+    }
+
+    @Benchmark
+    public CareerModel[] parseCsv() {
+        return new CareerModelLoader(csvFile, null).load();
+    }
+
+    @Benchmark
+    public CareerModel[] readSnapshot() {
+        return new CareerModelLoader(csvFile, snapshotFile).load();
+    }
+}
@@ -0,0 +1,132 @@
+package kiosk.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import kiosk.models.ButtonModel;
+import kiosk.models.CareerDescriptionModel;
+import kiosk.models.CareerPathwaySceneModel;
+import kiosk.models.CreditsSceneModel;
+import kiosk.models.DefaultSceneModel;
+import kiosk.models.DetailsSceneModel;
+import kiosk.models.EmptySceneModel;
+import kiosk.models.ErrorSceneModel;
+import kiosk.models.PathwaySceneModel;
+import kiosk.models.PromptSceneModel;
+import kiosk.models.ResetSceneModel;
+import kiosk.models.SceneModel;
+import kiosk.models.SpokeGraphPromptSceneModel;
+import kiosk.models.TimeoutSceneModel;
+import kiosk.models.WaveTransitionSceneModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Copying scene models, which the scene graph does every time a scene is shown.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeepCopyBenchmark {
+
+    @Param({
+        "PromptSceneModel",
+        "SpokeGraphPromptSceneModel",
+        "PathwaySceneModel",
+        "CareerPathwaySceneModel",
+        "CareerDescriptionModel",
+        "DetailsSceneModel",
+        "CreditsSceneModel",
+        "TimeoutSceneModel",
+        "WaveTransitionSceneModel",
+        "ResetSceneModel",
+        "EmptySceneModel",
+        "ErrorSceneModel",
+        "DefaultSceneModel"
+    })
+    public String modelType;
+
+    private SceneModel model;
+
+    /**
+     * Create a model of the type being measured, with its buttons and
+     * careers filled in like a real survey's.
+     */
+    @Setup
+    public void setUp() {
+        PromptSceneModel generated = (PromptSceneModel) Fixtures.createLargeSurvey(1).scenes[0];
+        ButtonModel[] buttons = generated.answers;
+
+        switch (modelType) {
+            case "PromptSceneModel":
+                PromptSceneModel prompt = new PromptSceneModel();
+                prompt.answers = buttons;
+                model = prompt;
+                break;
+            case "SpokeGraphPromptSceneModel":
+                SpokeGraphPromptSceneModel spokeGraph = SpokeGraphPromptSceneModel.create();
+                spokeGraph.answers = buttons;
+                model = spokeGraph;
+                break;
+            case "PathwaySceneModel":
+                PathwaySceneModel pathway = new PathwaySceneModel();
+                pathway.buttonModels = buttons;
+                model = pathway;
+                break;
+            case "CareerPathwaySceneModel":
+                CareerPathwaySceneModel careerPathway = CareerPathwaySceneModel.create();
+                careerPathway.careers = Fixtures.createCareers(100);
+                model = careerPathway;
+                break;
+            case "CareerDescriptionModel":
+                CareerDescriptionModel careerDescription = new CareerDescriptionModel();
+                careerDescription.careerModel = Fixtures.createCareers(1)[0];
+                careerDescription.button = buttons[0];
+                model = careerDescription;
+                break;
+            case "DetailsSceneModel":
+                DetailsSceneModel details = new DetailsSceneModel();
+                details.targets = new ButtonModel[] { buttons[0] };
+                model = details;
+                break;
+            case "CreditsSceneModel":
+                model = new CreditsSceneModel();
+                break;
+            case "TimeoutSceneModel":
+                model = new TimeoutSceneModel();
+                break;
+            case "WaveTransitionSceneModel":
+                model = new WaveTransitionSceneModel();
+                break;
+            case "ResetSceneModel":
+                model = new ResetSceneModel();
+                break;
+            case "EmptySceneModel":
+                model = new EmptySceneModel();
+                break;
+            case "ErrorSceneModel":
+                model = new ErrorSceneModel("Something went wrong");
+                break;
+            case "DefaultSceneModel":
+                model = new DefaultSceneModel();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown model type " + modelType);
+        }
+    }
+
+    @Benchmark
+    public SceneModel deepCopy() {
+        return model.deepCopy();
+    }
+}
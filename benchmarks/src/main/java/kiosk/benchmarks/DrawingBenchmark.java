@@ -0,0 +1,84 @@
+package kiosk.benchmarks;
+
+import graphics.SpokeGraph;
+import java.util.concurrent.TimeUnit;
+import kiosk.Kiosk;
+import kiosk.models.ButtonModel;
+import kiosk.scenes.ButtonControl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import processing.core.PGraphics;
+
+/**
+ * Drawing controls to an offscreen buffer, without a window.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class DrawingBenchmark {
+
+    private Kiosk sketch;
+    private PGraphics graphics;
+    private SpokeGraph spokeGraph;
+    private ButtonControl rectangleButton;
+    private ButtonControl circleButton;
+
+    /**
+     * Create the controls, as a spoke graph prompt would.
+     */
+    @Setup
+    public void setUp() {
+        sketch = Fixtures.getHeadlessSketch();
+        graphics = sketch.g;
+
+        ButtonModel[] answers = new ButtonModel[6];
+        for (int i = 0; i < answers.length; i++) {
+            answers[i] = new ButtonModel("Answer " + i, "next");
+        }
+        spokeGraph = new SpokeGraph(sketch.height * 0.8, 50, 50, "Careers", answers,
+                new int[] { 0, 0, 0 });
+        spokeGraph.init(sketch);
+
+        rectangleButton = new ButtonControl(new ButtonModel("Next", "next"), 100, 100, 300, 80);
+        rectangleButton.init(sketch);
+        ButtonModel circleModel = new ButtonModel("Next", "next");
+        circleModel.isCircle = true;
+        circleButton = new ButtonControl(circleModel, 300, 300, 80);
+        circleButton.init(sketch);
+    }
+
+    @Benchmark
+    public PGraphics drawSpokeGraph() {
+        graphics.beginDraw();
+        spokeGraph.draw(sketch, 0, 0);
+        graphics.endDraw();
+        return graphics;
+    }
+
+    @Benchmark
+    public PGraphics drawRectangleButton() {
+        graphics.beginDraw();
+        rectangleButton.draw(sketch);
+        graphics.endDraw();
+        return graphics;
+    }
+
+    @Benchmark
+    public PGraphics drawCircleButton() {
+        graphics.beginDraw();
+        circleButton.draw(sketch);
+        graphics.endDraw();
+        return graphics;
+    }
+}
@@ -0,0 +1,153 @@
+package kiosk.benchmarks;
+
+import graphics.Graphics;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import kiosk.Kiosk;
+import kiosk.Riasec;
+import kiosk.Settings;
+import kiosk.models.ButtonModel;
+import kiosk.models.CareerModel;
+import kiosk.models.FilterGroupModel;
+import kiosk.models.ImageModel;
+import kiosk.models.LoadedSurveyModel;
+import kiosk.models.PromptSceneModel;
+import kiosk.models.SceneModel;
+import kiosk.models.SpokeGraphPromptSceneModel;
+import processing.awt.PGraphicsJava2D;
+
+/**
+ * Generated data shared by the benchmarks.
+ */
+final class Fixtures {
+
+    static final int CATEGORY_COUNT = 4;
+    static final int FIELD_COUNT = 12;
+    static final int CAREERS_PER_FILTER = 40;
+
+    private static Kiosk sketch;
+
+    private Fixtures() {
+        // Static utility class
+    }
+
+    /**
+     * Generate careers spread evenly over the categories, fields and RIASEC categories.
+     * @param count number of careers
+     * @return the careers
+     */
+    static CareerModel[] createCareers(int count) {
+        CareerModel[] careers = new CareerModel[count];
+        for (int i = 0; i < count; i++) {
+            CareerModel career = new CareerModel();
+            career.name = "Career " + i;
+            career.category = "Category " + (i % CATEGORY_COUNT);
+            career.field = "Field " + (i % FIELD_COUNT);
+            career.riasecCategory = Riasec.values()[i % Riasec.values().length];
+            career.description = "Description of career " + i;
+            career.imagePath = "assets/career" + (i % 10) + ".png";
+            careers[i] = career;
+        }
+        return careers;
+    }
+
+    /**
+     * Write a careers CSV like the one the kiosk loads.
+     * @param file to write to
+     * @param rowCount number of careers
+     * @param imageDirectory the image paths point into. Every tenth image is missing
+     * @throws FileNotFoundException if the file can't be written
+     */
+    static void writeCareersCsv(File file, int rowCount, File imageDirectory)
+            throws FileNotFoundException {
+        try (PrintWriter writer = new PrintWriter(file)) {
+            writer.println("Categories,Fields,Holland Codes,Career Name,Description,Image Path");
+            for (int i = 0; i < rowCount; i++) {
+                String image = new File(imageDirectory, "career" + (i % 10) + ".png").getPath();
+                writer.println("Category " + (i % CATEGORY_COUNT)
+                        + ",Field " + (i % FIELD_COUNT)
+                        + "," + Riasec.values()[i % Riasec.values().length].name()
+                        + ",Career " + i
+                        + ",\"A description of career " + i + ", with a comma\""
+                        + "," + image);
+            }
+        }
+    }
+
+    /**
+     * Generate a survey of prompt and spoke graph scenes, where every
+     * answer filters a few dozen careers. Scene i leads to scene i + 1.
+     * @param sceneCount number of scenes
+     * @return the survey
+     */
+    static LoadedSurveyModel createLargeSurvey(int sceneCount) {
+        List<SceneModel> scenes = new ArrayList<>(sceneCount);
+        for (int i = 0; i < sceneCount; i++) {
+            ButtonModel[] answers = new ButtonModel[6];
+            for (int a = 0; a < answers.length; a++) {
+                answers[a] = createButton(i, a);
+            }
+
+            if (i % 2 == 0) {
+                PromptSceneModel prompt = new PromptSceneModel();
+                prompt.id = "scene" + i;
+                prompt.name = "Prompt " + i;
+                prompt.title = "Question " + i;
+                prompt.prompt = "Which of these sounds the most like you?";
+                prompt.actionPhrase = "Pick one";
+                prompt.answers = answers;
+                scenes.add(prompt);
+            } else {
+                SpokeGraphPromptSceneModel spokeGraph = SpokeGraphPromptSceneModel.create();
+                spokeGraph.id = "scene" + i;
+                spokeGraph.name = "Spoke graph " + i;
+                spokeGraph.promptText = "Which of these sounds the most like you?";
+                spokeGraph.answers = answers;
+                scenes.add(spokeGraph);
+            }
+        }
+        return new LoadedSurveyModel(scenes);
+    }
+
+    private static ButtonModel createButton(int scene, int answer) {
+        ButtonModel button = new ButtonModel("Answer " + answer, "scene" + (scene + 1));
+        button.category = Riasec.values()[answer % Riasec.values().length];
+        button.image = new ImageModel("assets/answer" + answer + ".png", 80, 80);
+        button.filter = FilterGroupModel.create();
+        button.filter.category = "Category " + (answer % CATEGORY_COUNT);
+        button.filter.field = "Field " + answer;
+        for (int c = 0; c < CAREERS_PER_FILTER; c++) {
+            int career = (scene + answer * CAREERS_PER_FILTER + c) % 500;
+            button.filter.careerNames.add("Career " + career);
+        }
+        return button;
+    }
+
+    /**
+     * Get a kiosk that draws to an offscreen buffer instead of a window, so
+     * controls can be drawn without a display. Creating it also sets the
+     * kiosk's settings, which scenes read when they are created.
+     * @return the sketch, the same one every call
+     */
+    static synchronized Kiosk getHeadlessSketch() {
+        if (sketch == null) {
+            System.setProperty("java.awt.headless", "true");
+            Settings settings = new Settings();
+            sketch = new Kiosk("", settings, true);
+            sketch.width = settings.screenW;
+            sketch.height = settings.screenH;
+
+            PGraphicsJava2D graphics = new PGraphicsJava2D();
+            graphics.setParent(sketch);
+            graphics.setPrimary(false);
+            graphics.setSize(settings.screenW, settings.screenH);
+            sketch.g = graphics;
+
+            Graphics.loadFonts();
+        }
+        return sketch;
+    }
+}
@@ -0,0 +1,85 @@
+package kiosk.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import kiosk.InputEvent;
+import kiosk.Kiosk;
+import kiosk.models.ButtonModel;
+import kiosk.scenes.ButtonControl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import processing.event.MouseEvent;
+
+/**
+ * Sending a tap, a press followed by a release, to a scene full of buttons.
+ * The broadcast benchmark sends it to every button, as the kiosk did before
+ * input was routed through the control index, for comparison.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class InputDispatchBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    public int controlCount;
+
+    private Kiosk sketch;
+    private ButtonControl[] buttons;
+    private MouseEvent press;
+    private MouseEvent release;
+
+    /**
+     * Tile the screen with buttons and tap the last one.
+     */
+    @Setup
+    public void setUp() {
+        sketch = Fixtures.getHeadlessSketch();
+        sketch.clearEventListeners();
+
+        int columns = (int) Math.ceil(Math.sqrt(controlCount));
+        int rows = (controlCount + columns - 1) / columns;
+        int width = sketch.width / columns;
+        int height = sketch.height / rows;
+        buttons = new ButtonControl[controlCount];
+        for (int i = 0; i < controlCount; i++) {
+            buttons[i] = new ButtonControl(new ButtonModel("Button " + i, "next"),
+                    (i % columns) * width, (i / columns) * height, width, height);
+            sketch.hookControl(buttons[i]);
+        }
+
+        ButtonControl target = buttons[controlCount - 1];
+        int x = (int) target.getCenterX();
+        int y = (int) target.getCenterY();
+        press = new MouseEvent(null, 0, MouseEvent.PRESS, 0, x, y, Kiosk.LEFT, 1);
+        release = new MouseEvent(null, 0, MouseEvent.RELEASE, 0, x, y, Kiosk.LEFT, 1);
+    }
+
+    @Benchmark
+    public boolean dispatchTap() {
+        sketch.mousePressed(press);
+        sketch.mouseReleased(release);
+        return buttons[controlCount - 1].wasClicked();
+    }
+
+    @Benchmark
+    public boolean broadcastTap() {
+        for (ButtonControl button : buttons) {
+            button.getEventListeners().get(InputEvent.MousePressed).invoke(press);
+        }
+        for (ButtonControl button : buttons) {
+            button.getEventListeners().get(InputEvent.MouseReleased).invoke(release);
+        }
+        return buttons[controlCount - 1].wasClicked();
+    }
+}
@@ -0,0 +1,86 @@
+package kiosk.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import kiosk.SceneGraph;
+import kiosk.models.CareerModelLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Navigating between scenes. Only the scene graph is measured, the
+ * scenes are never initialized or drawn.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SceneGraphBenchmark {
+
+    // Number of scenes walked through before going back to the start
+    private static final int DEPTH = 10;
+
+    @Param({ "100", "1000" })
+    public int sceneCount;
+
+    // Whether scene models are copied once, as in the kiosk, or per scene shown, as in the editor
+    @Param({ "true", "false" })
+    public boolean compiled;
+
+    private SceneGraph sceneGraph;
+
+    /**
+     * Create a scene graph of a generated survey.
+     * @throws IOException if the careers CSV can't be written
+     */
+    @Setup
+    public void setUp() throws IOException {
+        // Scenes read the kiosk's settings when they are created
+        Fixtures.getHeadlessSketch();
+
+        File directory = Files.createTempDirectory("scene-graph-benchmark").toFile();
+        File csvFile = new File(directory, "careers.csv");
+        Fixtures.writeCareersCsv(csvFile, 500, directory);
+
+        sceneGraph = new SceneGraph(Fixtures.createLargeSurvey(sceneCount),
+                new CareerModelLoader(csvFile, null));
+        sceneGraph.setCompileSurvey(compiled);
+    }
+
+    /**
+     * Go to the next scene and back.
+     * @return the scene graph, so the work isn't optimized away
+     */
+    @Benchmark
+    public SceneGraph pushAndPop() {
+        sceneGraph.pushScene("scene1");
+        sceneGraph.popScene();
+        return sceneGraph;
+    }
+
+    /**
+     * Walk a few scenes into the survey, then start over.
+     * @return the scene graph, so the work isn't optimized away
+     */
+    @Benchmark
+    public SceneGraph pushAndReset() {
+        for (int i = 1; i <= DEPTH; i++) {
+            sceneGraph.pushScene("scene" + i);
+        }
+        sceneGraph.reset();
+        return sceneGraph;
+    }
+}
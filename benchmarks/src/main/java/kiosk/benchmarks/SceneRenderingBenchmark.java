@@ -0,0 +1,96 @@
+package kiosk.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import kiosk.HeadlessRenderer;
+import kiosk.Kiosk;
+import kiosk.models.CareerDescriptionModel;
+import kiosk.models.CareerPathwaySceneModel;
+import kiosk.models.CreditsSceneModel;
+import kiosk.models.DetailsSceneModel;
+import kiosk.models.LoadedSurveyModel;
+import kiosk.models.PathwaySceneModel;
+import kiosk.models.PromptSceneModel;
+import kiosk.models.SceneModel;
+import kiosk.scenes.Scene;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Milliseconds per frame of each type of scene, drawn to an offscreen buffer
+ * at different resolutions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class SceneRenderingBenchmark {
+
+    // Frames drawn before measuring, so scenes have finished animating in
+    private static final int SETTLE_FRAMES = 60;
+
+    @Param({ "prompt", "spokeGraphPrompt", "pathway", "careerPathway",
+             "careerDescription", "details", "credits" })
+    public String sceneType;
+
+    @Param({ "1280", "1920" })
+    public int width;
+
+    private HeadlessRenderer renderer;
+    private Scene scene;
+
+    /**
+     * Start the scene and let it settle.
+     */
+    @Setup
+    public void setUp() {
+        renderer = new HeadlessRenderer(width, width * 9 / 16);
+        scene = renderer.startScene(createSceneModel(sceneType));
+        for (int i = 0; i < SETTLE_FRAMES; i++) {
+            renderer.drawFrame(scene);
+        }
+    }
+
+    private static SceneModel createSceneModel(String sceneType) {
+        LoadedSurveyModel survey = Fixtures.createLargeSurvey(2);
+        switch (sceneType) {
+            case "prompt":
+                return survey.scenes[0];
+            case "spokeGraphPrompt":
+                return survey.scenes[1];
+            case "pathway":
+                PathwaySceneModel pathway = new PathwaySceneModel();
+                pathway.headerTitle = "Pathways";
+                pathway.headerBody = "Pick a pathway to explore";
+                pathway.centerText = "Pathways";
+                pathway.buttonModels = ((PromptSceneModel) survey.scenes[0]).answers;
+                return pathway;
+            case "careerPathway":
+                return CareerPathwaySceneModel.create();
+            case "careerDescription":
+                return new CareerDescriptionModel();
+            case "details":
+                return new DetailsSceneModel();
+            case "credits":
+                return new CreditsSceneModel();
+            default:
+                throw new IllegalArgumentException("Unknown scene type " + sceneType);
+        }
+    }
+
+    @Benchmark
+    public Kiosk drawFrame() {
+        renderer.drawFrame(scene);
+        return renderer.getSketch();
+    }
+}
@@ -0,0 +1,94 @@
+package kiosk.benchmarks;
+
+import java.beans.XMLDecoder;
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import kiosk.models.LoadedSurveyModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Saving and loading generated surveys as XML and in the binary format.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SurveyPersistenceBenchmark {
+
+    @Param({ "100", "1000" })
+    public int sceneCount;
+
+    private LoadedSurveyModel survey;
+    private File xmlFile;
+    private File binaryFile;
+
+    /**
+     * Generate the survey and save it in both formats. Loading the XML
+     * once writes its snapshot.
+     * @throws IOException if the files can't be written
+     */
+    @Setup
+    public void setUp() throws IOException {
+        File directory = Files.createTempDirectory("survey-benchmark").toFile();
+        xmlFile = new File(directory, "survey.xml");
+        binaryFile = new File(directory, "survey.survey");
+
+        survey = Fixtures.createLargeSurvey(sceneCount);
+        survey.writeToFile(xmlFile);
+        survey.writeToBinaryFile(binaryFile);
+        LoadedSurveyModel.readFromFile(xmlFile);
+    }
+
+    @Benchmark
+    public boolean writeXml() {
+        return survey.writeToFile(xmlFile);
+    }
+
+    /**
+     * Decode the XML directly, without the snapshot.
+     * @return the survey
+     * @throws IOException if the XML can't be read
+     */
+    @Benchmark
+    public Object readXml() throws IOException {
+        try (XMLDecoder decoder = new XMLDecoder(
+                new BufferedInputStream(new FileInputStream(xmlFile)))) {
+            return decoder.readObject();
+        }
+    }
+
+    @Benchmark
+    public boolean writeBinary() {
+        return survey.writeToBinaryFile(binaryFile);
+    }
+
+    @Benchmark
+    public LoadedSurveyModel readBinary() {
+        return LoadedSurveyModel.readFromFile(binaryFile);
+    }
+
+    /**
+     * Load the XML survey the way the kiosk does, from its snapshot.
+     * @return the survey
+     */
+    @Benchmark
+    public LoadedSurveyModel readXmlSnapshot() {
+        return LoadedSurveyModel.readFromFile(xmlFile);
+    }
+}
@@ -0,0 +1,85 @@
+package kiosk.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import kiosk.Riasec;
+import kiosk.UserScore;
+import kiosk.models.CareerCatalog;
+import kiosk.models.CareerModel;
+import kiosk.models.FilterGroupModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Applying and undoing answers, which happens on every NEXT and BACK.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserScoreBenchmark {
+
+    @Param({ "100", "1000", "10000" })
+    public int careerCount;
+
+    private UserScore userScore;
+    private FilterGroupModel filter;
+
+    /**
+     * Create a user score where every other career passes the filter.
+     */
+    @Setup
+    public void setUp() {
+        CareerModel[] careers = Fixtures.createCareers(careerCount);
+        userScore = new UserScore(new CareerCatalog(careers));
+
+        filter = FilterGroupModel.create();
+        for (int i = 0; i < careers.length; i += 2) {
+            filter.careerNames.add(careers[i].name);
+        }
+    }
+
+    /**
+     * Answer a question and go back.
+     * @return the user score, so the work isn't optimized away
+     */
+    @Benchmark
+    public UserScore applyAndUndo() {
+        userScore.apply(Riasec.Social, filter);
+        userScore.undo();
+        return userScore;
+    }
+
+    /**
+     * Answer a question, list the careers left, and go back. The list is
+     * rebuilt because the answer changed it.
+     * @return the careers
+     */
+    @Benchmark
+    public CareerModel[] applyGetCareersAndUndo() {
+        userScore.apply(Riasec.Social, filter);
+        CareerModel[] careers = userScore.getCareers();
+        userScore.undo();
+        return careers;
+    }
+
+    /**
+     * List the careers when nothing changed since the last time, as
+     * scenes do every frame.
+     * @return the careers
+     */
+    @Benchmark
+    public CareerModel[] getCareers() {
+        return userScore.getCareers();
+    }
+}
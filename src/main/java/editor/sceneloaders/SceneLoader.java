@@ -18,6 +18,7 @@ import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import kiosk.SceneGraph;
 import kiosk.models.ButtonModel;
+import kiosk.models.CareerCatalog;
 import kiosk.models.FilterGroupModel;
 import kiosk.models.SceneModel;
 
@@ -72,7 +73,7 @@ public class SceneLoader {
         } else {
             categoriesComboBox.setValue(button.filter.category);
             LinkedList<String> fields = new LinkedList<>();
-            fields.addFirst("All");
+            fields.addFirst(CareerCatalog.ALL_FIELDS);
             fields.addAll(graph.getCareerFields(button.filter.category));
             fieldsComboBox = new ComboBox<>(FXCollections.observableList(fields));
             fieldsComboBox.setValue(button.filter.field);
@@ -88,7 +89,7 @@ public class SceneLoader {
                 fieldsComboBox.setItems(FXCollections.emptyObservableList());
             } else {
                 LinkedList<String> fields = new LinkedList<>();
-                fields.addFirst("All");
+                fields.addFirst(CareerCatalog.ALL_FIELDS);
                 Set<String> fieldSet = graph.getCareerFields(category);
                 fields.addAll(fieldSet);
                 fieldsComboBox.setItems(FXCollections.observableList(fields));
@@ -101,11 +102,12 @@ public class SceneLoader {
             } else {
                 button.filter = FilterGroupModel.create();
 
-                if (field == null || field.equals("All")) {
+                if (field == null || field.equals(CareerCatalog.ALL_FIELDS)) {
                     // Category filter
                     button.filter.category = category;
-                    button.filter.field = "All";
-                    button.filter.careerNames = graph.findCareers(category, "All");
+                    button.filter.field = CareerCatalog.ALL_FIELDS;
+                    button.filter.careerNames =
+                            graph.findCareers(category, CareerCatalog.ALL_FIELDS);
                 } else {
                     // Field filter
                     button.filter.category = category;
@@ -1,17 +1,38 @@
 package graphics;
 
 import editor.Editor;
+import graphics.SpriteAtlas.Sprite;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import javafx.scene.input.TouchEvent;
 import kiosk.Kiosk;
 import kiosk.models.ImageModel;
+import kiosk.models.SceneKind;
 import kiosk.scenes.Image;
+import kiosk.scenes.ImageCache;
 import kiosk.scenes.Scene;
 import processing.core.PConstants;
+import processing.core.PImage;
 import processing.event.MouseEvent;
 
 public class Boop {
 
+    private static final String SPRITE_DIRECTORY = "assets/boop/";
+    // Every sprite also has a mirrored version, suffixed with "_r"
+    private static final String[] SPRITE_NAMES = {
+        "Left_Back_Foot", "Left_Front_Foot", "Right_Back_Foot", "Right_Front_Foot", "Left_Leg",
+        "Right_Leg", "Shell", "Shell_Hide", "Head", "Peek", "Peek_Left", "Peek_Right",
+        "Head_Happy", "Head_Happy_Blink", "Head_Blink", "Head_Look", "Head_Look_Blink",
+        "Head_Roscoe"
+    };
+    private static final String MIRRORED_SUFFIX = "_r";
+    // Sprites that can't simply be flipped, like Roscoe's lettered bandana,
+    // so their mirrored version is loaded from its own file
+    private static final String[] UNFLIPPABLE_NAMES = { "Head_Roscoe" };
+
     private final float screenBoundaryFraction = 6f;
     private final int randomBounds = 100;
     private final int randomGoLeftChance = 50;
@@ -33,46 +54,49 @@ public class Boop {
 
     private int width;
     private int boopDimens;
+    // The screen height the atlas was built for
+    private int atlasScreenH;
+    private SpriteAtlas atlas;
     private float minX;
     private float maxX;
 
-    private Image lbFoot;
-    private Image lfFoot;
-    private Image rbFoot;
-    private Image rfFoot;
-    private Image leftHideLeg;
-    private Image rightHideLeg;
-    private Image shell;
-    private Image shellHide;
-    private Image head;
-    private Image headPeek;
-    private Image headPeek1;
-    private Image headPeek2;
-    private Image headHappy;
-    private Image headHappyBlink;
-    private Image headBlink;
-    private Image headLook;
-    private Image headLookBlink;
-    private Image headRoscoe;
-
-    private Image lbFootR;
-    private Image lfFootR;
-    private Image rbFootR;
-    private Image rfFootR;
-    private Image leftHideLegR;
-    private Image rightHideLegR;
-    private Image shellR;
-    private Image shellHideR;
-    private Image headR;
-    private Image headPeekR;
-    private Image headPeek1R;
-    private Image headPeek2R;
-    private Image headHappyR;
-    private Image headHappyBlinkR;
-    private Image headBlinkR;
-    private Image headLookR;
-    private Image headLookBlinkR;
-    private Image headRoscoeR;
+    private Sprite lbFoot;
+    private Sprite lfFoot;
+    private Sprite rbFoot;
+    private Sprite rfFoot;
+    private Sprite leftHideLeg;
+    private Sprite rightHideLeg;
+    private Sprite shell;
+    private Sprite shellHide;
+    private Sprite head;
+    private Sprite headPeek;
+    private Sprite headPeek1;
+    private Sprite headPeek2;
+    private Sprite headHappy;
+    private Sprite headHappyBlink;
+    private Sprite headBlink;
+    private Sprite headLook;
+    private Sprite headLookBlink;
+    private Sprite headRoscoe;
+
+    private Sprite lbFootR;
+    private Sprite lfFootR;
+    private Sprite rbFootR;
+    private Sprite rfFootR;
+    private Sprite leftHideLegR;
+    private Sprite rightHideLegR;
+    private Sprite shellR;
+    private Sprite shellHideR;
+    private Sprite headR;
+    private Sprite headPeekR;
+    private Sprite headPeek1R;
+    private Sprite headPeek2R;
+    private Sprite headHappyR;
+    private Sprite headHappyBlinkR;
+    private Sprite headBlinkR;
+    private Sprite headLookR;
+    private Sprite headLookBlinkR;
+    private Sprite headRoscoeR;
 
     private boolean choseLeft;
     private boolean choseShake;
@@ -117,10 +141,15 @@ public class Boop {
      * @param dt the number of seconds that have passed since the last draw
      */
     public void movementLogic(Kiosk sketch, Scene currentScene, float dt) {
-        minX = width / screenBoundaryFraction;
-        maxX = width * ((screenBoundaryFraction - 1) / screenBoundaryFraction);
-        if (currentScene.getClass().toString().contains("CareerDescriptionScene")
-                && !startedHappyAnimation) {
+        if (Kiosk.getSettings().screenH != atlasScreenH
+                || Kiosk.getSettings().screenW != width) {
+            // The kiosk was resized, so Boop is too
+            loadVariables(sketch);
+        }
+        SceneKind kind = currentScene.getKind();
+        minX = width * kind.boopMinX;
+        maxX = width * kind.boopMaxX;
+        if (kind == SceneKind.CAREER_DESCRIPTION && !startedHappyAnimation) {
             totalHappyTime = 0;
             additionalHappySeconds = rand.nextFloat();
             if (choseLeft) {
@@ -129,18 +158,9 @@ public class Boop {
                 boopState = BoopState.HAPPY_RIGHT;
             }
         }
-        if (!currentScene.getClass().toString().contains("CareerDescriptionScene")) {
+        if (kind != SceneKind.CAREER_DESCRIPTION) {
             startedHappyAnimation = false;
         }
-        if (currentScene.getClass().toString().contains("SpokeGraphPromptScene")) {
-            minX = width / 15f * 6;
-            maxX = width / 15f * 7.5f;
-        }
-        if (currentScene.getClass().toString().contains("PathwayScene")
-                || currentScene.getClass().toString().contains("CareerPathwayScene")) {
-            minX = width / 15f * 9;
-            maxX = width * ((screenBoundaryFraction - 1) / screenBoundaryFraction);
-        }
         boolean choseScootAnimation;
         if (currentX >= width * (screenBoundaryFraction - 1 / screenBoundaryFraction)
                 || currentX >= maxX) {
@@ -426,8 +446,8 @@ public class Boop {
      * @param head the head to be used
      * @param amountToMove the amount Boop should move every frame
      */
-    private void scootAnimation(Kiosk sketch, Image lbFoot, Image lfFoot, Image rbFoot,
-                                Image rfFoot, Image shell, Image head, float amountToMove) {
+    private void scootAnimation(Kiosk sketch, Sprite lbFoot, Sprite lfFoot, Sprite rbFoot,
+                                Sprite rfFoot, Sprite shell, Sprite head, float amountToMove) {
         float iterationAmount = totalMovementTime % 0.48f;
         if (iterationAmount <= 0.08) {
             //Right front foot and left back foot forwards a bit
@@ -527,8 +547,8 @@ public class Boop {
      * @param head the head to be used
      * @param amountToMove the amount Boop should move every frame
      */
-    private void tiptoeAnimation(Kiosk sketch, Image lbFoot, Image lfFoot, Image rbFoot,
-                                 Image rfFoot, Image shell, Image head, float amountToMove) {
+    private void tiptoeAnimation(Kiosk sketch, Sprite lbFoot, Sprite lfFoot, Sprite rbFoot,
+                                 Sprite rfFoot, Sprite shell, Sprite head, float amountToMove) {
         float iterationAmount = totalMovementTime % 0.64f;
         if (iterationAmount <= 0.08) {
             //Right front foot up
@@ -615,8 +635,8 @@ public class Boop {
      * @param shell the shell to be used
      * @param head the head to be used
      */
-    private void staticAnimation(Kiosk sketch, Image lbFoot, Image lfFoot, Image rbFoot,
-                                 Image rfFoot, Image shell, Image head, float dt) {
+    private void staticAnimation(Kiosk sketch, Sprite lbFoot, Sprite lfFoot, Sprite rbFoot,
+                                 Sprite rfFoot, Sprite shell, Sprite head, float dt) {
         lbFoot.draw(sketch, currentX, currentY);
         lfFoot.draw(sketch, currentX, currentY);
         rbFoot.draw(sketch, currentX, currentY);
@@ -642,9 +662,9 @@ public class Boop {
      * @param rightLeg   Boop's right leg to draw
      * @param dt the number of seconds that have passed since the last draw
      */
-    private void inShellAnimation(Kiosk sketch, Image shellEmpty,
-                                  Image shellPeek, Image shellPeek1, Image shellPeek2,
-                                  Image leftLeg, Image rightLeg, float dt) {
+    private void inShellAnimation(Kiosk sketch, Sprite shellEmpty,
+                                  Sprite shellPeek, Sprite shellPeek1, Sprite shellPeek2,
+                                  Sprite leftLeg, Sprite rightLeg, float dt) {
         if (totalShellTime <= (minimumShellSeconds + additionalShellSeconds) / 3) {
             shellEmpty.draw(sketch, currentX, currentY + boopDimens / 10f);
         } else if (totalShellTime <= (minimumShellSeconds + additionalShellSeconds) / 2) {
@@ -671,8 +691,8 @@ public class Boop {
      * @param shellEmpty2 the empty shell facing the opposite way to be used
      * @param dt the number of seconds that have passed since the last draw
      */
-    private void inShellAnimation2(Kiosk sketch, Image shellEmpty,
-                                  Image shellEmpty2, float dt) {
+    private void inShellAnimation2(Kiosk sketch, Sprite shellEmpty,
+                                  Sprite shellEmpty2, float dt) {
         if (totalShellTime <= (minimumShellSeconds + additionalShellSeconds) / 2) {
             shellEmpty.draw(sketch, currentX, currentY + boopDimens / 10f);
         } else if (totalShellTime > (minimumShellSeconds + additionalShellSeconds)
@@ -702,7 +722,7 @@ public class Boop {
                     && currentY <= event.getY() + boopDimens / 2f) {
                 additionalShellSeconds = rand.nextFloat();
                 choseRoscoeAnimation = false;
-                if (sketch.getSceneGraph().getCurrentSceneModel().getName().contains("Credits")) {
+                if (sketch.getSceneGraph().getCurrentSceneModel().getKind() == SceneKind.CREDITS) {
                     if (rand.nextInt(randomBounds) < randomRoscoeAnimationChance) {
                         choseRoscoeAnimation = true;
                     }
@@ -739,7 +759,7 @@ public class Boop {
                     && currentY <= y + boopDimens / 2f) {
                 additionalShellSeconds = rand.nextFloat();
                 choseRoscoeAnimation = false;
-                if (sketch.getSceneGraph().getCurrentSceneModel().getName().contains("Credits")) {
+                if (sketch.getSceneGraph().getCurrentSceneModel().getKind() == SceneKind.CREDITS) {
                     if (rand.nextInt(randomBounds) < randomRoscoeAnimationChance) {
                         choseRoscoeAnimation = true;
                     }
@@ -761,88 +781,115 @@ public class Boop {
         }
     }
 
+    /**
+     * Lists the image of every sprite file at the size loadVariables loads them at.
+     * Allows the sprites to be decoded ahead of time.
+     * @param screenH height of the screen Boop is drawn on
+     * @return an ImageModel for each sprite file
+     */
+    public static List<ImageModel> getSpriteModels(int screenH) {
+        int boopDimens = screenH / 8;
+        List<ImageModel> models = new ArrayList<>();
+        for (String name : getSpriteFileNames()) {
+            models.add(createSpriteModel(name, boopDimens));
+        }
+        return models;
+    }
+
+    // Mirrored sprites are flipped in memory, except for the ones that can't be
+    private static List<String> getSpriteFileNames() {
+        List<String> names = new ArrayList<>();
+        for (String name : SPRITE_NAMES) {
+            names.add(name);
+        }
+        for (String name : UNFLIPPABLE_NAMES) {
+            names.add(name + MIRRORED_SUFFIX);
+        }
+        return names;
+    }
+
+    private static ImageModel createSpriteModel(String name, int boopDimens) {
+        return new ImageModel(SPRITE_DIRECTORY + name + ".png", boopDimens, boopDimens);
+    }
+
+    /**
+     * Packs every sprite, and its mirrored version, into a single atlas.
+     * The decoded files are only needed until they are copied into the
+     * atlas, so they are dropped from the image cache afterwards.
+     * @param sketch the atlas belongs to
+     */
+    private void buildAtlas(Kiosk sketch) {
+        Map<String, PImage> files = new HashMap<>();
+        for (String name : getSpriteFileNames()) {
+            files.put(name, Image.loadImage(sketch, createSpriteModel(name, boopDimens)));
+        }
+
+        atlas = new SpriteAtlas(sketch, boopDimens, SPRITE_NAMES.length * 2);
+        Map<String, Sprite> sprites = new HashMap<>();
+        for (String name : SPRITE_NAMES) {
+            sprites.put(name, atlas.add(files.get(name)));
+            PImage mirrored = files.get(name + MIRRORED_SUFFIX);
+            sprites.put(name + MIRRORED_SUFFIX, mirrored != null
+                    ? atlas.add(mirrored) : atlas.addMirrored(files.get(name)));
+        }
+
+        for (String name : files.keySet()) {
+            ImageCache.getInstance().remove(
+                    SPRITE_DIRECTORY + name + ".png", boopDimens, boopDimens);
+        }
+
+        lbFoot = sprites.get("Left_Back_Foot");
+        lfFoot = sprites.get("Left_Front_Foot");
+        rbFoot = sprites.get("Right_Back_Foot");
+        rfFoot = sprites.get("Right_Front_Foot");
+        leftHideLeg = sprites.get("Left_Leg");
+        rightHideLeg = sprites.get("Right_Leg");
+        shell = sprites.get("Shell");
+        shellHide = sprites.get("Shell_Hide");
+        head = sprites.get("Head");
+        headPeek = sprites.get("Peek");
+        headPeek1 = sprites.get("Peek_Left");
+        headPeek2 = sprites.get("Peek_Right");
+        headHappy = sprites.get("Head_Happy");
+        headHappyBlink = sprites.get("Head_Happy_Blink");
+        headBlink = sprites.get("Head_Blink");
+        headLook = sprites.get("Head_Look");
+        headLookBlink = sprites.get("Head_Look_Blink");
+        headRoscoe = sprites.get("Head_Roscoe");
+
+        lbFootR = sprites.get("Left_Back_Foot_r");
+        lfFootR = sprites.get("Left_Front_Foot_r");
+        rbFootR = sprites.get("Right_Back_Foot_r");
+        rfFootR = sprites.get("Right_Front_Foot_r");
+        leftHideLegR = sprites.get("Left_Leg_r");
+        rightHideLegR = sprites.get("Right_Leg_r");
+        shellR = sprites.get("Shell_r");
+        shellHideR = sprites.get("Shell_Hide_r");
+        headR = sprites.get("Head_r");
+        headPeekR = sprites.get("Peek_r");
+        headPeek1R = sprites.get("Peek_Left_r");
+        headPeek2R = sprites.get("Peek_Right_r");
+        headHappyR = sprites.get("Head_Happy_r");
+        headHappyBlinkR = sprites.get("Head_Happy_Blink_r");
+        headBlinkR = sprites.get("Head_Blink_r");
+        headLookR = sprites.get("Head_Look_r");
+        headLookBlinkR = sprites.get("Head_Look_Blink_r");
+        headRoscoeR = sprites.get("Head_Roscoe_r");
+    }
+
     /**
      * Loads all images in so they aren't loaded on every drawn frame.
+     * The sprites are only loaded again if the height of the screen changed.
      * @param sketch to draw to
      */
     public void loadVariables(Kiosk sketch) {
         width = Kiosk.getSettings().screenW;
         int height = Kiosk.getSettings().screenH;
-        boopDimens = height / 8;
-
-        lbFoot = Image.createImage(sketch,
-                new ImageModel("assets/boop/Left_Back_Foot.png", boopDimens, boopDimens));
-        lfFoot = Image.createImage(sketch,
-                new ImageModel("assets/boop/Left_Front_Foot.png", boopDimens, boopDimens));
-        rbFoot = Image.createImage(sketch,
-                new ImageModel("assets/boop/Right_Back_Foot.png", boopDimens, boopDimens));
-        rfFoot = Image.createImage(sketch,
-                new ImageModel("assets/boop/Right_Front_Foot.png", boopDimens, boopDimens));
-        leftHideLeg = Image.createImage(sketch,
-                new ImageModel("assets/boop/Left_Leg.png", boopDimens, boopDimens));
-        rightHideLeg = Image.createImage(sketch,
-                new ImageModel("assets/boop/Right_Leg.png", boopDimens, boopDimens));
-        shell = Image.createImage(sketch,
-                new ImageModel("assets/boop/Shell.png", boopDimens, boopDimens));
-        shellHide = Image.createImage(sketch,
-                new ImageModel("assets/boop/Shell_Hide.png", boopDimens, boopDimens));
-        head = Image.createImage(sketch,
-                new ImageModel("assets/boop/Head.png", boopDimens, boopDimens));
-        headPeek = Image.createImage(sketch,
-                new ImageModel("assets/boop/Peek.png", boopDimens, boopDimens));
-        headPeek1 = Image.createImage(sketch,
-                new ImageModel("assets/boop/Peek_Left.png", boopDimens, boopDimens));
-        headPeek2 = Image.createImage(sketch,
-                new ImageModel("assets/boop/Peek_Right.png", boopDimens, boopDimens));
-        headHappy = Image.createImage(sketch,
-                new ImageModel("assets/boop/Head_Happy.png", boopDimens, boopDimens));
-        headHappyBlink = Image.createImage(sketch,
-                new ImageModel("assets/boop/Head_Happy_Blink.png", boopDimens, boopDimens));
-        headBlink = Image.createImage(sketch,
-                new ImageModel("assets/boop/Head_Blink.png", boopDimens, boopDimens));
-        headLook = Image.createImage(sketch,
-                new ImageModel("assets/boop/Head_Look.png", boopDimens, boopDimens));
-        headLookBlink = Image.createImage(sketch,
-                new ImageModel("assets/boop/Head_Look_Blink.png", boopDimens, boopDimens));
-        headRoscoe = Image.createImage(sketch,
-                new ImageModel("assets/boop/Head_Roscoe.png", boopDimens, boopDimens));
-
-        lbFootR = Image.createImage(sketch,
-                new ImageModel("assets/boop/Left_Back_Foot_r.png", boopDimens, boopDimens));
-        lfFootR = Image.createImage(sketch,
-                new ImageModel("assets/boop/Left_Front_Foot_r.png", boopDimens, boopDimens));
-        rbFootR = Image.createImage(sketch,
-                new ImageModel("assets/boop/Right_Back_Foot_r.png", boopDimens, boopDimens));
-        rfFootR = Image.createImage(sketch,
-                new ImageModel("assets/boop/Right_Front_Foot_r.png", boopDimens, boopDimens));
-        leftHideLegR = Image.createImage(sketch,
-                new ImageModel("assets/boop/Left_Leg_r.png", boopDimens, boopDimens));
-        rightHideLegR = Image.createImage(sketch,
-                new ImageModel("assets/boop/Right_Leg_r.png", boopDimens, boopDimens));
-        shellR = Image.createImage(sketch,
-                new ImageModel("assets/boop/Shell_r.png", boopDimens, boopDimens));
-        shellHideR = Image.createImage(sketch,
-                new ImageModel("assets/boop/Shell_Hide_r.png", boopDimens, boopDimens));
-        headR = Image.createImage(sketch,
-                new ImageModel("assets/boop/Head_r.png", boopDimens, boopDimens));
-        headPeekR = Image.createImage(sketch,
-                new ImageModel("assets/boop/Peek_r.png", boopDimens, boopDimens));
-        headPeek1R = Image.createImage(sketch,
-                new ImageModel("assets/boop/Peek_Left_r.png", boopDimens, boopDimens));
-        headPeek2R = Image.createImage(sketch,
-                new ImageModel("assets/boop/Peek_Right_r.png", boopDimens, boopDimens));
-        headHappyR = Image.createImage(sketch,
-                new ImageModel("assets/boop/Head_Happy_r.png", boopDimens, boopDimens));
-        headHappyBlinkR = Image.createImage(sketch,
-                new ImageModel("assets/boop/Head_Happy_Blink_r.png", boopDimens, boopDimens));
-        headBlinkR = Image.createImage(sketch,
-                new ImageModel("assets/boop/Head_Blink_r.png", boopDimens, boopDimens));
-        headLookR = Image.createImage(sketch,
-                new ImageModel("assets/boop/Head_Look_r.png", boopDimens, boopDimens));
-        headLookBlinkR = Image.createImage(sketch,
-                new ImageModel("assets/boop/Head_Look_Blink_r.png", boopDimens, boopDimens));
-        headRoscoeR = Image.createImage(sketch,
-                new ImageModel("assets/boop/Head_Roscoe_r.png", boopDimens, boopDimens));
+        if (atlas == null || atlasScreenH != height) {
+            boopDimens = height / 8;
+            buildAtlas(sketch);
+            atlasScreenH = height;
+        }
 
         currentX = width / 2f;
         currentY = height - boopDimens / 2f;
@@ -9,7 +9,6 @@ import processing.core.PApplet;
 import processing.core.PConstants;
 import processing.core.PFont;
 import processing.core.PGraphics;
-import processing.event.MouseEvent;
 
 public class Graphics {
 
@@ -31,6 +30,20 @@ public class Graphics {
     private static float bubbleOffset = 0;
     private static PGraphics bubbleImage = null;
 
+    // The trailing ring of an echoing tap ripple starts this much later
+    private static final float ECHO_DELAY_SECONDS = 0.1f;
+    // Directions the dots of a sparkling tap ripple fly in
+    private static final float[] SPARKLE_COS = new float[6];
+    private static final float[] SPARKLE_SIN = new float[6];
+
+    static {
+        for (int i = 0; i < SPARKLE_COS.length; i++) {
+            double angle = i * Math.PI * 2 / SPARKLE_COS.length;
+            SPARKLE_COS[i] = (float) Math.cos(angle);
+            SPARKLE_SIN[i] = (float) Math.sin(angle);
+        }
+    }
+
     private Graphics() {
 
     }
@@ -209,24 +222,46 @@ public class Graphics {
     }
 
     /**
-     * Draws a circle radiating outwards where the user clicks, to provide feedback.
+     * Draws a circle radiating outwards where the user tapped, to provide feedback.
      * @param sketch to draw to
-     * @param e the click event to respond to, contains the coords to draw to
-     * @param timeSinceLastTap the time since the tap occurred,
-     *                       makes the circle pulse outward gradually
+     * @param x location of the tap
+     * @param y location of the tap
+     * @param timeSinceTap the time since the tap occurred, in seconds,
+     *                     makes the circle pulse outward gradually
+     * @param color of the circle
+     * @param effect to draw, adds trailing rings or sparkles to the circle
      */
-    public static void drawTouchResponse(Kiosk sketch, MouseEvent e,
-                                         float timeSinceLastTap, int color) {
+    public static void drawTouchResponse(Kiosk sketch, float x, float y,
+                                         float timeSinceTap, int color, TapRipples.Effect effect) {
         sketch.ellipseMode(PConstants.CENTER);
         sketch.noFill();
-        float weight = (9 - (timeSinceLastTap * 21));
+        sketch.stroke(color);
+        drawTouchRing(sketch, x, y, timeSinceTap);
+
+        if (effect == TapRipples.Effect.ECHO && timeSinceTap > ECHO_DELAY_SECONDS) {
+            sketch.stroke(color, 128);
+            drawTouchRing(sketch, x, y, timeSinceTap - ECHO_DELAY_SECONDS);
+        } else if (effect == TapRipples.Effect.SPARKLE) {
+            // Dots fly out past the ring and fade as they go
+            float distance = sketch.width / 100f + (70 * timeSinceTap);
+            float size = sketch.width / 200f * (1 - timeSinceTap / TapRipples.LIFETIME_SECONDS);
+            sketch.noStroke();
+            sketch.fill(color);
+            for (int i = 0; i < SPARKLE_COS.length; i++) {
+                sketch.ellipse(x + SPARKLE_COS[i] * distance, y + SPARKLE_SIN[i] * distance,
+                        size, size);
+            }
+        }
+        sketch.strokeWeight(1);
+    }
+
+    private static void drawTouchRing(Kiosk sketch, float x, float y, float timeSinceTap) {
+        float weight = (9 - (timeSinceTap * 21));
         if (weight <= 1) {
             weight = 1;
         }
         sketch.strokeWeight(weight);
-        sketch.stroke(color);
-        sketch.ellipse(e.getX(), e.getY(), sketch.width / 50f
-                + (45 * timeSinceLastTap), sketch.width / 50f + (45 * timeSinceLastTap));
-        sketch.strokeWeight(1);
+        float diameter = sketch.width / 50f + (45 * timeSinceTap);
+        sketch.ellipse(x, y, diameter, diameter);
     }
 }
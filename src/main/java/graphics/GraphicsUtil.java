@@ -33,6 +33,9 @@ public class GraphicsUtil {
     private static int commonButtonHeight = screenH / 8;
     private static int commonButtonPadding = screenH / 20;
 
+    private static final int[] BLACK_RGB = new int[] { 0, 0, 0 };
+    private static final int[] WHITE_RGB = new int[] { 255, 255, 255 };
+
     public static float TextRatioEstimate = 1.5f; // 1.7
     public static float InnerOuterCircleRatio = 4.f;
 
@@ -200,7 +203,8 @@ public class GraphicsUtil {
     }
 
     /**
-     * Draw a text with an black outline.
+     * Draw a text with an black outline. The outlined text is cached,
+     * so drawing the same label again is a single image draw.
      * @param text to write
      * @param x location
      * @param y location
@@ -210,15 +214,6 @@ public class GraphicsUtil {
      */
     public static void textWithOutline(String text,
                                        float x, float y, float w, float h, Kiosk sketch) {
-        // Draw multiple copies of the text shifted by a few pixels to create the outline
-        sketch.fill(0, 0, 0);
-        for (int delta = -1; delta < 2; delta++) {
-            sketch.text(text, x + delta, y, w, h);
-            sketch.text(text, x, y + delta, w, h);
-        }
-
-        // Draw the text
-        sketch.fill(255);
-        sketch.text(text, x, y, w, h);
+        OutlinedTextCache.getInstance().draw(sketch, text, x, y, w, h, BLACK_RGB, WHITE_RGB);
     }
 }
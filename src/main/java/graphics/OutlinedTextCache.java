@@ -0,0 +1,323 @@
+package graphics;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import kiosk.Kiosk;
+import processing.awt.PGraphicsJava2D;
+import processing.core.PConstants;
+import processing.core.PFont;
+import processing.core.PGraphics;
+import processing.core.PImage;
+
+/**
+ * Cache of outlined text rasterized into sprites. Outlined text is drawn
+ * seven times to build its outline, which is most of the cost of drawing a
+ * label, so each label is laid out and rasterized once and then drawn with a
+ * single image draw. Sprites are keyed by the text, font, size, alignment,
+ * bounding box and colors. The cache is bounded by a memory budget, evicts
+ * the least recently used sprite once it is exceeded, and is cleared when
+ * the size of the kiosk changes. Only used from the animation thread.
+ *
+ * <p>Sprites are rasterized by Java2D, which draws text differently to
+ * FX2D, so the cache is only used when the sketch itself draws with Java2D.
+ * Under any other renderer the text is drawn directly, as before.
+ */
+public class OutlinedTextCache {
+
+    // Every pixel of a PImage is stored as a single ARGB int
+    private static final int BYTES_PER_PIXEL = 4;
+    // Text is placed to an eighth of a pixel, so a label has at most 64 sprites
+    private static final int SUBPIXEL_STEPS = 8;
+    public static final int DEFAULT_BUDGET_MEGABYTES = 16;
+
+    private static final OutlinedTextCache instance =
+            new OutlinedTextCache(DEFAULT_BUDGET_MEGABYTES * 1024L * 1024L);
+
+    private final LinkedHashMap<Key, PImage> sprites;
+    // Reused for lookups so a hit doesn't allocate
+    private final Key probe = new Key();
+    private final long budgetBytes;
+    private long usedBytes = 0;
+    private int screenW;
+    private int screenH;
+    // Sprites are rasterized here, then copied out
+    private PGraphics scratch;
+
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+
+    public static OutlinedTextCache getInstance() {
+        return instance;
+    }
+
+    /**
+     * Create an empty outlined text cache.
+     * @param budgetBytes the maximum number of sprite bytes to keep in memory
+     */
+    public OutlinedTextCache(long budgetBytes) {
+        // Access ordered, so iteration starts at the least recently used sprite
+        this.sprites = new LinkedHashMap<>(16, 0.75f, true);
+        this.budgetBytes = budgetBytes;
+    }
+
+    /**
+     * Draw text with an outline, the same as drawing the text shifted a pixel
+     * in each direction in the outline color and then once more in the fill
+     * color. Uses the sketch's current font, alignment and rect mode. Like
+     * drawing the text directly, this leaves the fill set to the fill color.
+     * @param sketch to draw to
+     * @param text to write
+     * @param x location, interpreted by the rect mode
+     * @param y location, interpreted by the rect mode
+     * @param w width bound, interpreted by the rect mode
+     * @param h height bound, interpreted by the rect mode
+     * @param outlineRgb color of the outline
+     * @param fillRgb color of the text
+     */
+    public void draw(Kiosk sketch, String text, float x, float y, float w, float h,
+                     int[] outlineRgb, int[] fillRgb) {
+        PGraphics g = sketch.g;
+        float left = x;
+        float top = y;
+        float width = w;
+        float height = h;
+        if (g.rectMode == PConstants.CENTER) {
+            left = x - w / 2;
+            top = y - h / 2;
+        } else if (g.rectMode == PConstants.RADIUS) {
+            left = x - w;
+            top = y - h;
+            width = w * 2;
+            height = h * 2;
+        } else if (g.rectMode == PConstants.CORNERS) {
+            width = w - x;
+            height = h - y;
+        }
+
+        if (text.isEmpty() || g.textFont == null || g.tint || width <= 0 || height <= 0
+                || !(g instanceof PGraphicsJava2D)) {
+            // Nothing worth caching, or a sprite wouldn't look the same
+            drawOutlinedText(g, text, x, y, w, h, outlineRgb, fillRgb);
+            return;
+        }
+
+        if (screenW != Kiosk.getSettings().screenW || screenH != Kiosk.getSettings().screenH) {
+            // The size of the kiosk changed, so every label was laid out again
+            screenW = Kiosk.getSettings().screenW;
+            screenH = Kiosk.getSettings().screenH;
+            clear();
+        }
+
+        // Sprites are drawn on whole pixels, so the rest of the offset is drawn into them
+        float spriteX = (float) Math.floor(left);
+        float spriteY = (float) Math.floor(top);
+        int subpixelX = Math.round((left - spriteX) * SUBPIXEL_STEPS);
+        int subpixelY = Math.round((top - spriteY) * SUBPIXEL_STEPS);
+
+        probe.set(text, g.textFont, g.textSize, g.textLeading, g.textAlign, g.textAlignY,
+                width, height, subpixelX, subpixelY, toArgb(outlineRgb), toArgb(fillRgb));
+        PImage sprite = sprites.get(probe);
+        if (sprite == null) {
+            misses++;
+            sprite = render(sketch, text, width, height, (float) subpixelX / SUBPIXEL_STEPS,
+                    (float) subpixelY / SUBPIXEL_STEPS, outlineRgb, fillRgb);
+            put(probe.copy(), sprite);
+        } else {
+            hits++;
+        }
+
+        int padding = getPadding(g.textSize);
+        int imageMode = g.imageMode;
+        sketch.imageMode(PConstants.CORNER);
+        sketch.image(sprite, spriteX - padding, spriteY - padding);
+        sketch.imageMode(imageMode);
+        sketch.fill(fillRgb[0], fillRgb[1], fillRgb[2]);
+    }
+
+    /**
+     * Draw text with an outline without going through the cache.
+     * @param g to draw to
+     * @param text to write
+     * @param x location
+     * @param y location
+     * @param w width bound
+     * @param h height bound
+     * @param outlineRgb color of the outline
+     * @param fillRgb color of the text
+     */
+    public static void drawOutlinedText(PGraphics g, String text, float x, float y,
+                                        float w, float h, int[] outlineRgb, int[] fillRgb) {
+        // Draw multiple copies of the text shifted by a few pixels to create the outline
+        g.fill(outlineRgb[0], outlineRgb[1], outlineRgb[2]);
+        for (int delta = -1; delta < 2; delta++) {
+            g.text(text, x + delta, y, w, h);
+            g.text(text, x, y + delta, w, h);
+        }
+
+        // Draw the text
+        g.fill(fillRgb[0], fillRgb[1], fillRgb[2]);
+        g.text(text, x, y, w, h);
+    }
+
+    private PImage render(Kiosk sketch, String text, float width, float height,
+                          float subpixelX, float subpixelY, int[] outlineRgb, int[] fillRgb) {
+        PGraphics g = sketch.g;
+        int padding = getPadding(g.textSize);
+        int spriteW = (int) Math.ceil(width) + padding * 2 + 1;
+        int spriteH = (int) Math.ceil(height) + padding * 2 + 1;
+        if (scratch == null || scratch.width < spriteW || scratch.height < spriteH) {
+            scratch = sketch.createGraphics(Math.max(spriteW, scratch == null ? 0 : scratch.width),
+                    Math.max(spriteH, scratch == null ? 0 : scratch.height));
+        }
+
+        scratch.beginDraw();
+        scratch.clear();
+        scratch.textFont(g.textFont, g.textSize);
+        scratch.textLeading(g.textLeading);
+        scratch.textAlign(g.textAlign, g.textAlignY);
+        scratch.rectMode(PConstants.CORNER);
+        drawOutlinedText(scratch, text, padding + subpixelX, padding + subpixelY,
+                width, height, outlineRgb, fillRgb);
+        scratch.endDraw();
+        return scratch.get(0, 0, spriteW, spriteH);
+    }
+
+    private void put(Key key, PImage sprite) {
+        long size = sizeOf(sprite);
+        if (size > budgetBytes) {
+            return;
+        }
+
+        sprites.put(key, sprite);
+        usedBytes += size;
+
+        Iterator<Map.Entry<Key, PImage>> iterator = sprites.entrySet().iterator();
+        while (usedBytes > budgetBytes && iterator.hasNext()) {
+            usedBytes -= sizeOf(iterator.next().getValue());
+            iterator.remove();
+            evictions++;
+        }
+    }
+
+    /**
+     * Remove every sprite from the cache. The counters are left untouched.
+     */
+    public void clear() {
+        sprites.clear();
+        usedBytes = 0;
+    }
+
+    public int getSize() {
+        return sprites.size();
+    }
+
+    public long getUsedBytes() {
+        return usedBytes;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    // Room for the outline, and for glyphs that hang outside the bounding box
+    private static int getPadding(float textSize) {
+        return (int) Math.ceil(textSize / 2) + 2;
+    }
+
+    private static int toArgb(int[] rgb) {
+        return 0xFF000000 | (rgb[0] & 0xFF) << 16 | (rgb[1] & 0xFF) << 8 | (rgb[2] & 0xFF);
+    }
+
+    private static long sizeOf(PImage image) {
+        return (long) image.width * image.height * BYTES_PER_PIXEL;
+    }
+
+    @Override
+    public String toString() {
+        return "OutlinedTextCache{"
+                + "size=" + getSize()
+                + ", usedBytes=" + getUsedBytes()
+                + ", hits=" + getHits()
+                + ", misses=" + getMisses()
+                + ", evictions=" + getEvictions()
+                + "}";
+    }
+
+    private static final class Key {
+        private String text;
+        private PFont font;
+        private float size;
+        private float leading;
+        private int alignX;
+        private int alignY;
+        private float width;
+        private float height;
+        private int subpixelX;
+        private int subpixelY;
+        private int outline;
+        private int fill;
+
+        private void set(String text, PFont font, float size, float leading, int alignX,
+                         int alignY, float width, float height, int subpixelX, int subpixelY,
+                         int outline, int fill) {
+            this.text = text;
+            this.font = font;
+            this.size = size;
+            this.leading = leading;
+            this.alignX = alignX;
+            this.alignY = alignY;
+            this.width = width;
+            this.height = height;
+            this.subpixelX = subpixelX;
+            this.subpixelY = subpixelY;
+            this.outline = outline;
+            this.fill = fill;
+        }
+
+        private Key copy() {
+            Key key = new Key();
+            key.set(text, font, size, leading, alignX, alignY, width, height,
+                    subpixelX, subpixelY, outline, fill);
+            return key;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return font == key.font && size == key.size && leading == key.leading
+                    && alignX == key.alignX && alignY == key.alignY
+                    && width == key.width && height == key.height
+                    && subpixelX == key.subpixelX && subpixelY == key.subpixelY
+                    && outline == key.outline && fill == key.fill
+                    && Objects.equals(text, key.text);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = text.hashCode();
+            result = 31 * result + System.identityHashCode(font);
+            result = 31 * result + Float.floatToIntBits(size);
+            result = 31 * result + Float.floatToIntBits(width);
+            result = 31 * result + Float.floatToIntBits(height);
+            result = 31 * result + subpixelX * SUBPIXEL_STEPS + subpixelY;
+            return 31 * result + fill;
+        }
+    }
+}
@@ -1,11 +1,11 @@
 package graphics;
 
 import kiosk.Kiosk;
-import kiosk.Riasec;
 import kiosk.SceneGraph;
+import kiosk.models.ButtonModel;
 import kiosk.models.CareerModel;
 import kiosk.models.CreditsSceneModel;
-import kiosk.models.FilterGroupModel;
+import kiosk.models.SceneKind;
 
 public class SceneAnimationHelper {
 
@@ -19,9 +19,7 @@ public class SceneAnimationHelper {
      * as they involve spoke interpolation.
      * @param sketch to draw to
      * @param clicked an enum stating what type of click just occurred
-     * @param sceneToGoTo the scene to travel to, if "Next" was pressed
-     * @param riasecToGoTo the riasec type to travel to, if "Next" was pressed
-     * @param filterToGoTo the filter to use while travelling, if "Next" was pressed
+     * @param buttonToGoTo the button leading to the scene to travel to, if "Next" was pressed
      * @param totalTimeOpening the time currently spent animating the scene in
      * @param totalTimeEnding the time currently spent animating the scene out
      * @param sceneAnimationMilliseconds the duration of scene animations
@@ -31,8 +29,7 @@ public class SceneAnimationHelper {
      */
     public static int[] sceneAnimationLogic(Kiosk sketch,
                                            Clicked clicked,
-                                           String sceneToGoTo, Riasec riasecToGoTo,
-                                            FilterGroupModel filterToGoTo,
+                                           ButtonModel buttonToGoTo,
                                            float totalTimeOpening, float totalTimeEnding,
                                             int sceneAnimationMilliseconds,
                                            int screenW, int screenH) {
@@ -41,7 +38,7 @@ public class SceneAnimationHelper {
 
         if (sketch.isEditor) {
             if (clicked.equals(Clicked.NEXT)) {
-                sketch.getSceneGraph().pushScene(sceneToGoTo, riasecToGoTo, filterToGoTo);
+                sketch.getSceneGraph().pushScene(buttonToGoTo);
             } else if (clicked.equals(Clicked.BACK)) {
                 sketch.getSceneGraph().popScene();
             } else if (clicked.equals(Clicked.HOME)) {
@@ -51,6 +48,11 @@ public class SceneAnimationHelper {
             }
         }
 
+        if (clicked.equals(Clicked.BACK) || clicked.equals(Clicked.HOME)) {
+            // The user backed out, so a scene prepared for "Next" won't be shown
+            sketch.getSceneGraph().discardPreparedScene();
+        }
+
         double offsetToUseX = screenW
                 * (1 - ((totalTimeEnding) * 1.0
                 / sceneAnimationMilliseconds + 1));
@@ -59,10 +61,13 @@ public class SceneAnimationHelper {
             offsetY = 0;
             if (sceneAnimationMilliseconds <= totalTimeEnding) {
                 if (clicked.equals(Clicked.NEXT)) {
-                    sketch.getSceneGraph().pushScene(sceneToGoTo, riasecToGoTo, filterToGoTo);
+                    sketch.getSceneGraph().pushScene(buttonToGoTo);
                 } else {
                     sketch.getSceneGraph().pushScene(new CreditsSceneModel());
                 }
+            } else if (clicked.equals(Clicked.NEXT)) {
+                // Build the next scene while this one animates out
+                sketch.getSceneGraph().prepareScene(buttonToGoTo);
             }
         } else if (clicked.equals(Clicked.BACK) && !sketch.isEditor) {
             offsetX = (int) (0 - offsetToUseX);
@@ -143,6 +148,11 @@ public class SceneAnimationHelper {
             }
         }
 
+        if (clicked.equals(Clicked.BACK) || clicked.equals(Clicked.HOME)) {
+            // The user backed out, so a scene prepared for "Next" won't be shown
+            sketch.getSceneGraph().discardPreparedScene();
+        }
+
         double offsetToUseX = screenW
                 * (1 - ((totalTimeEnding) * 1.0
                 / sceneAnimationMilliseconds + 1));
@@ -157,10 +167,13 @@ public class SceneAnimationHelper {
                 } else {
                     sketch.getSceneGraph().pushScene(new CreditsSceneModel());
                 }
+            } else if (clicked.equals(Clicked.NEXT)) {
+                // Build the career's scene while this one animates out
+                sketch.getSceneGraph().prepareEndScene(desiredCareer);
             }
         } else if (clicked.equals(Clicked.BACK) && !sketch.isEditor
                 && sketch.getSceneGraph().getFromHistory(1)
-                .toString().contains("Spoke Graph Prompt")) {
+                .getKind() == SceneKind.SPOKE_GRAPH_PROMPT) {
             final double availableHeight = (screenH - (screenH / 32f) - (screenH / 6f));
             final double size = Math.min(screenW, availableHeight);
             offsetX = (int) (((screenW - size) / 2)
@@ -210,7 +223,7 @@ public class SceneAnimationHelper {
                 typeOfAnimation = 1;
             } else if (sceneAnimationMilliseconds > totalTimeOpening
                     && !sketch.isEditor && sketch.getSceneGraph().getFromHistory(1)
-                    .toString().contains("Spoke Graph Prompt")) {
+                    .getKind() == SceneKind.SPOKE_GRAPH_PROMPT) {
                 offsetX = (int) (screenW + offsetToUseOpeningX);
                 offsetY = 0;
                 headerOffsetX = 0;
@@ -236,9 +249,7 @@ public class SceneAnimationHelper {
      * involves interpolation.
      * @param sketch to draw to
      * @param clicked an enum stating what type of click just occurred
-     * @param sceneToGoTo the scene to travel to, if "Next" was pressed
-     * @param riasecToGoTo the riasec type to travel to, if "Next" was pressed
-     * @param filterToGoTo the filter to use while travelling, if "Next" was pressed
+     * @param buttonToGoTo the button leading to the scene to travel to, if "Next" was pressed
      * @param totalTimeOpening the time currently spent animating the scene in
      * @param totalTimeEnding the time currently spent animating the scene out
      * @param sceneAnimationMilliseconds the duration of scene animations
@@ -251,9 +262,7 @@ public class SceneAnimationHelper {
      */
     public static int[] sceneAnimationLogicSpokeGraphPromptScene(Kiosk sketch,
                                                                  Clicked clicked,
-                                                                 String sceneToGoTo,
-                                                                 Riasec riasecToGoTo,
-                                                                 FilterGroupModel filterToGoTo,
+                                                                 ButtonModel buttonToGoTo,
                                                                  float totalTimeOpening,
                                                                  float totalTimeEnding,
                                                                  int sceneAnimationMilliseconds,
@@ -268,7 +277,7 @@ public class SceneAnimationHelper {
 
         if (sketch.isEditor) {
             if (clicked.equals(Clicked.NEXT)) {
-                sketch.getSceneGraph().pushScene(sceneToGoTo, riasecToGoTo, filterToGoTo);
+                sketch.getSceneGraph().pushScene(buttonToGoTo);
             } else if (clicked.equals(Clicked.BACK)) {
                 sketch.getSceneGraph().popScene();
             } else if (clicked.equals(Clicked.HOME)) {
@@ -278,6 +287,11 @@ public class SceneAnimationHelper {
             }
         }
 
+        if (clicked.equals(Clicked.BACK) || clicked.equals(Clicked.HOME)) {
+            // The user backed out, so a scene prepared for "Next" won't be shown
+            sketch.getSceneGraph().discardPreparedScene();
+        }
+
         double offsetToUseX = screenW
                 * (1 - ((totalTimeEnding) * 1.0
                 / sceneAnimationMilliseconds + 1));
@@ -290,8 +304,8 @@ public class SceneAnimationHelper {
                 sketch.getSceneGraph().pushScene(new CreditsSceneModel());
             }
         } else if ((clicked.equals(Clicked.NEXT)) && !sketch.isEditor
-                && sketch.getSceneGraph().getSceneById(sceneToGoTo)
-                .toString().contains("Career Pathway")) {
+                && sketch.getSceneGraph().getSceneByButton(buttonToGoTo)
+                .getKind() == SceneKind.CAREER_PATHWAY) {
             final double availableHeight = (screenH - headerY - headerH);
             final double size = Math.min(screenW, availableHeight);
             offsetX = (int) (0 - ((screenW - size) / 2)
@@ -301,27 +315,30 @@ public class SceneAnimationHelper {
             otherOffsetX = (int) offsetToUseX;
             typeOfAnimation = 3;
             if (sceneAnimationMilliseconds <= totalTimeEnding) {
-                sketch.getSceneGraph().pushScene(sceneToGoTo, riasecToGoTo, filterToGoTo);
+                sketch.getSceneGraph().pushScene(buttonToGoTo);
+            } else {
+                // Build the next scene while this one animates out
+                sketch.getSceneGraph().prepareScene(buttonToGoTo);
             }
         } else if ((clicked.equals(Clicked.NEXT)) && !sketch.isEditor
-                && !sketch.getSceneGraph().getSceneById(sceneToGoTo)
-                .toString().contains("Spoke Graph Prompt")) {
+                && sketch.getSceneGraph().getSceneByButton(buttonToGoTo)
+                .getKind() != SceneKind.SPOKE_GRAPH_PROMPT) {
             offsetX = 0;
             offsetY = 0;
             otherOffsetX = 0;
             typeOfAnimation = 1;
 
-            sketch.getSceneGraph().pushScene(sceneToGoTo, riasecToGoTo, filterToGoTo);
+            sketch.getSceneGraph().pushScene(buttonToGoTo);
         } else if ((clicked.equals(Clicked.NEXT)) && !sketch.isEditor
-                && sketch.getSceneGraph().getSceneById(sceneToGoTo)
-                .toString().contains("Spoke Graph Prompt")) {
+                && sketch.getSceneGraph().getSceneByButton(buttonToGoTo)
+                .getKind() == SceneKind.SPOKE_GRAPH_PROMPT) {
             offsetX = 0;
             offsetY = 0;
             otherOffsetX = 0;
             typeOfAnimation = 5;
         } else if (clicked.equals(Clicked.BACK) && !sketch.isEditor
-                && !sketch.getSceneGraph().getFromHistory(1)
-                .toString().contains("Spoke Graph Prompt")) {
+                && sketch.getSceneGraph().getFromHistory(1)
+                .getKind() != SceneKind.SPOKE_GRAPH_PROMPT) {
             offsetX = (int) (0 - offsetToUseX);
             offsetY = 0;
             otherOffsetX = 0;
@@ -332,7 +349,7 @@ public class SceneAnimationHelper {
             }
         } else if (clicked.equals(Clicked.BACK) && !sketch.isEditor
                 && sketch.getSceneGraph().getFromHistory(1)
-                .toString().contains("Spoke Graph Prompt")) {
+                .getKind() == SceneKind.SPOKE_GRAPH_PROMPT) {
             offsetX = 0;
             offsetY = 0;
             otherOffsetX = 0;
@@ -363,7 +380,7 @@ public class SceneAnimationHelper {
             double offsetToUseOpeningX = 0 - screenW - offsetToUseOpeningPartialX;
             if (sceneAnimationMilliseconds > totalTimeOpening && !sketch.isEditor
                     && sketch.getSceneGraph().recentScene
-                    .equals(SceneGraph.RecentScene.CAREER_PATHWAY)
+                    .equals(SceneKind.CAREER_PATHWAY)
                     && sketch.getSceneGraph().recentActivity
                     .equals(SceneGraph.RecentActivity.POP)) {
                 offsetX = 0;
@@ -372,7 +389,7 @@ public class SceneAnimationHelper {
                 typeOfAnimation = 3;
             } else if (sceneAnimationMilliseconds > totalTimeOpening && !sketch.isEditor
                     && !sketch.getSceneGraph().recentScene
-                    .equals(SceneGraph.RecentScene.SPOKE_GRAPH_PROMPT)
+                    .equals(SceneKind.SPOKE_GRAPH_PROMPT)
                     && sketch.getSceneGraph().recentActivity
                     .equals(SceneGraph.RecentActivity.POP)) {
                 offsetX = (int) offsetToUseOpeningX;
@@ -381,7 +398,7 @@ public class SceneAnimationHelper {
                 typeOfAnimation = 2;
             } else if (sceneAnimationMilliseconds > totalTimeOpening && !sketch.isEditor
                     && !sketch.getSceneGraph().recentScene
-                    .equals(SceneGraph.RecentScene.SPOKE_GRAPH_PROMPT)) {
+                    .equals(SceneKind.SPOKE_GRAPH_PROMPT)) {
                 offsetX = (int) (screenW + offsetToUseOpeningPartialX);
                 offsetY = 0;
                 otherOffsetX = 0;
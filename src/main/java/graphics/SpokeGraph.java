@@ -15,14 +15,14 @@ public class SpokeGraph {
     private static final float SPOKE_THICKNESS = 2;
     private static final double STARTING_ANGLE = Math.PI / 2;
 
-    private final float centerX;
-    private final float centerY;
+    private float centerX;
+    private float centerY;
 
-    private final double maxButtonRadius;
-    private final double minButtonRadius;
+    private double maxButtonRadius;
+    private double minButtonRadius;
     private final String centerText;
 
-    private final float centerSquareSize;
+    private float centerSquareSize;
 
     private final ButtonControl[] buttonControls;
     private double[] weights;
@@ -54,15 +54,36 @@ public class SpokeGraph {
      * @param x top left corner
      * @param y top right corner
      * @param centerText text of the center wheel
-     * @param buttons to create a spoke graph off of
+     * @param buttons to create a spoke graph off of. They aren't changed, so they can
+     *     be shared with other scenes
      */
     public SpokeGraph(double size, double x, double y, String centerText, ButtonModel[] buttons,
                       double[] weights, int[] centerColor) {
         this.centerText = centerText;
+        this.centerColor = centerColor;
+        this.buttonControls = new ButtonControl[buttons.length];
+        layout(size, x, y, buttons, weights);
+    }
+
+    /**
+     * Move the graph and change the weights of its spokes, e.g. while a scene
+     * animates the spokes growing. The buttons are moved rather than replaced,
+     * so they stay hooked to the sketch.
+     * @param size the square to fit the graph in
+     * @param x top left corner
+     * @param y top right corner
+     * @param weights of each button, in the order they were given
+     */
+    public void setLayout(double size, double x, double y, double[] weights) {
+        layout(size, x, y, null, weights);
+    }
+
+    // Creates the buttons from their models the first time, then moves them
+    private void layout(double size, double x, double y, ButtonModel[] buttons,
+                        double[] weights) {
         this.centerX = (float) (x + size / 2);
         this.centerY = (float) (y + size / 2);
         this.weights = weights;
-        this.centerColor = centerColor;
 
         int amountOfZeros = 0;
         boolean itemHigherThanOne = false;
@@ -91,7 +112,7 @@ public class SpokeGraph {
         this.maxButtonRadius = size / 8.0;
         this.minButtonRadius = maxButtonRadius * MIN_BUTTON_RADIUS_RATIO;
 
-        double angleDelta = (2 * Math.PI) / buttons.length;
+        double angleDelta = (2 * Math.PI) / buttonControls.length;
 
         // The text has to fit inside the largest square possible inside the circle
         // so we're using the Pythagorean theorem to get the sides of the square, and
@@ -101,12 +122,11 @@ public class SpokeGraph {
         // Images must fit inside this circle too
         this.centerSquareSize = (float) Math.sqrt(Math.pow(minButtonRadius * 2, 2) / 2);
 
-        this.buttonControls = new ButtonControl[buttons.length];
-        for (int i = 0; i < buttons.length; i++) {
+        for (int i = 0; i < buttonControls.length; i++) {
             double weight = normalWeights[i];
             float radius = (float) lerp(minButtonRadius, maxButtonRadius, weight) * 5 / 4;
-            if (buttons.length > 5) {
-                radius = radius * ((float) 5 / buttons.length);
+            if (buttonControls.length > 5) {
+                radius = radius * ((float) 5 / buttonControls.length);
                 // todo anyone else know a good way to shrink circles as we add more?
                 //  re-define min and max radii?
             }
@@ -118,18 +138,20 @@ public class SpokeGraph {
             final float buttonY = (float)
                     (centerY + Math.sin(STARTING_ANGLE + angleDelta * i) * (spokeLength + radius));
 
-            // Create the ButtonControl
-            ButtonModel button = buttons[i];
-            button.isCircle = true;
-            button.rgb = lerpColor(rgbColor1, rgbColor2, weight);
-            if (button.image != null) {
-                button.image.width = (int) centerSquareSize;
-                button.image.height = (int) centerSquareSize;
+            if (buttonControls[i] != null) {
+                buttonControls[i].setRgb(lerpColor(rgbColor1, rgbColor2, weight));
+                buttonControls[i].setCircleBounds((int) (buttonX - radius),
+                        (int) (buttonY - radius), (int) radius);
+                continue;
             }
 
-            buttonControls[i] = new ButtonControl(button,
+            // Create the ButtonControl. The graph colors and sizes the control, not the model
+            buttonControls[i] = new ButtonControl(buttons[i],
                     (int) (buttonX - radius), (int) (buttonY - radius),
                     (int) radius);
+            buttonControls[i].setCircle(true);
+            buttonControls[i].setRgb(lerpColor(rgbColor1, rgbColor2, weight));
+            buttonControls[i].setImageSize((int) centerSquareSize, (int) centerSquareSize);
         }
     }
 
@@ -140,7 +162,7 @@ public class SpokeGraph {
     public void setButtonColors(List<int[]> buttons) {
         if (this.buttonControls != null && buttons.size() == this.buttonControls.length) {
             for (int i = 0; i < buttons.size(); i++) {
-                this.buttonControls[i].getModel().rgb = buttons.get(i);
+                this.buttonControls[i].setRgb(buttons.get(i));
             }
         }
     }
@@ -255,7 +277,7 @@ public class SpokeGraph {
             final float radius = (float) lerp(minButtonRadius, maxButtonRadius, weight);
             buttonControls[i].setWidth((int) radius * 2);
             buttonControls[i].setHeight((int) radius * 2);
-            buttonControls[i].getModel().rgb = lerpColor(rgbColor1, rgbColor2, weight);
+            buttonControls[i].setRgb(lerpColor(rgbColor1, rgbColor2, weight));
         }
     }
 
@@ -0,0 +1,120 @@
+package graphics;
+
+import processing.core.PApplet;
+import processing.core.PConstants;
+import processing.core.PImage;
+
+/**
+ * Square sprites of the same size packed into a single image, so drawing
+ * any of them draws a region of the same texture. Sprites can be added as
+ * they are, or mirrored so the mirrored copy doesn't need its own file.
+ */
+public final class SpriteAtlas {
+
+    // Transparent pixels between sprites, so filtering never samples a neighbor
+    private static final int PADDING = 2;
+
+    /**
+     * A region of the atlas holding one sprite.
+     */
+    public static final class Sprite {
+        private final PImage atlas;
+        private final int u;
+        private final int v;
+        private final int size;
+
+        private Sprite(PImage atlas, int u, int v, int size) {
+            this.atlas = atlas;
+            this.u = u;
+            this.v = v;
+            this.size = size;
+        }
+
+        /**
+         * Draws the sprite at (x, y), interpreted by the sketch's image mode.
+         * @param sketch to draw to
+         * @param x location
+         * @param y location
+         */
+        public void draw(PApplet sketch, float x, float y) {
+            sketch.image(atlas, x, y, size, size, u, v, u + size, v + size);
+        }
+    }
+
+    private final PImage atlas;
+    private final int spriteSize;
+    private final int capacity;
+    private final int columns;
+    private int count = 0;
+
+    /**
+     * Create an empty atlas.
+     * @param sketch the atlas belongs to
+     * @param spriteSize width and height of every sprite
+     * @param capacity the number of sprites the atlas can hold
+     */
+    public SpriteAtlas(PApplet sketch, int spriteSize, int capacity) {
+        this.spriteSize = spriteSize;
+        this.capacity = capacity;
+        this.columns = (int) Math.ceil(Math.sqrt(capacity));
+        int rows = (capacity + columns - 1) / columns;
+        int cellSize = spriteSize + PADDING;
+        // New images are fully transparent
+        this.atlas = sketch.createImage(columns * cellSize, rows * cellSize, PConstants.ARGB);
+    }
+
+    /**
+     * Copy an image into the next free region of the atlas.
+     * @param image to copy, the size of a sprite
+     * @return the sprite
+     */
+    public Sprite add(PImage image) {
+        return add(image, false);
+    }
+
+    /**
+     * Copy an image, flipped left to right, into the next free region of the atlas.
+     * @param image to copy, the size of a sprite
+     * @return the mirrored sprite
+     */
+    public Sprite addMirrored(PImage image) {
+        return add(image, true);
+    }
+
+    private Sprite add(PImage image, boolean mirrored) {
+        if (count == capacity) {
+            throw new IllegalStateException("Sprite atlas is full");
+        }
+        if (image.width != spriteSize || image.height != spriteSize) {
+            throw new IllegalArgumentException("Sprites must be " + spriteSize + " pixels square");
+        }
+
+        int u = (count % columns) * (spriteSize + PADDING);
+        int v = (count / columns) * (spriteSize + PADDING);
+        count++;
+
+        image.loadPixels();
+        atlas.loadPixels();
+        // Opaque images don't always store their alpha
+        int opaque = image.format == PConstants.RGB ? 0xFF000000 : 0;
+        for (int y = 0; y < spriteSize; y++) {
+            int source = y * spriteSize;
+            int destination = (v + y) * atlas.width + u;
+            for (int x = 0; x < spriteSize; x++) {
+                int pixel = image.pixels[source + (mirrored ? spriteSize - 1 - x : x)];
+                atlas.pixels[destination + x] = pixel | opaque;
+            }
+        }
+        atlas.updatePixels(u, v, spriteSize, spriteSize);
+
+        return new Sprite(atlas, u, v, spriteSize);
+    }
+
+    public int getSpriteSize() {
+        return spriteSize;
+    }
+
+    public PImage getImage() {
+        return atlas;
+    }
+}
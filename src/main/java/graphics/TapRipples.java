@@ -0,0 +1,105 @@
+package graphics;
+
+import kiosk.Kiosk;
+
+/**
+ * The ripples drawn where the screen was tapped. Ripples are kept in a ring
+ * of primitive arrays with a fixed capacity, so taps and frames never
+ * allocate. Every ripple lives for the same time, so the oldest ripple is
+ * always at the head of the ring; when the ring is full a new tap replaces it.
+ */
+public final class TapRipples {
+
+    public static final float LIFETIME_SECONDS = 0.4f;
+
+    /**
+     * How a ripple is drawn.
+     */
+    public enum Effect {
+        // A single ring pulsing outward
+        RING,
+        // A ring followed by a fainter, trailing ring
+        ECHO,
+        // A ring with dots thrown off its edge
+        SPARKLE
+    }
+
+    private final float[] x;
+    private final float[] y;
+    private final float[] age;
+    private final int[] color;
+    private int head = 0;
+    private int count = 0;
+
+    /**
+     * Create an empty ring.
+     * @param capacity the most ripples shown at once, at least one
+     */
+    public TapRipples(int capacity) {
+        capacity = Math.max(1, capacity);
+        this.x = new float[capacity];
+        this.y = new float[capacity];
+        this.age = new float[capacity];
+        this.color = new int[capacity];
+    }
+
+    /**
+     * Start a ripple, replacing the oldest one if the ring is full.
+     * @param x location of the tap
+     * @param y location of the tap
+     * @param color of the ripple
+     */
+    public void add(float x, float y, int color) {
+        int index;
+        if (count == this.x.length) {
+            index = head;
+            head = (head + 1) % this.x.length;
+        } else {
+            index = (head + count) % this.x.length;
+            count++;
+        }
+        this.x[index] = x;
+        this.y[index] = y;
+        this.age[index] = 0;
+        this.color[index] = color;
+    }
+
+    /**
+     * Age every ripple and drop the ones that have finished.
+     * @param dt seconds since the last update
+     */
+    public void update(float dt) {
+        for (int i = 0; i < count; i++) {
+            age[(head + i) % age.length] += dt;
+        }
+        while (count > 0 && age[head] >= LIFETIME_SECONDS) {
+            head = (head + 1) % age.length;
+            count--;
+        }
+    }
+
+    /**
+     * Draw every ripple, oldest first.
+     * @param sketch to draw to
+     * @param effect to draw the ripples with
+     */
+    public void draw(Kiosk sketch, Effect effect) {
+        for (int i = 0; i < count; i++) {
+            int index = (head + i) % age.length;
+            Graphics.drawTouchResponse(sketch, x[index], y[index],
+                    age[index], color[index], effect);
+        }
+    }
+
+    /**
+     * Get the number of ripples being shown.
+     * @return the number of ripples that haven't finished
+     */
+    public int size() {
+        return count;
+    }
+
+    public int getCapacity() {
+        return age.length;
+    }
+}
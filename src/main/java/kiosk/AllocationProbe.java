@@ -0,0 +1,156 @@
+package kiosk;
+
+import java.lang.management.ManagementFactory;
+import kiosk.models.SceneKind;
+
+/**
+ * Measures how many bytes the animation thread allocates per frame, using
+ * the JVM's per-thread allocation counter, and keeps the totals for each
+ * kind of scene. Garbage made every frame is what the collector eventually
+ * pauses the kiosk to clean up, so this is what to look at when a scene
+ * stutters every few seconds.
+ *
+ * <p>Frames are recorded by the animation thread without locking. Readers,
+ * like the log writer, may see totals that are a frame out of date.
+ */
+public class AllocationProbe {
+
+    // Number of reads used to measure the cost of reading the counter
+    private static final int CALIBRATION_READS = 16;
+
+    private final com.sun.management.ThreadMXBean threads;
+    private final long readOverheadBytes;
+    private long threadId;
+    private long frameStartBytes;
+
+    private final long[] frames = new long[SceneKind.values().length];
+    private final long[] totalBytes = new long[SceneKind.values().length];
+    private final long[] maxBytes = new long[SceneKind.values().length];
+
+    /**
+     * Create a probe. The counter is only available on HotSpot-based JVMs;
+     * elsewhere the probe records nothing.
+     */
+    public AllocationProbe() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        com.sun.management.ThreadMXBean allocationBean = null;
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            allocationBean = (com.sun.management.ThreadMXBean) bean;
+            if (!allocationBean.isThreadAllocatedMemorySupported()) {
+                allocationBean = null;
+            } else if (!allocationBean.isThreadAllocatedMemoryEnabled()) {
+                allocationBean.setThreadAllocatedMemoryEnabled(true);
+            }
+        }
+        this.threads = allocationBean;
+        this.readOverheadBytes = measureReadOverhead();
+    }
+
+    // Reading the counter can allocate, which shouldn't be blamed on the frame
+    private long measureReadOverhead() {
+        if (threads == null) {
+            return 0;
+        }
+        long id = Thread.currentThread().getId();
+        long overhead = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_READS; i++) {
+            long before = threads.getThreadAllocatedBytes(id);
+            long after = threads.getThreadAllocatedBytes(id);
+            overhead = Math.min(overhead, after - before);
+        }
+        return Math.max(0, overhead);
+    }
+
+    public boolean isSupported() {
+        return threads != null;
+    }
+
+    /**
+     * Start measuring a frame. Must be called from the animation thread.
+     */
+    public void beginFrame() {
+        if (threads != null) {
+            threadId = Thread.currentThread().getId();
+            frameStartBytes = threads.getThreadAllocatedBytes(threadId);
+        }
+    }
+
+    /**
+     * Stop measuring a frame and add it to the totals of a kind of scene.
+     * Must be called from the thread that began the frame.
+     * @param kind of the scene shown during the frame
+     * @return the bytes allocated since the frame began
+     */
+    public long endFrame(SceneKind kind) {
+        if (threads == null) {
+            return 0;
+        }
+        long bytes = Math.max(0,
+                threads.getThreadAllocatedBytes(threadId) - frameStartBytes - readOverheadBytes);
+        int index = kind.ordinal();
+        frames[index]++;
+        totalBytes[index] += bytes;
+        if (bytes > maxBytes[index]) {
+            maxBytes[index] = bytes;
+        }
+        return bytes;
+    }
+
+    /**
+     * Get the number of frames recorded for a kind of scene.
+     * @param kind of scene
+     * @return the number of frames
+     */
+    public long getFrameCount(SceneKind kind) {
+        return frames[kind.ordinal()];
+    }
+
+    /**
+     * Get the mean bytes allocated per frame for a kind of scene.
+     * @param kind of scene
+     * @return the mean, or zero if no frames were recorded
+     */
+    public long getMeanBytes(SceneKind kind) {
+        long count = frames[kind.ordinal()];
+        return count == 0 ? 0 : totalBytes[kind.ordinal()] / count;
+    }
+
+    /**
+     * Get the most bytes allocated in one frame for a kind of scene.
+     * @param kind of scene
+     * @return the maximum, or zero if no frames were recorded
+     */
+    public long getMaxBytes(SceneKind kind) {
+        return maxBytes[kind.ordinal()];
+    }
+
+    /**
+     * Forget every recorded frame.
+     */
+    public void reset() {
+        for (int i = 0; i < frames.length; i++) {
+            frames[i] = 0;
+            totalBytes[i] = 0;
+            maxBytes[i] = 0;
+        }
+    }
+
+    /**
+     * Summarize the allocations for the frame log.
+     * @return one line for each kind of scene that was shown
+     */
+    public String getSummary() {
+        if (threads == null) {
+            return String.format("%-12s not supported by this JVM%n", "Allocation");
+        }
+        StringBuilder builder = new StringBuilder();
+        for (SceneKind kind : SceneKind.values()) {
+            if (getFrameCount(kind) > 0) {
+                builder.append(String.format("%-12s %-20s %8.1fKB/frame mean, %8.1fKB max, n=%d%n",
+                        "Allocation", kind, getMeanBytes(kind) / 1024.0,
+                        getMaxBytes(kind) / 1024.0, getFrameCount(kind)));
+            }
+        }
+        return builder.toString();
+    }
+}
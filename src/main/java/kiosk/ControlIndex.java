@@ -0,0 +1,171 @@
+package kiosk;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.List;
+import kiosk.scenes.Control;
+
+/**
+ * The current scene's controls bucketed by where they are on the screen, so
+ * a pointer event only goes to the controls under the pointer instead of to
+ * every control in the scene. The screen is split into a uniform grid of
+ * square cells, and each control is added to every cell its bounds overlap.
+ *
+ * <p>Controls can move, e.g. while a button is dragged, so the index copies
+ * their bounds when they are added and re-buckets the ones that moved when
+ * it is refreshed.
+ *
+ * @param <C> the type of control
+ */
+public class ControlIndex<C extends Control<?, ?>> {
+
+    public static final int DEFAULT_CELL_SIZE = 64;
+
+    private static final class Entry<C> {
+        private final C control;
+        // Controls added later are drawn on top, and get events first
+        private final int order;
+        private int x;
+        private int y;
+        private int width;
+        private int height;
+
+        private Entry(C control, int order) {
+            this.control = control;
+            this.order = order;
+        }
+    }
+
+    private final int cellSize;
+    private final List<Entry<C>> entries = new ArrayList<>();
+    private final List<List<Entry<C>>> cells = new ArrayList<>();
+    private int columns = 0;
+    private int rows = 0;
+    private int nextOrder = 0;
+
+    /**
+     * Create an empty index.
+     * @param cellSize width and height of a grid cell, in pixels
+     */
+    public ControlIndex(int cellSize) {
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Remove every control, and size the grid to cover the screen.
+     * @param width of the screen
+     * @param height of the screen
+     */
+    public void reset(int width, int height) {
+        entries.clear();
+        nextOrder = 0;
+        columns = Math.max(1, (width + cellSize - 1) / cellSize);
+        rows = Math.max(1, (height + cellSize - 1) / cellSize);
+        int cellCount = columns * rows;
+        for (int i = 0; i < cells.size() && i < cellCount; i++) {
+            cells.get(i).clear();
+        }
+        while (cells.size() > cellCount) {
+            cells.remove(cells.size() - 1);
+        }
+        while (cells.size() < cellCount) {
+            cells.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Add a control on top of the controls already added.
+     * @param control with bounds
+     */
+    public void add(C control) {
+        Entry<C> entry = new Entry<>(control, nextOrder++);
+        entries.add(entry);
+        copyBounds(entry, control.getBounds());
+        insert(entry);
+    }
+
+    /**
+     * Re-bucket the controls whose bounds changed since they were added or
+     * last refreshed.
+     */
+    public void refresh() {
+        for (int i = 0; i < entries.size(); i++) {
+            Entry<C> entry = entries.get(i);
+            Rectangle bounds = entry.control.getBounds();
+            if (bounds.x != entry.x || bounds.y != entry.y
+                    || bounds.width != entry.width || bounds.height != entry.height) {
+                removeFromCells(entry);
+                copyBounds(entry, bounds);
+                insert(entry);
+            }
+        }
+    }
+
+    /**
+     * Find the controls whose bounds contain a point.
+     * @param x of the point
+     * @param y of the point
+     * @param hits cleared, then filled with the controls, topmost first
+     */
+    public void findAt(int x, int y, List<? super C> hits) {
+        hits.clear();
+        if (cells.isEmpty()) {
+            return;
+        }
+        List<Entry<C>> cell = cells.get(row(y) * columns + column(x));
+        for (int i = cell.size() - 1; i >= 0; i--) {
+            Entry<C> entry = cell.get(i);
+            if (entry.control.getBounds().contains(x, y)) {
+                hits.add(entry.control);
+            }
+        }
+    }
+
+    /**
+     * Get the number of controls in the index.
+     * @return the number of controls
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private static void copyBounds(Entry<?> entry, Rectangle bounds) {
+        entry.x = bounds.x;
+        entry.y = bounds.y;
+        entry.width = bounds.width;
+        entry.height = bounds.height;
+    }
+
+    private void insert(Entry<C> entry) {
+        for (int row = row(entry.y); row <= row(entry.y + entry.height - 1); row++) {
+            for (int column = column(entry.x); column <= column(entry.x + entry.width - 1);
+                    column++) {
+                // Keep each cell in the order controls were added
+                List<Entry<C>> cell = cells.get(row * columns + column);
+                int index = cell.size();
+                while (index > 0 && cell.get(index - 1).order > entry.order) {
+                    index--;
+                }
+                cell.add(index, entry);
+            }
+        }
+    }
+
+    private void removeFromCells(Entry<C> entry) {
+        for (int row = row(entry.y); row <= row(entry.y + entry.height - 1); row++) {
+            for (int column = column(entry.x); column <= column(entry.x + entry.width - 1);
+                    column++) {
+                cells.get(row * columns + column).remove(entry);
+            }
+        }
+    }
+
+    // Points off the screen fall into the nearest cell on the screen
+    private int column(int x) {
+        return Math.max(0, Math.min(columns - 1, Math.floorDiv(x, cellSize)));
+    }
+
+    private int row(int y) {
+        return Math.max(0, Math.min(rows - 1, Math.floorDiv(y, cellSize)));
+    }
+}
@@ -0,0 +1,306 @@
+package kiosk;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.Duration;
+import java.util.Date;
+import jdk.jfr.Category;
+import jdk.jfr.Configuration;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.Timespan;
+
+/**
+ * Custom Java Flight Recorder events, so a recording taken from a kiosk in
+ * the field shows what it was doing when it stuttered: scene changes, image
+ * decodes, survey and career loads, and frames that took too long. The
+ * recordings open in JDK Mission Control or with the jfr tool.
+ *
+ * <p>The kiosk still runs on JVMs without Flight Recorder. The event
+ * classes are only loaded when it's available, so elsewhere every method
+ * here does nothing.
+ */
+public final class FlightEvents {
+
+    // Frames taking longer than this are recorded
+    public static final long LONG_FRAME_NANOS = 50_000_000;
+    // How much of the continuous recording is kept for a dump
+    private static final Duration MAX_RECORDING_AGE = Duration.ofMinutes(10);
+    private static final long MAX_RECORDING_BYTES = 64 * 1024 * 1024;
+
+    private static final boolean AVAILABLE = isFlightRecorderAvailable();
+    private static Recording recording;
+
+    private FlightEvents() {
+    }
+
+    private static boolean isFlightRecorderAvailable() {
+        try {
+            Class.forName("jdk.jfr.FlightRecorder");
+            return jdk.jfr.FlightRecorder.isAvailable();
+        } catch (ClassNotFoundException | NoClassDefFoundError e) {
+            return false;
+        }
+    }
+
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    /**
+     * Record a scene change.
+     * @param action that changed the scene, e.g. "push"
+     * @param fromId of the scene shown before, or null
+     * @param toId of the scene shown now
+     * @param startNanos when the change started, from System.nanoTime()
+     */
+    public static void sceneChange(String action, String fromId, String toId, long startNanos) {
+        if (AVAILABLE) {
+            SceneChangeEvent.commit(action, fromId, toId, System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Record an image being decoded and resized from disk.
+     * @param path of the image
+     * @param width the image was resized to
+     * @param height the image was resized to
+     * @param startNanos when decoding started, from System.nanoTime()
+     */
+    public static void imageDecode(String path, int width, int height, long startNanos) {
+        if (AVAILABLE) {
+            ImageDecodeEvent.commit(path, width, height, System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Record the survey being read.
+     * @param path of the survey file
+     * @param sceneCount number of scenes read
+     * @param startNanos when reading started, from System.nanoTime()
+     */
+    public static void surveyLoad(String path, int sceneCount, long startNanos) {
+        if (AVAILABLE) {
+            SurveyLoadEvent.commit(path, sceneCount, System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Record the careers being loaded.
+     * @param path of the careers CSV
+     * @param careerCount number of careers loaded
+     * @param startNanos when loading started, from System.nanoTime()
+     */
+    public static void careersLoad(String path, int careerCount, long startNanos) {
+        if (AVAILABLE) {
+            CareersLoadEvent.commit(path, careerCount, System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Record a frame if it took longer than LONG_FRAME_NANOS.
+     * @param sceneId of the scene drawn
+     * @param profiler that timed the frame's phases
+     */
+    public static void frame(String sceneId, FrameProfiler profiler) {
+        if (AVAILABLE && profiler.getLastFrameNanos(FrameProfiler.Phase.TOTAL)
+                > LONG_FRAME_NANOS) {
+            LongFrameEvent.commit(sceneId, profiler);
+        }
+    }
+
+    /**
+     * Start a continuous recording that keeps the last few minutes of events,
+     * using the JDK's low overhead "default" settings.
+     * @return false if Flight Recorder isn't available or the recording couldn't start
+     */
+    public static synchronized boolean startRecording() {
+        if (!AVAILABLE || recording != null) {
+            return recording != null;
+        }
+        try {
+            recording = Recorder.start();
+            return true;
+        } catch (IOException | ParseException e) {
+            System.err.println("Could not start the flight recording: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Write the continuous recording to a file in the working directory.
+     * @return the path written to, or null if nothing is being recorded
+     */
+    public static synchronized Path dumpRecording() {
+        if (recording == null) {
+            return null;
+        }
+        String timestamp = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+        Path path = Paths.get("kiosk-" + timestamp + ".jfr");
+        try {
+            recording.dump(path);
+            return path;
+        } catch (IOException e) {
+            System.err.println("Could not write the flight recording to '" + path + "'");
+            return null;
+        }
+    }
+
+    // Kept apart so the recording classes are only loaded when they're used
+    private static final class Recorder {
+        private static Recording start() throws IOException, ParseException {
+            Recording recording = new Recording(Configuration.getConfiguration("default"));
+            recording.setName("kiosk");
+            recording.setToDisk(true);
+            recording.setMaxAge(MAX_RECORDING_AGE);
+            recording.setMaxSize(MAX_RECORDING_BYTES);
+            recording.start();
+            return recording;
+        }
+    }
+
+    @Name("kiosk.SceneChange")
+    @Label("Scene Change")
+    @Category("Kiosk")
+    @Description("The kiosk moved to another scene")
+    static final class SceneChangeEvent extends Event {
+        @Label("Action")
+        String action;
+        @Label("From")
+        String fromId;
+        @Label("To")
+        String toId;
+        @Label("Change Time")
+        @Timespan
+        long changeTime;
+
+        private static void commit(String action, String fromId, String toId, long nanos) {
+            SceneChangeEvent event = new SceneChangeEvent();
+            if (event.shouldCommit()) {
+                event.action = action;
+                event.fromId = fromId;
+                event.toId = toId;
+                event.changeTime = nanos;
+                event.commit();
+            }
+        }
+    }
+
+    @Name("kiosk.ImageDecode")
+    @Label("Image Decode")
+    @Category("Kiosk")
+    @Description("An image was decoded and resized from disk")
+    static final class ImageDecodeEvent extends Event {
+        @Label("Path")
+        String path;
+        @Label("Width")
+        int width;
+        @Label("Height")
+        int height;
+        @Label("Decode Time")
+        @Timespan
+        long decodeTime;
+
+        private static void commit(String path, int width, int height, long nanos) {
+            ImageDecodeEvent event = new ImageDecodeEvent();
+            if (event.shouldCommit()) {
+                event.path = path;
+                event.width = width;
+                event.height = height;
+                event.decodeTime = nanos;
+                event.commit();
+            }
+        }
+    }
+
+    @Name("kiosk.SurveyLoad")
+    @Label("Survey Load")
+    @Category("Kiosk")
+    @Description("The survey was read from disk")
+    static final class SurveyLoadEvent extends Event {
+        @Label("Path")
+        String path;
+        @Label("Scenes")
+        int sceneCount;
+        @Label("Load Time")
+        @Timespan
+        long loadTime;
+
+        private static void commit(String path, int sceneCount, long nanos) {
+            SurveyLoadEvent event = new SurveyLoadEvent();
+            if (event.shouldCommit()) {
+                event.path = path;
+                event.sceneCount = sceneCount;
+                event.loadTime = nanos;
+                event.commit();
+            }
+        }
+    }
+
+    @Name("kiosk.CareersLoad")
+    @Label("Careers Load")
+    @Category("Kiosk")
+    @Description("The careers were loaded from disk")
+    static final class CareersLoadEvent extends Event {
+        @Label("Path")
+        String path;
+        @Label("Careers")
+        int careerCount;
+        @Label("Load Time")
+        @Timespan
+        long loadTime;
+
+        private static void commit(String path, int careerCount, long nanos) {
+            CareersLoadEvent event = new CareersLoadEvent();
+            if (event.shouldCommit()) {
+                event.path = path;
+                event.careerCount = careerCount;
+                event.loadTime = nanos;
+                event.commit();
+            }
+        }
+    }
+
+    @Name("kiosk.LongFrame")
+    @Label("Long Frame")
+    @Category("Kiosk")
+    @Description("A frame took longer than 50 ms, with the time spent in each phase")
+    static final class LongFrameEvent extends Event {
+        @Label("Scene")
+        String sceneId;
+        @Label("Frame Time")
+        @Timespan
+        long frameTime;
+        @Label("Input")
+        @Timespan
+        long inputTime;
+        @Label("Scene Init")
+        @Timespan
+        long sceneInitTime;
+        @Label("Scene Update")
+        @Timespan
+        long updateTime;
+        @Label("Scene Draw")
+        @Timespan
+        long drawTime;
+
+        private static void commit(String sceneId, FrameProfiler profiler) {
+            LongFrameEvent event = new LongFrameEvent();
+            if (event.shouldCommit()) {
+                event.sceneId = sceneId;
+                event.frameTime = profiler.getLastFrameNanos(FrameProfiler.Phase.TOTAL);
+                event.inputTime = profiler.getLastFrameNanos(FrameProfiler.Phase.INPUT);
+                event.sceneInitTime = profiler.getLastFrameNanos(FrameProfiler.Phase.SCENE_INIT);
+                event.updateTime = profiler.getLastFrameNanos(FrameProfiler.Phase.UPDATE);
+                event.drawTime = profiler.getLastFrameNanos(FrameProfiler.Phase.DRAW);
+                event.commit();
+            }
+        }
+    }
+}
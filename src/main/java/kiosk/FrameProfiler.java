@@ -0,0 +1,298 @@
+package kiosk;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import processing.core.PApplet;
+import processing.core.PConstants;
+import processing.core.PFont;
+
+/**
+ * Records how long each phase of Kiosk.draw() takes over the most recent
+ * frames. Frames are written by the animation thread into a ring buffer
+ * without locking. Readers, like the overlay or the log writer, copy the
+ * buffer and compute percentiles from the copy.
+ */
+public class FrameProfiler {
+
+    public static final String DEFAULT_LOG_PATH = "frame-times.log";
+    // Number of frames the percentiles are computed over
+    public static final int DEFAULT_CAPACITY = 512;
+    // The log starts over once it grows past this size
+    private static final long MAX_LOG_BYTES = 4 * 1024 * 1024;
+    // Recorded for phases that didn't run during a frame, e.g. scene init
+    private static final long NOT_RUN = -1;
+
+    /**
+     * The phases of a single frame, in the order they run.
+     */
+    public enum Phase {
+        INPUT("Input"),
+        SCENE_INIT("Scene init"),
+        UPDATE("Scene update"),
+        BACKGROUND("Background"),
+        DRAW("Scene draw"),
+        BOOP("Boop"),
+        TAP_RIPPLES("Tap ripples"),
+        TOTAL("Total");
+
+        public final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+    }
+
+    /**
+     * Percentiles of one phase over the frames in the ring buffer.
+     * All times are in nanoseconds.
+     */
+    public static class PhaseStats {
+        public final Phase phase;
+        public final int count;
+        public final long p50;
+        public final long p95;
+        public final long p99;
+        public final long max;
+
+        private PhaseStats(Phase phase, long[] sorted) {
+            this.phase = phase;
+            this.count = sorted.length;
+            this.p50 = percentile(sorted, 0.50);
+            this.p95 = percentile(sorted, 0.95);
+            this.p99 = percentile(sorted, 0.99);
+            this.max = sorted.length == 0 ? 0 : sorted[sorted.length - 1];
+        }
+
+        private static long percentile(long[] sorted, double fraction) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(fraction * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-12s p50=%6.2fms p95=%6.2fms p99=%6.2fms max=%6.2fms n=%d",
+                    phase.label, p50 / 1e6, p95 / 1e6, p99 / 1e6, max / 1e6, count);
+        }
+    }
+
+    private final int capacity;
+    // samples[phase][frame % capacity]
+    private final long[][] samples;
+    // Number of completed frames. Written only by the animation thread,
+    // after that frame's samples, which publishes them to readers
+    private final AtomicLong frames = new AtomicLong();
+
+    private long frameStartNanos;
+    private long phaseStartNanos;
+    private final long[] current;
+
+    private ScheduledExecutorService logWriter;
+    // Written to the log after the summary, e.g. the frame rate governor's tiers
+    private final List<Supplier<String>> logSections = new CopyOnWriteArrayList<>();
+    private PFont overlayFont;
+
+    public FrameProfiler() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create a profiler that keeps the most recent frames.
+     * @param capacity number of frames to compute percentiles over
+     */
+    public FrameProfiler(int capacity) {
+        this.capacity = capacity;
+        this.samples = new long[Phase.values().length][capacity];
+        this.current = new long[Phase.values().length];
+    }
+
+    /**
+     * Start timing a new frame. Must be called from the animation thread.
+     */
+    public void beginFrame() {
+        Arrays.fill(current, NOT_RUN);
+        frameStartNanos = System.nanoTime();
+        phaseStartNanos = frameStartNanos;
+    }
+
+    /**
+     * Mark the time since the last mark (or the start of the frame) as
+     * spent in the phase provided. Must be called from the animation thread.
+     * @param phase that just finished
+     */
+    public void mark(Phase phase) {
+        long now = System.nanoTime();
+        current[phase.ordinal()] = now - phaseStartNanos;
+        phaseStartNanos = now;
+    }
+
+    /**
+     * Skip the time since the last mark, so it isn't counted toward the next phase.
+     */
+    public void skip() {
+        phaseStartNanos = System.nanoTime();
+    }
+
+    /**
+     * Finish the frame and publish its timings. Must be called from the animation thread.
+     */
+    public void endFrame() {
+        current[Phase.TOTAL.ordinal()] = System.nanoTime() - frameStartNanos;
+
+        long frame = frames.get();
+        int slot = (int) (frame % capacity);
+        for (int i = 0; i < current.length; i++) {
+            samples[i][slot] = current[i];
+        }
+        frames.lazySet(frame + 1);
+    }
+
+    public long getFrameCount() {
+        return frames.get();
+    }
+
+    /**
+     * Get how long a phase took in the most recent frame. Must be called
+     * from the animation thread, after endFrame().
+     * @param phase to get the time of
+     * @return the time in nanoseconds, or zero if the phase didn't run
+     */
+    public long getLastFrameNanos(Phase phase) {
+        return Math.max(0, current[phase.ordinal()]);
+    }
+
+    /**
+     * Compute the percentiles of a phase over the most recent frames.
+     * Safe to call from any thread.
+     * @param phase to compute percentiles for
+     * @return the percentiles
+     */
+    public PhaseStats getStats(Phase phase) {
+        int count = (int) Math.min(frames.get(), capacity);
+        long[] copy = new long[count];
+        int length = 0;
+        long[] phaseSamples = samples[phase.ordinal()];
+        for (int i = 0; i < count; i++) {
+            long sample = phaseSamples[i];
+            if (sample != NOT_RUN) {
+                copy[length++] = sample;
+            }
+        }
+
+        long[] sorted = Arrays.copyOf(copy, length);
+        Arrays.sort(sorted);
+        return new PhaseStats(phase, sorted);
+    }
+
+    /**
+     * Compute the percentiles of every phase.
+     * @return a summary with one line per phase
+     */
+    public String getSummary() {
+        StringBuilder builder = new StringBuilder();
+        for (Phase phase : Phase.values()) {
+            builder.append(getStats(phase)).append('\n');
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Draws the percentiles of every phase in the top right corner of the sketch.
+     * @param sketch to draw to
+     */
+    public void drawOverlay(PApplet sketch) {
+        String summary = getSummary();
+        int lines = Phase.values().length;
+        float lineHeight = 14;
+        float w = 460;
+        float h = lines * lineHeight + 10;
+        float x = sketch.width - w - 10;
+        float y = 10;
+
+        sketch.pushStyle();
+        sketch.rectMode(PConstants.CORNER);
+        sketch.noStroke();
+        sketch.fill(0, 0, 0, 180);
+        sketch.rect(x, y, w, h);
+        sketch.fill(255);
+        if (overlayFont == null) {
+            overlayFont = sketch.createFont("Monospaced", 12);
+        }
+        sketch.textFont(overlayFont);
+        sketch.textAlign(PConstants.LEFT, PConstants.TOP);
+        sketch.text(summary, x + 5, y + 5);
+        sketch.popStyle();
+    }
+
+    /**
+     * Append the summary to a log file every so often, on a background thread.
+     * Calling this again replaces the previous schedule.
+     * @param path of the log file
+     * @param periodSeconds between writes. Zero or less disables logging
+     */
+    public synchronized void startLogging(String path, int periodSeconds) {
+        stopLogging();
+        if (periodSeconds <= 0) {
+            return;
+        }
+
+        logWriter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "frame-profiler-log");
+            thread.setDaemon(true);
+            return thread;
+        });
+        logWriter.scheduleAtFixedRate(() -> writeLog(path),
+                periodSeconds, periodSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stop writing the summary to the log file.
+     */
+    public synchronized void stopLogging() {
+        if (logWriter != null) {
+            logWriter.shutdownNow();
+            logWriter = null;
+        }
+    }
+
+    /**
+     * Add a section to the log, written after the summary. The section is
+     * built on the log writer's thread.
+     * @param section builds the text of the section
+     */
+    public void addLogSection(Supplier<String> section) {
+        logSections.add(section);
+    }
+
+    private void writeLog(String path) {
+        if (frames.get() == 0) {
+            return;
+        }
+
+        String timestamp = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(new Date());
+        boolean append = new File(path).length() < MAX_LOG_BYTES;
+        try (PrintWriter writer = new PrintWriter(new FileWriter(path, append))) {
+            writer.println("[" + timestamp + "] frames=" + frames.get());
+            writer.print(getSummary());
+            for (Supplier<String> section : logSections) {
+                writer.print(section.get());
+            }
+        } catch (IOException exception) {
+            System.err.println("Could not write frame times to '" + path + "'");
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package kiosk;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Lowers the frame rate in stages while nobody is using the kiosk, so it
+ * doesn't spend the night drawing the background at full speed. The first
+ * touch or click goes straight back to the full frame rate, and scene
+ * animations always run at the full frame rate, even when the scene changes
+ * without input, like when the kiosk times out.
+ *
+ * <p>Input is recorded by whichever thread delivers it, e.g. the JavaFX
+ * thread for touches, so every method locks the governor.
+ */
+public class FrameRateGovernor {
+
+    public static final int FULL_FRAME_RATE = 60;
+    // Anything slower makes Boop and the background stutter
+    public static final int MIN_FRAME_RATE = 10;
+
+    /**
+     * The frame rates the kiosk steps through as it sits idle.
+     */
+    public enum Tier {
+        FULL("Full"),
+        IDLE("Idle"),
+        SLEEP("Sleep");
+
+        public final String label;
+
+        Tier(String label) {
+            this.label = label;
+        }
+    }
+
+    private final IntConsumer frameRateSetter;
+    private final long idleNanos;
+    private final long sleepNanos;
+    private final int idleFrameRate;
+    private final int sleepFrameRate;
+    private final long animationNanos;
+
+    // Guarded by this
+    private Tier tier = Tier.FULL;
+    private final long[] tierNanos = new long[Tier.values().length];
+    private long lastUpdateNanos;
+    private long lastInputNanos;
+    private long fullRateUntilNanos;
+
+    /**
+     * Create a governor using the idle thresholds and frame rates in the settings.
+     * @param settings to read the thresholds from
+     * @param frameRateSetter changes the frame rate of the sketch
+     * @param nowNanos the current time, from System.nanoTime()
+     */
+    public FrameRateGovernor(Settings settings, IntConsumer frameRateSetter, long nowNanos) {
+        this.frameRateSetter = frameRateSetter;
+        this.idleNanos = settings.idleFrameRateSeconds * 1000000000L;
+        this.sleepNanos = settings.sleepFrameRateSeconds * 1000000000L;
+        this.idleFrameRate = clampFrameRate(settings.idleFrameRate);
+        this.sleepFrameRate = clampFrameRate(settings.sleepFrameRate);
+        // Leave some slack, scene animations are timed by the frame deltas
+        this.animationNanos = settings.sceneAnimationMilliseconds * 2 * 1000000L;
+        this.lastUpdateNanos = nowNanos;
+        this.lastInputNanos = nowNanos;
+    }
+
+    private static int clampFrameRate(int frameRate) {
+        return Math.max(MIN_FRAME_RATE, Math.min(FULL_FRAME_RATE, frameRate));
+    }
+
+    /**
+     * Record a touch or click, and go back to the full frame rate right away
+     * instead of waiting for the next slow frame. Safe to call from the
+     * thread that delivers the input.
+     * @param nowNanos the current time, from System.nanoTime()
+     */
+    public synchronized void onInput(long nowNanos) {
+        lastInputNanos = nowNanos;
+        if (tier != Tier.FULL) {
+            changeTier(Tier.FULL, nowNanos);
+        }
+    }
+
+    /**
+     * Keep the full frame rate while a new scene animates in.
+     * @param nowNanos the current time, from System.nanoTime()
+     */
+    public synchronized void onSceneChange(long nowNanos) {
+        fullRateUntilNanos = nowNanos + animationNanos;
+        if (tier != Tier.FULL) {
+            changeTier(Tier.FULL, nowNanos);
+        }
+    }
+
+    /**
+     * Account for the time since the last frame and change the frame rate
+     * if the kiosk has been idle long enough. Called once per frame.
+     * @param nowNanos the current time, from System.nanoTime()
+     */
+    public synchronized void update(long nowNanos) {
+        Tier next;
+        long idle = nowNanos - lastInputNanos;
+        if (nowNanos < fullRateUntilNanos || idle < idleNanos) {
+            next = Tier.FULL;
+        } else if (idle < sleepNanos) {
+            next = Tier.IDLE;
+        } else {
+            next = Tier.SLEEP;
+        }
+
+        if (next != tier) {
+            changeTier(next, nowNanos);
+        } else {
+            account(nowNanos);
+        }
+    }
+
+    private void changeTier(Tier next, long nowNanos) {
+        account(nowNanos);
+        tier = next;
+        frameRateSetter.accept(getFrameRate(next));
+    }
+
+    private void account(long nowNanos) {
+        tierNanos[tier.ordinal()] += nowNanos - lastUpdateNanos;
+        lastUpdateNanos = nowNanos;
+    }
+
+    /**
+     * Get the frame rate of a tier.
+     * @param tier to get the frame rate of
+     * @return frames per second
+     */
+    public int getFrameRate(Tier tier) {
+        switch (tier) {
+            case IDLE:
+                return idleFrameRate;
+            case SLEEP:
+                return sleepFrameRate;
+            default:
+                return FULL_FRAME_RATE;
+        }
+    }
+
+    public synchronized Tier getTier() {
+        return tier;
+    }
+
+    /**
+     * Get the time spent in a tier, up to the last frame.
+     * @param tier to get the time of
+     * @return nanoseconds spent in the tier
+     */
+    public synchronized long getTimeInTier(Tier tier) {
+        return tierNanos[tier.ordinal()];
+    }
+
+    /**
+     * Summarize the time spent in each tier.
+     * @return one line per tier
+     */
+    public synchronized String getSummary() {
+        StringBuilder builder = new StringBuilder();
+        for (Tier t : Tier.values()) {
+            builder.append(String.format("%-12s %3dfps %10.1fs%n",
+                    t.label, getFrameRate(t), tierNanos[t.ordinal()] / 1e9));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,165 @@
+package kiosk;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import kiosk.models.SceneModel;
+
+/**
+ * Watches for frames that take far too long, e.g. while a large image is
+ * decoded or a survey is reloaded on the animation thread. The sketch beats
+ * a heartbeat at the end of every frame, and a background thread checks
+ * how long ago the last beat was. When a frame stalls, the watchdog writes
+ * the animation thread's stack, the current scene and the recent history to
+ * a log, while the frame carries on. Once the frame finishes, the length of
+ * the stall is added to the log.
+ *
+ * <p>The log is moved to a backup file once it grows too large, so at most
+ * two files' worth of stalls are kept.
+ */
+public class FrameWatchdog {
+
+    public static final String DEFAULT_LOG_PATH = "frame-stalls.log";
+    private static final long MAX_LOG_BYTES = 1024 * 1024;
+    private static final String BACKUP_EXTENSION = ".1";
+    // Number of scenes of the history written with each stall
+    private static final int HISTORY_LENGTH = 8;
+
+    private final String path;
+    private final long thresholdNanos;
+    private final SceneGraph sceneGraph;
+    private final BooleanSupplier isRunning;
+    private ScheduledExecutorService checker;
+
+    // Written by the animation thread at the end of each frame
+    private volatile long lastBeatNanos;
+    private volatile Thread sketchThread;
+    // Only used by the checker's thread
+    private long stalledBeatNanos = -1;
+
+    /**
+     * Create a watchdog. Nothing is watched until it's started.
+     * @param path of the log file
+     * @param thresholdMillis frames taking longer than this are logged
+     * @param sceneGraph whose current scene and history are logged
+     * @param isRunning false while the sketch is deliberately not drawing frames
+     */
+    public FrameWatchdog(String path, long thresholdMillis, SceneGraph sceneGraph,
+                         BooleanSupplier isRunning) {
+        this.path = path;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.sceneGraph = sceneGraph;
+        this.isRunning = isRunning;
+    }
+
+    /**
+     * Mark the end of a frame. Must be called from the animation thread.
+     */
+    public void heartbeat() {
+        if (sketchThread == null) {
+            sketchThread = Thread.currentThread();
+        }
+        lastBeatNanos = System.nanoTime();
+    }
+
+    /**
+     * Start checking the heartbeat on a background thread, a few times per threshold.
+     */
+    public synchronized void start() {
+        stop();
+        checker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "frame-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long periodNanos = Math.max(1, thresholdNanos / 4);
+        checker.scheduleAtFixedRate(() -> check(System.nanoTime()),
+                periodNanos, periodNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Stop checking the heartbeat.
+     */
+    public synchronized void stop() {
+        if (checker != null) {
+            checker.shutdownNow();
+            checker = null;
+        }
+    }
+
+    /**
+     * Check whether the current frame has stalled, and log it if it has just
+     * started or stopped stalling. Called by the background thread.
+     * @param nowNanos the current time, from System.nanoTime()
+     */
+    void check(long nowNanos) {
+        Thread thread = sketchThread;
+        long beat = lastBeatNanos;
+        if (thread == null) {
+            return;
+        }
+
+        if (stalledBeatNanos != -1 && beat != stalledBeatNanos) {
+            // The stalled frame finished
+            write(String.format("Frame stall ended after %dms%n",
+                    TimeUnit.NANOSECONDS.toMillis(beat - stalledBeatNanos)));
+            stalledBeatNanos = -1;
+        } else if (stalledBeatNanos == -1 && nowNanos - beat > thresholdNanos
+                && isRunning.getAsBoolean()) {
+            stalledBeatNanos = beat;
+            write(describeStall(thread, nowNanos - beat));
+        }
+    }
+
+    private String describeStall(Thread thread, long stalledNanos) {
+        StringBuilder builder = new StringBuilder();
+        String timestamp = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(new Date());
+        builder.append(String.format("[%s] Frame stalled for over %dms%n",
+                timestamp, TimeUnit.NANOSECONDS.toMillis(stalledNanos)));
+
+        List<SceneModel> history = sceneGraph.getHistory();
+        builder.append("Scene: ")
+                .append(history.isEmpty() ? "none" : describe(history.get(0)))
+                .append(System.lineSeparator());
+        builder.append("History:");
+        for (int i = 1; i < history.size() && i <= HISTORY_LENGTH; i++) {
+            builder.append(' ').append(describe(history.get(i)));
+        }
+        builder.append(System.lineSeparator());
+
+        // Only reads the stack, the thread keeps running
+        builder.append("Stack of ").append(thread.getName()).append(':')
+                .append(System.lineSeparator());
+        for (StackTraceElement element : thread.getStackTrace()) {
+            builder.append("    at ").append(element).append(System.lineSeparator());
+        }
+        return builder.toString();
+    }
+
+    private static String describe(SceneModel model) {
+        return model.getId() + " (" + model.getKind() + ")";
+    }
+
+    private void write(String text) {
+        File file = new File(path);
+        if (file.length() > MAX_LOG_BYTES) {
+            File backup = new File(path + BACKUP_EXTENSION);
+            if (backup.exists() && !backup.delete() || !file.renameTo(backup)) {
+                System.err.println("Could not rotate the frame stall log '" + path + "'");
+            }
+        }
+        try (PrintWriter writer = new PrintWriter(new FileWriter(file, true))) {
+            writer.print(text);
+        } catch (IOException exception) {
+            System.err.println("Could not write a frame stall to '" + path + "'");
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package kiosk;
+
+import graphics.Graphics;
+import java.util.function.Consumer;
+import kiosk.models.SceneModel;
+import kiosk.scenes.Scene;
+import processing.awt.PGraphicsJava2D;
+import processing.core.PImage;
+
+/**
+ * Renders scenes and controls to an offscreen buffer instead of a window, so
+ * drawing code can be benchmarked and compared against golden images on a
+ * machine without a display. Frames are driven by a fake clock: every frame
+ * advances the frame count by one and passes the same time delta to the
+ * scene, so the same frame looks the same on every run.
+ *
+ * <p>Only the scene is drawn. The bubble background, Boop and the tap
+ * ripples Kiosk.draw() adds on top are left out.
+ */
+public class HeadlessRenderer {
+
+    public static final int DEFAULT_FRAME_RATE = 60;
+
+    // Graphics.loadFonts() can only be called once per JVM
+    private static boolean fontsLoaded = false;
+
+    private final Kiosk sketch;
+    private final float frameSeconds;
+    private long frames = 0;
+
+    /**
+     * Create a renderer at the default frame rate.
+     * @param width of the buffer, used as the screen width
+     * @param height of the buffer, used as the screen height
+     */
+    public HeadlessRenderer(int width, int height) {
+        this(width, height, DEFAULT_FRAME_RATE);
+    }
+
+    /**
+     * Create a renderer. Creating it replaces the kiosk's settings, which
+     * scenes read when they are created.
+     * @param width of the buffer, used as the screen width
+     * @param height of the buffer, used as the screen height
+     * @param frameRate the fake clock runs at, in frames per second
+     */
+    public HeadlessRenderer(int width, int height, int frameRate) {
+        System.setProperty("java.awt.headless", "true");
+        Settings settings = new Settings();
+        sketch = new Kiosk("", settings, true);
+        // The kiosk resets the screen size to the default
+        settings.screenW = width;
+        settings.screenH = height;
+        sketch.width = width;
+        sketch.height = height;
+
+        PGraphicsJava2D graphics = new PGraphicsJava2D();
+        graphics.setParent(sketch);
+        graphics.setPrimary(false);
+        graphics.setSize(width, height);
+        sketch.g = graphics;
+        // Images are loaded relative to the sketch path, normally set when the sketch runs
+        sketch.sketchPath();
+
+        this.frameSeconds = 1f / frameRate;
+        loadFonts();
+    }
+
+    private static synchronized void loadFonts() {
+        if (!fontsLoaded) {
+            Graphics.loadFonts();
+            fontsLoaded = true;
+        }
+    }
+
+    public Kiosk getSketch() {
+        return sketch;
+    }
+
+    /**
+     * Get the number of frames drawn so far.
+     * @return the fake clock's frame count
+     */
+    public long getFrameCount() {
+        return frames;
+    }
+
+    /**
+     * Create a scene from a model and initialize it, as the kiosk does when
+     * the scene is shown.
+     * @param model to create the scene from
+     * @return the initialized scene
+     */
+    public Scene startScene(SceneModel model) {
+        Scene scene = model.createScene();
+        sketch.g.beginDraw();
+        sketch.clearEventListeners();
+        scene.init(sketch);
+        sketch.g.endDraw();
+        return scene;
+    }
+
+    /**
+     * Update and draw a scene for one frame.
+     * @param scene to draw, already started
+     */
+    public void drawFrame(Scene scene) {
+        drawFrame(s -> {
+            scene.update(frameSeconds, s.getSceneGraph());
+            scene.draw(s);
+        });
+    }
+
+    /**
+     * Draw one frame of anything that draws to the sketch, like a control.
+     * @param content draws the frame
+     */
+    public void drawFrame(Consumer<Kiosk> content) {
+        frames++;
+        sketch.frameCount = (int) frames;
+        sketch.g.beginDraw();
+        sketch.background(0);
+        content.accept(sketch);
+        sketch.g.endDraw();
+    }
+
+    /**
+     * Start a scene and draw it for a number of frames.
+     * @param model to create the scene from
+     * @param frameCount number of frames to draw
+     * @return the last frame
+     */
+    public PImage renderScene(SceneModel model, int frameCount) {
+        Scene scene = startScene(model);
+        for (int i = 0; i < frameCount; i++) {
+            drawFrame(scene);
+        }
+        return getFrame();
+    }
+
+    /**
+     * Copy the most recently drawn frame.
+     * @return a copy of the buffer
+     */
+    public PImage getFrame() {
+        sketch.g.loadPixels();
+        return sketch.g.get();
+    }
+
+    /**
+     * Count the pixels that differ between two images by more than the
+     * tolerance in any channel. Images of different sizes differ everywhere.
+     * @param expected image, e.g. a golden image
+     * @param actual image, e.g. a frame
+     * @param tolerance the largest difference per channel, from 0 to 255
+     * @return the number of pixels that differ
+     */
+    public static int countDifferentPixels(PImage expected, PImage actual, int tolerance) {
+        if (expected.width != actual.width || expected.height != actual.height) {
+            return Math.max(expected.width * expected.height, actual.width * actual.height);
+        }
+
+        expected.loadPixels();
+        actual.loadPixels();
+        int different = 0;
+        for (int i = 0; i < expected.pixels.length; i++) {
+            int a = expected.pixels[i];
+            int b = actual.pixels[i];
+            for (int shift = 0; shift < 32; shift += 8) {
+                if (Math.abs((a >>> shift & 0xFF) - (b >>> shift & 0xFF)) > tolerance) {
+                    different++;
+                    break;
+                }
+            }
+        }
+        return different;
+    }
+}
@@ -0,0 +1,181 @@
+package kiosk;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * A bounded queue of input events, posted by the JavaFX thread and handled
+ * by the sketch once per frame. There is exactly one producer and one
+ * consumer, so the queue needs no locks: each side only ever advances its
+ * own end of the ring and publishes it with an ordered write.
+ *
+ * <p>When the queue is full, new events that can be dropped, like pointer
+ * moves, are dropped and counted; a later move or the release carries the
+ * newer position anyway. Every other event, like a release, goes to an
+ * unbounded overflow instead, which is handled after the ring, so presses
+ * and releases are never lost and always arrive in order. The consumer also
+ * records how deep the queue got and how long events waited before they
+ * were handled.
+ * @param <T> the type of event
+ */
+public class InputQueue<T> {
+
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private final Object[] events;
+    private final long[] postedNanos;
+    private final int mask;
+    private final Predicate<? super T> droppable;
+    // Events that can't be dropped, posted while the ring was full. Later
+    // events follow them until the consumer empties it, so it's always newer
+    // than the ring
+    private final ConcurrentLinkedQueue<Overflowed<T>> overflow = new ConcurrentLinkedQueue<>();
+    // Index of the next event to handle, only advanced by the consumer
+    private final AtomicLong head = new AtomicLong();
+    // Index of the next free slot, only advanced by the producer
+    private final AtomicLong tail = new AtomicLong();
+
+    // Each counter has one writer, and is read by the frame log's thread
+    private volatile long dropped = 0;
+    private volatile long overflowed = 0;
+    private volatile long handled = 0;
+    private volatile int maxDepth = 0;
+    private volatile long totalLatencyNanos = 0;
+    private volatile long maxLatencyNanos = 0;
+
+    private static final class Overflowed<T> {
+        private final T event;
+        private final long postedNanos;
+
+        private Overflowed(T event, long postedNanos) {
+            this.event = event;
+            this.postedNanos = postedNanos;
+        }
+    }
+
+    /**
+     * Create an empty queue.
+     * @param capacity the most events in the ring at once, rounded up to a power of two
+     * @param droppable true for the events that may be dropped when the ring is full
+     */
+    public InputQueue(int capacity, Predicate<? super T> droppable) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.events = new Object[size];
+        this.postedNanos = new long[size];
+        this.mask = size - 1;
+        this.droppable = droppable;
+    }
+
+    /**
+     * Add an event to the queue. Must only be called from the producer thread.
+     * @param event to add
+     * @param nowNanos the time the event arrived, from System.nanoTime()
+     * @return false if the queue was full and the event was dropped
+     */
+    public boolean offer(T event, long nowNanos) {
+        long t = tail.get();
+        if (t - head.get() == events.length || !overflow.isEmpty()) {
+            if (droppable.test(event)) {
+                dropped++;
+                return false;
+            }
+            overflow.add(new Overflowed<>(event, nowNanos));
+            overflowed++;
+            return true;
+        }
+        int slot = (int) t & mask;
+        events[slot] = event;
+        postedNanos[slot] = nowNanos;
+        tail.lazySet(t + 1);
+        return true;
+    }
+
+    /**
+     * Handle every event in the queue, oldest first. Must only be called from
+     * the consumer thread. Events posted while draining are left for the next call.
+     * @param handler called with each event
+     * @param nowNanos the time the events are handled, from System.nanoTime()
+     * @return the number of events handled
+     */
+    @SuppressWarnings("unchecked")
+    public int drain(Consumer<T> handler, long nowNanos) {
+        long h = head.get();
+        long t = tail.get();
+        int overflowDepth = overflow.size();
+        int depth = (int) (t - h) + overflowDepth;
+        if (depth > maxDepth) {
+            maxDepth = depth;
+        }
+
+        for (; h < t; h++) {
+            int slot = (int) h & mask;
+            T event = (T) events[slot];
+            long latency = nowNanos - postedNanos[slot];
+            events[slot] = null;
+            head.lazySet(h + 1);
+            handle(handler, event, latency);
+        }
+
+        // Events only go to the ring again once the overflow is empty, so the
+        // overflow is only older than the ring once the ring has been emptied
+        if (h == tail.get()) {
+            for (int i = 0; i < overflowDepth; i++) {
+                Overflowed<T> overflowed = overflow.poll();
+                handle(handler, overflowed.event, nowNanos - overflowed.postedNanos);
+            }
+        }
+        return depth;
+    }
+
+    private void handle(Consumer<T> handler, T event, long latency) {
+        totalLatencyNanos += latency;
+        if (latency > maxLatencyNanos) {
+            maxLatencyNanos = latency;
+        }
+        handled++;
+        handler.accept(event);
+    }
+
+    /**
+     * Get the number of events waiting to be handled.
+     * @return the current depth of the queue
+     */
+    public int size() {
+        return (int) (tail.get() - head.get()) + overflow.size();
+    }
+
+    public int getCapacity() {
+        return events.length;
+    }
+
+    public long getDropped() {
+        return dropped;
+    }
+
+    public long getOverflowed() {
+        return overflowed;
+    }
+
+    public long getHandled() {
+        return handled;
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Summarize the counters for the frame log.
+     * @return one line each for the events and their latency
+     */
+    public String getSummary() {
+        long count = handled;
+        double meanMillis = count == 0 ? 0 : totalLatencyNanos / 1e6 / count;
+        return String.format("%-12s %d handled, %d dropped, %d overflowed, max depth %d of %d%n"
+                        + "%-12s %.2fms mean, %.2fms max%n",
+                "Input queue", count, dropped, overflowed, maxDepth, events.length,
+                "Input lag", meanMillis, maxLatencyNanos / 1e6);
+    }
+}
@@ -1,12 +1,17 @@
 package kiosk;
 
+import editor.Editor;
 import graphics.Boop;
 import graphics.Color;
 import graphics.Graphics;
+import graphics.TapRipples;
 import java.awt.Component;
 import java.awt.HeadlessException;
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.function.Consumer;
 import javax.swing.JDialog;
 import javax.swing.JFileChooser;
 import javax.swing.UIManager;
@@ -18,6 +23,8 @@ import javafx.scene.input.TouchPoint;
 import javafx.stage.Stage;
 import kiosk.models.*;
 import kiosk.scenes.Control;
+import kiosk.scenes.ImageCache;
+import kiosk.scenes.ImagePreloader;
 import kiosk.scenes.Scene;
 import kiosk.scenes.TimeoutScene;
 import processing.core.PApplet;
@@ -33,12 +40,26 @@ public class Kiosk extends PApplet {
     private Scene lastScene;
     private SceneModel lastSceneModel;
     private boolean currentSceneIsRoot = false;
-    private final Map<InputEvent, LinkedList<EventListener<MouseEvent>>> mouseListeners;
-    private final Map<TouchScreenEvent, LinkedList<EventListener<TouchEvent>>> touchListeners;
+    // The current scene's listeners, dropped whenever the scene changes
+    private final ListenerRegistry listeners = new ListenerRegistry();
+    private final ArrayList<Control<MouseEvent, TouchEvent>> pressedControls = new ArrayList<>();
+    private final ArrayList<Control<MouseEvent, TouchEvent>> routedControls = new ArrayList<>();
+    // Mouse and touch events from the JavaFX thread, handled at the start of each frame
+    private final InputQueue<Object> inputQueue =
+            new InputQueue<>(InputQueue.DEFAULT_CAPACITY, Kiosk::isDroppableInput);
+    private final Consumer<Object> inputHandler = this::handleQueuedInput;
     private TouchPoint touchPoint;
     private long lastNanos = 0;
     protected static Settings settings;
     private Boop boop;
+    private ImagePreloader imagePreloader;
+    private final FrameProfiler frameProfiler = new FrameProfiler();
+    private final AllocationProbe allocationProbe = new AllocationProbe();
+    private final SessionCounter sessions = new SessionCounter();
+    private MetricsServer metricsServer;
+    private FrameWatchdog frameWatchdog;
+    private boolean showFrameTimes = false;
+    private FrameRateGovernor frameRateGovernor;
     private long newSceneMillis;
     private boolean timeoutActive = false;
     private boolean hotkeysEnabled = true;
@@ -47,9 +68,7 @@ public class Kiosk extends PApplet {
     private boolean isFullScreen = false;
     private boolean fontsLoaded = false;
     private boolean boopTouched = false;
-    private ArrayList<Float> recentTapTimes;
-    private ArrayList<MouseEvent> recentTapEvents;
-    private ArrayList<Integer> recentTapColors;
+    private TapRipples tapRipples;
 
     private static JFileChooser fileChooser;
 
@@ -87,19 +106,23 @@ public class Kiosk extends PApplet {
             }
         };
 
-        // Only allow xml files
-        fileChooser.setFileFilter(
-                new FileNameExtensionFilter("XML file (*.xml)", "xml"));
+        // Only allow survey files
+        fileChooser.setFileFilter(new FileNameExtensionFilter(
+                "Survey file (*.xml, *.survey)", "xml", "survey"));
         fileChooser.setAcceptAllFileFilterUsed(false);
 
         Kiosk.settings = settings;
         settings.setFullScreen(!isEditor);
+        // Started before the survey and careers load, so their load times are recorded
+        if (settings.flightRecording && !isEditor && FlightEvents.startRecording()) {
+            System.err.println("Flight recording started, press 'd' to save it");
+        }
 
         LoadedSurveyModel survey;
         this.surveyPath = surveyPath;
         if (!surveyPath.isEmpty()) {
             this.loadedFile = new File(surveyPath);
-            survey = LoadedSurveyModel.readFromFile(loadedFile);
+            survey = LoadedSurveyModel.readFromFile(loadedFile, !isEditor);
         } else {
             List<SceneModel> defaultScenes = new ArrayList<>();
             defaultScenes.add(new DefaultSceneModel());
@@ -107,8 +130,17 @@ public class Kiosk extends PApplet {
         }
 
         File careersFile = new File(CareerModelLoader.DEFAULT_CAREERS_CSV_PATH);
-        CareerModelLoader careerModelLoader = new CareerModelLoader(careersFile);
+        CareerModelLoader careerModelLoader = new CareerModelLoader(careersFile, !isEditor);
         this.sceneGraph = new SceneGraph(survey, careerModelLoader);
+        // The editor changes scene models in place, so it keeps copying them
+        this.sceneGraph.setCompileSurvey(!isEditor);
+
+        // Load the images of speculatively built scenes before they are shown
+        this.sceneGraph.addScenePrepareCallback(sceneModel -> {
+            if (imagePreloader != null) {
+                imagePreloader.loadNow(ImagePreloader.findImages(sceneModel));
+            }
+        });
 
         if (careerModelLoader.hasIssues()) {
             DefaultSceneModel model = new DefaultSceneModel();
@@ -116,22 +148,10 @@ public class Kiosk extends PApplet {
             this.sceneGraph.pushScene(model);
         }
 
-        this.mouseListeners = new LinkedHashMap<>();
-        for (InputEvent e : InputEvent.values()) {
-            this.mouseListeners.put(e, new LinkedList<>());
-        }
-
-        this.touchListeners = new LinkedHashMap<>();
-        for (TouchScreenEvent e : TouchScreenEvent.values()) {
-            this.touchListeners.put(e, new LinkedList<>());
-        }
-
         Color.setSketch(this);
 
         boop = new Boop();
-        recentTapEvents = new ArrayList<MouseEvent>();
-        recentTapTimes = new ArrayList<Float>();
-        recentTapColors = new ArrayList<Integer>();
+        tapRipples = new TapRipples(settings.maxTapRipples);
 
         this.isEditor = isEditor;
     }
@@ -143,29 +163,82 @@ public class Kiosk extends PApplet {
         final javafx.scene.Scene oldScene = canvas.getScene();
         Stage stage = (Stage) oldScene.getWindow();
 
+        // Touches are handled with the mouse events at the start of the next frame
         stage.addEventHandler(TouchEvent.TOUCH_PRESSED, event -> {
-            if (touchPoint == null) {
-                touchPoint = event.getTouchPoint();
-                for (EventListener listener :
-                        this.touchListeners.get(TouchScreenEvent.TouchPressed)) {
-                    listener.invoke(event);
-                }
-                boop.checkTap(this, event);
-                boopTouched = true;
+            long now = System.nanoTime();
+            if (frameRateGovernor != null) {
+                frameRateGovernor.onInput(now);
             }
+            inputQueue.offer(event, now);
         });
+        stage.addEventHandler(TouchEvent.TOUCH_RELEASED,
+                event -> inputQueue.offer(event, System.nanoTime()));
 
-        stage.addEventHandler(TouchEvent.TOUCH_RELEASED, event -> {
-            if (touchPoint != null && touchPoint.getId() == event.getTouchPoint().getId()) {
-                touchPoint = null;
-                for (EventListener listener :
-                        this.touchListeners.get(TouchScreenEvent.TouchReleased)) {
+        return surface;
+    }
+
+    private void handleTouchPressed(TouchEvent event) {
+        if (touchPoint == null) {
+            touchPoint = event.getTouchPoint();
+            // Touch points are relative to the window, which includes the editor's toolbar
+            int x = (int) touchPoint.getX() - (isEditor ? Editor.TOOLBAR_WIDTH : 0);
+            listeners.getControlIndex().findAt(x, (int) touchPoint.getY(), routedControls);
+            for (int i = 0; i < routedControls.size(); i++) {
+                EventListener<TouchEvent> listener = routedControls.get(i)
+                        .getTouchEventListeners().get(TouchScreenEvent.TouchPressed);
+                if (listener != null) {
                     listener.invoke(event);
                 }
             }
-        });
+            addMissing(pressedControls, routedControls);
+            for (EventListener<TouchEvent> listener :
+                    listeners.getTouchListeners(TouchScreenEvent.TouchPressed)) {
+                listener.invoke(event);
+            }
+            boop.checkTap(this, event);
+            boopTouched = true;
+        }
+    }
 
-        return surface;
+    private void handleTouchReleased(TouchEvent event) {
+        if (touchPoint != null && touchPoint.getId() == event.getTouchPoint().getId()) {
+            touchPoint = null;
+            for (EventListener<TouchEvent> listener :
+                    listeners.getTouchListeners(TouchScreenEvent.TouchReleased)) {
+                listener.invoke(event);
+            }
+        }
+    }
+
+    /**
+     * Handle an event taken from the input queue.
+     * @param event a mouse or touch event
+     */
+    private void handleQueuedInput(Object event) {
+        if (event instanceof MouseEvent) {
+            handleMouseEvent((MouseEvent) event);
+        } else if (event instanceof TouchEvent) {
+            TouchEvent touchEvent = (TouchEvent) event;
+            if (touchEvent.getEventType() == TouchEvent.TOUCH_PRESSED) {
+                handleTouchPressed(touchEvent);
+            } else {
+                handleTouchReleased(touchEvent);
+            }
+        }
+    }
+
+    /**
+     * Check whether a queued event may be dropped when the input queue is full.
+     * @param event a mouse or touch event
+     * @return true for mouse moves and drags, since the next one or the
+     *     release has a newer position anyway
+     */
+    private static boolean isDroppableInput(Object event) {
+        if (!(event instanceof MouseEvent)) {
+            return false;
+        }
+        int action = ((MouseEvent) event).getAction();
+        return action == MouseEvent.MOVE || action == MouseEvent.DRAG;
     }
 
     /**
@@ -175,10 +248,15 @@ public class Kiosk extends PApplet {
      */
     public void loadSurveyFile(File file) {
         this.loadedFile = file;
+        // Image files may have changed on disk since they were cached
+        if (imagePreloader != null) {
+            imagePreloader.cancel();
+        }
+        ImageCache.getInstance().clear();
         LoadedSurveyModel survey;
         try {
             // Load the survey
-            survey = LoadedSurveyModel.readFromFile(file);
+            survey = LoadedSurveyModel.readFromFile(file, !isEditor);
         } catch (Exception exception) {
 
             // Create an error survey
@@ -193,12 +271,18 @@ public class Kiosk extends PApplet {
         }
 
         // Create career loader
-        CareerModelLoader careerModelLoader =
-                new CareerModelLoader(new File(CareerModelLoader.DEFAULT_CAREERS_CSV_PATH));
+        CareerModelLoader careerModelLoader = new CareerModelLoader(
+                new File(CareerModelLoader.DEFAULT_CAREERS_CSV_PATH), !isEditor);
 
         // Reload the survey
         sceneGraph.loadSurvey(survey, careerModelLoader);
 
+        // Warm up the new survey's images while its root scene is shown
+        if (imagePreloader != null) {
+            imagePreloader.preload(ImagePreloader.findImages(
+                    survey, sceneGraph.getUserScore().getCareers()));
+        }
+
         // Push any issues as the first scene
         sceneGraph.reset();
         if (careerModelLoader.hasIssues()) {
@@ -236,7 +320,42 @@ public class Kiosk extends PApplet {
     public void setup() {
         super.setup();
         this.lastNanos = System.nanoTime();
+        ImageCache.getInstance().setBudgetBytes(settings.imageCacheMegabytes * 1024L * 1024L);
+
+        // Decode Boop and the survey's images in the background. Boop's
+        // sprites go first since they are needed before the first frame
+        imagePreloader = new ImagePreloader(this);
+        List<ImageModel> images = Boop.getSpriteModels(settings.screenH);
+        images.addAll(ImagePreloader.findImages(sceneGraph.exportSurvey(),
+                sceneGraph.getUserScore().getCareers()));
+        imagePreloader.preload(images);
+
         boop.loadVariables(this);
+        frameRateGovernor = new FrameRateGovernor(settings, this::frameRate, System.nanoTime());
+        frameProfiler.addLogSection(frameRateGovernor::getSummary);
+        frameProfiler.addLogSection(inputQueue::getSummary);
+        frameProfiler.addLogSection(listeners::getSummary);
+        frameProfiler.addLogSection(allocationProbe::getSummary);
+        frameProfiler.addLogSection(imagePreloader::getSummary);
+        if (!isEditor) {
+            frameProfiler.startLogging(FrameProfiler.DEFAULT_LOG_PATH,
+                    settings.frameTimeLogSeconds);
+        }
+        if (settings.frameStallMillis > 0 && !isEditor && frameWatchdog == null) {
+            frameWatchdog = new FrameWatchdog(FrameWatchdog.DEFAULT_LOG_PATH,
+                    settings.frameStallMillis, sceneGraph, this::isLooping);
+            frameWatchdog.start();
+        }
+        if (settings.metricsPort > 0 && !isEditor && metricsServer == null) {
+            metricsServer = new MetricsServer(frameProfiler, sceneGraph, sessions,
+                    ImageCache.getInstance());
+            try {
+                metricsServer.start(settings.metricsPort);
+            } catch (IOException e) {
+                System.err.println("Could not serve metrics on port " + settings.metricsPort
+                        + ": " + e.getMessage());
+            }
+        }
         if (!fontsLoaded) {
             Graphics.loadFonts();
             fontsLoaded = true;
@@ -245,6 +364,14 @@ public class Kiosk extends PApplet {
 
     @Override
     public void draw() {
+        frameProfiler.beginFrame();
+        allocationProbe.beginFrame();
+        boolean sceneInitialized = false;
+
+        // Handle the input that arrived since the last frame, in the order it arrived
+        inputQueue.drain(inputHandler, System.nanoTime());
+        frameProfiler.mark(FrameProfiler.Phase.INPUT);
+
         // Clear out the previous frame
         this.background(0);
 
@@ -264,28 +391,38 @@ public class Kiosk extends PApplet {
         SceneModel currentSceneModel = this.sceneGraph.getCurrentSceneModel();
 
         // Initialize the current scene if it hasn't been
+        frameProfiler.skip();
         if (currentScene != this.lastScene) {
             this.clearEventListeners();
             currentScene.init(this);
 
-            if (lastScene != null && lastScene.getClass().getName().contains("TimeoutScene")) {
+            if (lastScene != null && lastScene.getKind() == SceneKind.TIMEOUT) {
                 timeoutActive = false;
             }
 
             // Record when a new scene is loaded
             this.newSceneMillis = currentMillis;
+            frameRateGovernor.onSceneChange(currentNanos);
 
             this.lastScene = currentScene;
             this.lastSceneModel = currentSceneModel;
 
             currentSceneIsRoot =
                     lastSceneModel.getId().equals(sceneGraph.getRootSceneModel().getId());
+            sessions.onSceneShown(lastSceneModel.getKind(), currentSceneIsRoot);
+            frameProfiler.mark(FrameProfiler.Phase.SCENE_INIT);
+            sceneInitialized = true;
         }
 
         // Update and draw the scene
         currentScene.update(dt, this.sceneGraph);
+        frameProfiler.mark(FrameProfiler.Phase.UPDATE);
         Graphics.drawBubbleBackground(this, dt);
+        frameProfiler.mark(FrameProfiler.Phase.BACKGROUND);
         currentScene.draw(this);
+        // Route the next frame's input to where the controls were just drawn
+        listeners.getControlIndex().refresh();
+        frameProfiler.mark(FrameProfiler.Phase.DRAW);
 
         // Check for timeout
         long currentSceneMillis = currentMillis - this.newSceneMillis;
@@ -294,6 +431,7 @@ public class Kiosk extends PApplet {
                 // Clear the timeoutActive flag
                 // Needed here because a sceneGraph reset doesn't clear the flag automatically
                 timeoutActive = false;
+                sessions.onTimeout();
                 this.sceneGraph.reset();
             } else if (currentSceneMillis > Kiosk.settings.timeoutMillis
                     && shouldTimeout && !timeoutActive) {
@@ -310,29 +448,42 @@ public class Kiosk extends PApplet {
                         (Kiosk.settings.gracePeriodMillis - currentSceneMillis);
             }
         }
+        frameProfiler.skip();
         boop.movementLogic(this, currentScene, dt);
-        for (int i = 0; i < recentTapEvents.size(); i++) {
-            if (recentTapTimes.get(i) < 0.4) {
-                recentTapTimes.set(i, recentTapTimes.get(i) + dt);
-                Graphics.drawTouchResponse(this, recentTapEvents.get(i),
-                        recentTapTimes.get(i), recentTapColors.get(i));
-            }
-            if (recentTapTimes.get(i) >= 0.4) {
-                recentTapTimes.remove(i);
-                recentTapEvents.remove(i);
-                recentTapColors.remove(i);
-            }
+        frameProfiler.mark(FrameProfiler.Phase.BOOP);
+        tapRipples.update(dt);
+        tapRipples.draw(this, settings.tapRippleEffect);
+        frameProfiler.mark(FrameProfiler.Phase.TAP_RIPPLES);
+        frameProfiler.endFrame();
+        FlightEvents.frame(lastSceneModel.getId(), frameProfiler);
+        // Scene init allocates once per visit, so it's left out of the steady state
+        if (!sceneInitialized) {
+            allocationProbe.endFrame(currentScene.getKind());
+        }
+        frameRateGovernor.update(currentNanos);
+
+        if (showFrameTimes) {
+            frameProfiler.drawOverlay(this);
+        }
+        if (frameWatchdog != null) {
+            frameWatchdog.heartbeat();
         }
     }
 
     /**
-     * Clear every event listener.
+     * Clear every event listener, mouse, key and touch alike.
      */
     public void clearEventListeners() {
-        // Clear the list of listeners for each event type
-        for (InputEvent e : InputEvent.values()) {
-            this.mouseListeners.get(e).clear();
-        }
+        listeners.clear(width, height);
+        pressedControls.clear();
+    }
+
+    /**
+     * Get the current scene's listeners, e.g. to check none are leaking.
+     * @return the registry of live listeners
+     */
+    public ListenerRegistry getListenerRegistry() {
+        return listeners;
     }
 
     public UserScore getPreviousUserScore() {
@@ -347,15 +498,52 @@ public class Kiosk extends PApplet {
      * Hook a Control's event listeners to the sketch.
      * @param control with event listeners.
      */
-    public void hookControl(Control control) {
-        Map<InputEvent, EventListener> newListeners = control.getEventListeners();
-        for (InputEvent key : newListeners.keySet()) {
-            this.mouseListeners.get(key).push(newListeners.get(key));
+    public void hookControl(Control<MouseEvent, TouchEvent> control) {
+        listeners.hook(control);
+    }
+
+    /**
+     * Send a mouse event to the controls it is routed to, topmost first, then
+     * to the listeners that get every event of its type.
+     * @param type of the event
+     * @param event args passed to the listeners
+     */
+    private void dispatchMouseEvent(InputEvent type, MouseEvent event) {
+        if (type == InputEvent.MouseDragged) {
+            routedControls.clear();
+            routedControls.addAll(pressedControls);
+        } else {
+            listeners.getControlIndex().findAt(event.getX(), event.getY(), routedControls);
+            if (type == InputEvent.MouseReleased) {
+                // Pressed controls are released wherever the pointer is
+                addMissing(routedControls, pressedControls);
+            }
+        }
+
+        for (int i = 0; i < routedControls.size(); i++) {
+            EventListener<MouseEvent> listener =
+                    routedControls.get(i).getEventListeners().get(type);
+            if (listener != null) {
+                listener.invoke(event);
+            }
+        }
+
+        if (type == InputEvent.MousePressed) {
+            addMissing(pressedControls, routedControls);
+        } else if (type == InputEvent.MouseReleased) {
+            pressedControls.clear();
         }
 
-        Map<TouchScreenEvent, EventListener> newTouchListeners = control.getTouchEventListeners();
-        for (TouchScreenEvent key : newTouchListeners.keySet()) {
-            this.touchListeners.get(key).push(newTouchListeners.get(key));
+        for (EventListener<MouseEvent> listener : listeners.getMouseListeners(type)) {
+            listener.invoke(event);
+        }
+    }
+
+    private static <C> void addMissing(List<C> to, List<C> controls) {
+        for (int i = 0; i < controls.size(); i++) {
+            if (!to.contains(controls.get(i))) {
+                to.add(controls.get(i));
+            }
         }
     }
 
@@ -363,6 +551,8 @@ public class Kiosk extends PApplet {
      * Event handler for when any key is pressed. Only certain keys have responses...
      * 'o' - Open JFileChooser to select (only) an XML file
      * 'r' - Refresh the current view to reflect the chosen file's paths
+     * 'f' - Toggle the frame time overlay
+     * 'd' - Save the flight recording, if one was started
      * 'ESC' - Closes the program
      * @param event args passed to the listener
      */
@@ -389,10 +579,19 @@ public class Kiosk extends PApplet {
                     loadSurveyFile(loadedFile);
                 }
                 this.sceneGraph.reset();
+            } else if (Character.toLowerCase(event.getKey()) == '\u0066') {
+                // 'f' Key Press
+                showFrameTimes = !showFrameTimes;
+            } else if (Character.toLowerCase(event.getKey()) == '\u0064') {
+                // 'd' Key Press
+                Path path = FlightEvents.dumpRecording();
+                if (path != null) {
+                    System.err.println("Saved the flight recording to " + path);
+                }
             }
         }
 
-        for (EventListener listener : this.mouseListeners.get(InputEvent.KeyPressed)) {
+        for (EventListener listener : listeners.getMouseListeners(InputEvent.KeyPressed)) {
             listener.invoke(event);
         }
     }
@@ -421,33 +620,47 @@ public class Kiosk extends PApplet {
         return null;
     }
 
+    /**
+     * Mouse events are queued with touch events until the next frame, so
+     * restore the full frame rate as soon as they arrive rather than after a
+     * slow frame. Other events, and events while the sketch isn't looping,
+     * are left to Processing.
+     * @param event posted by the surface
+     */
     @Override
-    public void mouseClicked(MouseEvent event) {
-        for (EventListener<MouseEvent> listener
-                : this.mouseListeners.get(InputEvent.MouseClicked)) {
-            listener.invoke(event);
+    public void postEvent(processing.event.Event event) {
+        if (event instanceof MouseEvent) {
+            long now = System.nanoTime();
+            if (frameRateGovernor != null) {
+                frameRateGovernor.onInput(now);
+            }
+            if (isLooping()) {
+                inputQueue.offer(event, now);
+                return;
+            }
         }
+        super.postEvent(event);
+    }
+
+    @Override
+    public void mouseClicked(MouseEvent event) {
+        dispatchMouseEvent(InputEvent.MouseClicked, event);
         if (!boopTouched) {
             boop.checkTap(this, event);
         }
         boopTouched = false;
-        recentTapEvents.add(event);
-        recentTapTimes.add(0f);
-        recentTapColors.add(Color.randomColor());
+        tapRipples.add(event.getX(), event.getY(), Color.randomColor());
     }
 
     @Override
     public void mouseDragged(MouseEvent event) {
-        for (EventListener<MouseEvent> listener
-                : this.mouseListeners.get(InputEvent.MouseDragged)) {
-            listener.invoke(event);
-        }
+        dispatchMouseEvent(InputEvent.MouseDragged, event);
     }
 
     @Override
     public void mouseEntered(MouseEvent event) {
         for (EventListener<MouseEvent> listener
-                : this.mouseListeners.get(InputEvent.MouseEntered)) {
+                : listeners.getMouseListeners(InputEvent.MouseEntered)) {
             listener.invoke(event);
         }
     }
@@ -455,7 +668,7 @@ public class Kiosk extends PApplet {
     @Override
     public void mouseExited(MouseEvent event) {
         for (EventListener<MouseEvent> listener
-                : this.mouseListeners.get(InputEvent.MouseExited)) {
+                : listeners.getMouseListeners(InputEvent.MouseExited)) {
             listener.invoke(event);
         }
     }
@@ -463,7 +676,7 @@ public class Kiosk extends PApplet {
     @Override
     public void mouseMoved(MouseEvent event) {
         for (EventListener<MouseEvent> listener
-                : this.mouseListeners.get(InputEvent.MouseMoved)) {
+                : listeners.getMouseListeners(InputEvent.MouseMoved)) {
             listener.invoke(event);
         }
     }
@@ -475,10 +688,7 @@ public class Kiosk extends PApplet {
      */
     @Override
     public void mousePressed(MouseEvent event) {
-        for (EventListener<MouseEvent> listener
-                : this.mouseListeners.get(InputEvent.MousePressed)) {
-            listener.invoke(event);
-        }
+        dispatchMouseEvent(InputEvent.MousePressed, event);
     }
 
     /**
@@ -488,16 +698,13 @@ public class Kiosk extends PApplet {
      */
     @Override
     public void mouseReleased(MouseEvent event) {
-        for (EventListener<MouseEvent> listener
-                : this.mouseListeners.get(InputEvent.MouseReleased)) {
-            listener.invoke(event);
-        }
+        dispatchMouseEvent(InputEvent.MouseReleased, event);
     }
 
     @Override
     public void mouseWheel(MouseEvent event) {
         for (EventListener<MouseEvent> listener
-                : this.mouseListeners.get(InputEvent.MouseWheel)) {
+                : listeners.getMouseListeners(InputEvent.MouseWheel)) {
             listener.invoke(event);
         }
     }
@@ -506,6 +713,10 @@ public class Kiosk extends PApplet {
         this.fontsLoaded = fontsLoaded;
     }
 
+    public FrameProfiler getFrameProfiler() {
+        return frameProfiler;
+    }
+
     /**
      * Gets the current settings configuration.
      * @return The current Settings Object
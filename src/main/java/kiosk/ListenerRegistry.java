@@ -0,0 +1,179 @@
+package kiosk;
+
+import java.awt.Rectangle;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedList;
+import java.util.Map;
+import javafx.scene.input.TouchEvent;
+import kiosk.scenes.Control;
+import processing.event.MouseEvent;
+
+/**
+ * The input listeners of the scene being shown. Listeners are hooked through
+ * the scene's controls and are all dropped together when the scene changes,
+ * for every kind of event, so no listener outlives its scene. Controls with
+ * bounds are kept in a control index, so pointer events can be routed to the
+ * controls under the pointer; their other listeners, and the listeners of
+ * controls without bounds, get every event of their type.
+ *
+ * <p>The number of live listeners of each type is counted, so a scene that
+ * leaks listeners shows up in the frame log.
+ */
+public class ListenerRegistry {
+
+    // Events only sent to the controls under the pointer, or that were pressed
+    private static final EnumSet<InputEvent> ROUTED_EVENTS = EnumSet.of(
+            InputEvent.MouseClicked, InputEvent.MouseDragged,
+            InputEvent.MousePressed, InputEvent.MouseReleased);
+    private static final TouchScreenEvent ROUTED_TOUCH_EVENT = TouchScreenEvent.TouchPressed;
+
+    private final Map<InputEvent, LinkedList<EventListener<MouseEvent>>> mouseListeners =
+            new EnumMap<>(InputEvent.class);
+    private final Map<TouchScreenEvent, LinkedList<EventListener<TouchEvent>>> touchListeners =
+            new EnumMap<>(TouchScreenEvent.class);
+    private final ControlIndex<Control<MouseEvent, TouchEvent>> controlIndex =
+            new ControlIndex<>(ControlIndex.DEFAULT_CELL_SIZE);
+    // Listeners of the controls in the index, by event type
+    private final int[] routedMouseCounts = new int[InputEvent.values().length];
+    private final int[] routedTouchCounts = new int[TouchScreenEvent.values().length];
+
+    /**
+     * Create an empty registry.
+     */
+    public ListenerRegistry() {
+        for (InputEvent e : InputEvent.values()) {
+            mouseListeners.put(e, new LinkedList<>());
+        }
+        for (TouchScreenEvent e : TouchScreenEvent.values()) {
+            touchListeners.put(e, new LinkedList<>());
+        }
+    }
+
+    /**
+     * Drop every listener, e.g. because a new scene is being shown.
+     * @param width of the screen the next scene's controls are on
+     * @param height of the screen the next scene's controls are on
+     */
+    public void clear(int width, int height) {
+        for (LinkedList<EventListener<MouseEvent>> listeners : mouseListeners.values()) {
+            listeners.clear();
+        }
+        for (LinkedList<EventListener<TouchEvent>> listeners : touchListeners.values()) {
+            listeners.clear();
+        }
+        controlIndex.reset(width, height);
+        Arrays.fill(routedMouseCounts, 0);
+        Arrays.fill(routedTouchCounts, 0);
+    }
+
+    /**
+     * Hook a control's listeners. Listeners hooked later get events first.
+     * @param control with event listeners
+     */
+    public void hook(Control<MouseEvent, TouchEvent> control) {
+        Rectangle bounds = control.getBounds();
+        if (bounds != null) {
+            controlIndex.add(control);
+        }
+
+        Map<InputEvent, EventListener<MouseEvent>> newListeners = control.getEventListeners();
+        for (InputEvent key : newListeners.keySet()) {
+            if (bounds != null && ROUTED_EVENTS.contains(key)) {
+                routedMouseCounts[key.ordinal()]++;
+            } else {
+                mouseListeners.get(key).push(newListeners.get(key));
+            }
+        }
+
+        Map<TouchScreenEvent, EventListener<TouchEvent>> newTouchListeners =
+                control.getTouchEventListeners();
+        for (TouchScreenEvent key : newTouchListeners.keySet()) {
+            if (bounds != null && key == ROUTED_TOUCH_EVENT) {
+                routedTouchCounts[key.ordinal()]++;
+            } else {
+                touchListeners.get(key).push(newTouchListeners.get(key));
+            }
+        }
+    }
+
+    /**
+     * Get the listeners that get every mouse or key event of a type.
+     * @param type of event
+     * @return the listeners, most recently hooked first
+     */
+    public LinkedList<EventListener<MouseEvent>> getMouseListeners(InputEvent type) {
+        return mouseListeners.get(type);
+    }
+
+    /**
+     * Get the listeners that get every touch event of a type.
+     * @param type of event
+     * @return the listeners, most recently hooked first
+     */
+    public LinkedList<EventListener<TouchEvent>> getTouchListeners(TouchScreenEvent type) {
+        return touchListeners.get(type);
+    }
+
+    /**
+     * Get the controls that pointer events are routed to.
+     * @return the index of the controls with bounds
+     */
+    public ControlIndex<Control<MouseEvent, TouchEvent>> getControlIndex() {
+        return controlIndex;
+    }
+
+    /**
+     * Get the number of live listeners of a type, routed or not.
+     * @param type of event
+     * @return the number of listeners
+     */
+    public int getCount(InputEvent type) {
+        return mouseListeners.get(type).size() + routedMouseCounts[type.ordinal()];
+    }
+
+    /**
+     * Get the number of live listeners of a type, routed or not.
+     * @param type of event
+     * @return the number of listeners
+     */
+    public int getCount(TouchScreenEvent type) {
+        return touchListeners.get(type).size() + routedTouchCounts[type.ordinal()];
+    }
+
+    /**
+     * Get the number of live listeners of every type.
+     * @return the number of listeners
+     */
+    public int getTotalCount() {
+        int total = 0;
+        for (InputEvent e : InputEvent.values()) {
+            total += getCount(e);
+        }
+        for (TouchScreenEvent e : TouchScreenEvent.values()) {
+            total += getCount(e);
+        }
+        return total;
+    }
+
+    /**
+     * Summarize the live listeners for the frame log.
+     * @return one line with the count of each type that has listeners
+     */
+    public String getSummary() {
+        StringBuilder builder = new StringBuilder(String.format("%-12s %d",
+                "Listeners", getTotalCount()));
+        for (InputEvent e : InputEvent.values()) {
+            if (getCount(e) > 0) {
+                builder.append(", ").append(e).append(' ').append(getCount(e));
+            }
+        }
+        for (TouchScreenEvent e : TouchScreenEvent.values()) {
+            if (getCount(e) > 0) {
+                builder.append(", ").append(e).append(' ').append(getCount(e));
+            }
+        }
+        return builder.append(System.lineSeparator()).toString();
+    }
+}
@@ -0,0 +1,189 @@
+package kiosk;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import kiosk.models.SceneModel;
+import kiosk.scenes.ImageCache;
+
+/**
+ * Serves the kiosk's metrics at /metrics in the Prometheus text format, so
+ * a collector can scrape every kiosk in a fleet. The server only listens
+ * on the loopback address, and runs on its own thread.
+ *
+ * <p>Every metric is read from a counter or snapshot that can be read
+ * without a lock, so a scrape never makes Kiosk.draw() wait.
+ */
+public class MetricsServer {
+
+    public static final String PATH = "/metrics";
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final FrameProfiler frameProfiler;
+    private final SceneGraph sceneGraph;
+    private final SessionCounter sessions;
+    private final ImageCache imageCache;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    /**
+     * Create a server for the metrics of a kiosk. Nothing is served until it's started.
+     * @param frameProfiler timing the kiosk's frames
+     * @param sceneGraph the kiosk navigates
+     * @param sessions counting the kiosk's visitors
+     * @param imageCache the kiosk's images are loaded through
+     */
+    public MetricsServer(FrameProfiler frameProfiler, SceneGraph sceneGraph,
+                         SessionCounter sessions, ImageCache imageCache) {
+        this.frameProfiler = frameProfiler;
+        this.sceneGraph = sceneGraph;
+        this.sessions = sessions;
+        this.imageCache = imageCache;
+    }
+
+    /**
+     * Start serving on the loopback address.
+     * @param port to listen on, or zero for any free port
+     * @throws IOException if the port can't be bound
+     */
+    public synchronized void start(int port) throws IOException {
+        stop();
+        server = HttpServer.create(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext(PATH, this::handle);
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * Stop serving.
+     */
+    public synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+            executor = null;
+        }
+    }
+
+    /**
+     * Get the port being served on.
+     * @return the port, or -1 if the server isn't running
+     */
+    public synchronized int getPort() {
+        return server == null ? -1 : server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Format every metric. Safe to call from any thread.
+     * @return the metrics in the Prometheus text format
+     */
+    public String scrape() {
+        StringBuilder builder = new StringBuilder();
+
+        header(builder, "kiosk_frame_time_seconds", "gauge",
+                "Frame time percentiles over the most recent frames.");
+        FrameProfiler.PhaseStats stats = frameProfiler.getStats(FrameProfiler.Phase.TOTAL);
+        frameTime(builder, "0.5", stats.p50);
+        frameTime(builder, "0.95", stats.p95);
+        frameTime(builder, "0.99", stats.p99);
+        frameTime(builder, "1", stats.max);
+        sample(builder, "kiosk_frames_total", "counter",
+                "Frames drawn since the kiosk started.", frameProfiler.getFrameCount());
+
+        SceneModel scene = sceneGraph.getCurrentSceneModel();
+        if (scene != null) {
+            header(builder, "kiosk_scene_info", "gauge", "The scene being shown.");
+            builder.append("kiosk_scene_info{scene_id=\"").append(escape(scene.getId()))
+                    .append("\",kind=\"").append(scene.getKind()).append("\"} 1\n");
+        }
+
+        header(builder, "kiosk_scene_navigations_total", "counter",
+                "Scene changes, by how the scene changed.");
+        for (SceneGraph.RecentActivity activity : SceneGraph.RecentActivity.values()) {
+            builder.append("kiosk_scene_navigations_total{action=\"")
+                    .append(activity.name().toLowerCase()).append("\"} ")
+                    .append(sceneGraph.getNavigationCount(activity)).append('\n');
+        }
+
+        sample(builder, "kiosk_sessions_started_total", "counter",
+                "Visitor sessions started by leaving the root scene.", sessions.getStarted());
+        sample(builder, "kiosk_sessions_completed_total", "counter",
+                "Visitor sessions that reached a career description.", sessions.getCompleted());
+        sample(builder, "kiosk_sessions_timed_out_total", "counter",
+                "Visitor sessions ended by the timeout.", sessions.getTimedOut());
+
+        sample(builder, "kiosk_image_cache_hits_total", "counter",
+                "Images found in the image cache.", imageCache.getHits());
+        sample(builder, "kiosk_image_cache_misses_total", "counter",
+                "Images that had to be decoded.", imageCache.getMisses());
+        sample(builder, "kiosk_image_cache_evictions_total", "counter",
+                "Images evicted to stay within the budget.", imageCache.getEvictions());
+        sample(builder, "kiosk_image_cache_used_bytes", "gauge",
+                "Pixel bytes held by the image cache.", imageCache.getUsedBytes());
+        sample(builder, "kiosk_image_cache_budget_bytes", "gauge",
+                "Most pixel bytes the image cache may hold.", imageCache.getBudgetBytes());
+
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        sample(builder, "kiosk_heap_used_bytes", "gauge",
+                "Heap in use.", heap.getUsed());
+        sample(builder, "kiosk_heap_committed_bytes", "gauge",
+                "Heap reserved from the operating system.", heap.getCommitted());
+        sample(builder, "kiosk_heap_max_bytes", "gauge",
+                "Largest the heap may grow, or -1 if unlimited.", heap.getMax());
+
+        return builder.toString();
+    }
+
+    private static void header(StringBuilder builder, String name, String type, String help) {
+        builder.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        builder.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(StringBuilder builder, String name, String type, String help,
+                               long value) {
+        header(builder, name, type, help);
+        builder.append(name).append(' ').append(value).append('\n');
+    }
+
+    private static void frameTime(StringBuilder builder, String quantile, long nanos) {
+        builder.append("kiosk_frame_time_seconds{quantile=\"").append(quantile)
+                .append("\"} ").append(nanos / 1e9).append('\n');
+    }
+
+    // Label values escape backslashes, quotes and line breaks
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -4,17 +4,50 @@ import editor.ChildIdentifiers;
 import editor.Controller;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 import kiosk.models.*;
 import kiosk.scenes.Scene;
 
+/**
+ * The survey's scenes and the path the user took through them. Changes are
+ * made under the graph's lock, and each change publishes an immutable
+ * snapshot of the navigation state. Reads go to the latest snapshot without
+ * locking, so the animation thread never waits behind an edit in the editor.
+ */
 public class SceneGraph {
 
+    /**
+     * The navigation state at one point in time.
+     */
+    private static final class Snapshot {
+        private final Scene currentScene;
+        private final Scene previousScene;
+        // The current scene's model first
+        private final List<SceneModel> history;
+        private final String rootId;
+        private final Map<String, SceneModel> sceneModels;
+
+        private Snapshot(Scene currentScene, Scene previousScene, List<SceneModel> history,
+                         String rootId, Map<String, SceneModel> sceneModels) {
+            this.currentScene = currentScene;
+            this.previousScene = previousScene;
+            this.history = history;
+            this.rootId = rootId;
+            this.sceneModels = sceneModels;
+        }
+    }
+
     private UserScore userScore;
     private UserScore previousUserScore;
     private SceneModel root;
@@ -24,24 +57,30 @@ public class SceneGraph {
     private Scene currentScene;
     private Scene previousScene;
     private LinkedList<EventListener<SceneModel>> sceneChangeCallbacks;
-    private final Set<String> careerCategories = new HashSet<>();
-    // K: category V: fields inside that category
-    private final HashMap<String, Set<String>> careerFields = new HashMap<>();
-    private CareerModel[] allCareers;
+    private final LinkedList<EventListener<SceneModel>> scenePrepareCallbacks = new LinkedList<>();
+    // The scene speculatively built for the next push, see prepareScene
+    private SceneModel preparedModel;
+    private Future<Scene> preparedScene;
+    private ExecutorService scenePreparer;
+    private CareerCatalog careerCatalog = new CareerCatalog(null);
+    private volatile Snapshot snapshot;
+    // Whether the scene models changed since the last snapshot, which shares them otherwise
+    private boolean sceneModelsChanged = true;
+    private boolean compileSurvey = false;
+    // The compiled survey, or null if scenes are created from fresh copies of their models
+    private volatile SurveyRuntime runtime;
 
     public enum RecentActivity {
             RESET, POP, PUSH
     }
 
     public RecentActivity recentActivity = RecentActivity.RESET;
+    // Number of pushes, pops and resets, by RecentActivity, read by the metrics endpoint
+    private final AtomicLongArray navigations =
+            new AtomicLongArray(RecentActivity.values().length);
 
-    public enum RecentScene {
-        CAREER_DESCRIPTION, CAREER_PATHWAY,
-        CREDITS, ERROR, DETAILS, PATHWAY,
-        PROMPT, SPOKE_GRAPH_PROMPT, TIMEOUT
-    }
-
-    public RecentScene recentScene = RecentScene.PROMPT;
+    // The kind of the scene shown before the current one
+    public SceneKind recentScene = SceneKind.PROMPT;
 
     /**
      * Creates a scene graph which holds the root scene model, and
@@ -65,42 +104,35 @@ public class SceneGraph {
     public synchronized void loadSurvey(LoadedSurveyModel survey,
                                         CareerModelLoader careerModelLoader) {
         // Reset to a new, initial state
+        this.discardPreparedScene();
         this.history.clear();
         this.sceneModels.clear();
         this.sceneChangeCallbacks.clear();
 
-        // Register the new scene models
+        // Register the new scene models. History was cleared, so none of them is
+        // the current scene, and the snapshot is published once they're all in
         for (SceneModel sceneModel : survey.scenes) {
-            this.registerSceneModel(sceneModel);
+            this.sceneModels.put(sceneModel.getId(), sceneModel);
+        }
+        this.onSceneModelsChanged();
+        if (survey.scenes.length > 0) {
+            Controller.setHasPendingChanges(true);
         }
 
         // Reset all careers
-        careerCategories.clear();
-        careerFields.clear();
-        this.allCareers = careerModelLoader.load();
-        for (CareerModel career : this.allCareers) {
-            careerCategories.add(career.category);
-
-            Set<String> fields;
-            if (!careerFields.containsKey(career.category)) {
-                fields = new HashSet<>();
-                careerFields.put(career.category, fields);
-            } else {
-                fields = careerFields.get(career.category);
-            }
-            fields.add(career.field);
-        }
+        this.careerCatalog = new CareerCatalog(careerModelLoader.load());
 
         // Create a new user score
-        this.userScore = new UserScore(allCareers);
-        this.previousUserScore = new UserScore(allCareers);
+        this.userScore = new UserScore(careerCatalog);
+        this.previousUserScore = new UserScore(careerCatalog);
 
         // Set the root and load it as the first scene
-        setRootSceneModel(this.sceneModels.get(survey.rootSceneId));
+        assignRoot(this.sceneModels.get(survey.rootSceneId));
         this.previousScene = this.currentScene;
-        SceneModel root = this.getRootSceneModel();
-        this.currentScene = root.deepCopy().createScene();
+        SceneModel root = this.sceneModels.get(this.rootId);
+        this.currentScene = createScene(root);
         this.history.push(root);
+        this.publish();
     }
 
     /**
@@ -108,9 +140,10 @@ public class SceneGraph {
      * currently loaded in the SceneGraph.
      * @return a survey model representation of the scene graph
      */
-    public synchronized LoadedSurveyModel exportSurvey() {
-        List<SceneModel> scenes = new ArrayList<>(this.sceneModels.values());
-        return new LoadedSurveyModel(rootId, scenes);
+    public LoadedSurveyModel exportSurvey() {
+        Snapshot state = this.snapshot;
+        List<SceneModel> scenes = new ArrayList<>(state.sceneModels.values());
+        return new LoadedSurveyModel(state.rootId, scenes);
     }
 
     public synchronized void pushScene(SceneModel sceneModel) {
@@ -127,21 +160,11 @@ public class SceneGraph {
     public synchronized void pushScene(SceneModel sceneModel,
                                        Riasec category,
                                        FilterGroupModel nullOrFilter) {
-        String lastScene = this.history.peek().toString();
-        if (lastScene.contains("Career Description")) {
-            this.recentScene = RecentScene.CAREER_DESCRIPTION;
-        } else if (lastScene.contains("Career Pathway")) {
-            this.recentScene = RecentScene.CAREER_PATHWAY;
-        } else if (lastScene.contains("Credits")) {
-            this.recentScene = RecentScene.CREDITS;
-        } else if (lastScene.contains("Details")) {
-            this.recentScene = RecentScene.DETAILS;
-        } else if (lastScene.contains("Pathway")) {
-            this.recentScene = RecentScene.PATHWAY;
-        } else if (lastScene.contains("Spoke Graph Prompt")) {
-            this.recentScene = RecentScene.SPOKE_GRAPH_PROMPT;
-        } else if (lastScene.contains("Prompt")) {
-            this.recentScene = RecentScene.PROMPT;
+        long startNanos = System.nanoTime();
+        SceneModel last = this.history.peek();
+        SceneKind lastKind = last.getKind();
+        if (!lastKind.isOverlay) {
+            this.recentScene = lastKind;
         }
         this.recentActivity = RecentActivity.PUSH;
 
@@ -157,9 +180,11 @@ public class SceneGraph {
 
         // Add the new scene
         this.previousScene = this.currentScene;
-        this.currentScene = sceneModel.deepCopy().createScene();
+        this.currentScene = takeScene(sceneModel);
         this.history.push(sceneModel);
         this.onSceneChange(sceneModel);
+        navigations.incrementAndGet(RecentActivity.PUSH.ordinal());
+        FlightEvents.sceneChange("push", last.getId(), sceneModel.getId(), startNanos);
     }
 
     public synchronized void pushScene(String sceneModelId) {
@@ -177,9 +202,9 @@ public class SceneGraph {
                                        Riasec category,
                                        FilterGroupModel nullOrFilter) {
         // this is handled whether the scene exists or not
-        SceneModel nextSceneModel = getSceneById(sceneModelId);
+        SceneModel nextSceneModel = findSceneModel(this.sceneModels, sceneModelId);
 
-        if (!containsScene(sceneModelId)) {
+        if (!this.sceneModels.containsKey(sceneModelId)) {
             category = Riasec.None;
             nullOrFilter = null;
         }
@@ -187,19 +212,179 @@ public class SceneGraph {
         pushScene(nextSceneModel, category, nullOrFilter);
     }
 
+    /**
+     * Changes the current Scene to the one a button leads to, applying the
+     * button's category and filter.
+     * @param button that was clicked
+     */
+    public synchronized void pushScene(ButtonModel button) {
+        SceneModel target = this.runtime == null ? null : this.runtime.getTarget(button);
+        if (target != null) {
+            pushScene(target, button.category, button.filter);
+        } else {
+            pushScene(button.target, button.category, button.filter);
+        }
+    }
+
     /**
      * Pushes the end scene.
      */
-    public void pushEndScene(CareerModel career) {
+    public synchronized void pushEndScene(CareerModel career) {
+        if (preparedModel instanceof CareerDescriptionModel
+                && ((CareerDescriptionModel) preparedModel).careerModel == career) {
+            pushScene(preparedModel);
+        } else {
+            pushScene(createEndSceneModel(career));
+        }
+    }
+
+    private static CareerDescriptionModel createEndSceneModel(CareerModel career) {
         CareerDescriptionModel model = new CareerDescriptionModel();
         model.image = new ImageModel();
         model.image.path = career.imagePath;
         model.careerModel = career;
-        pushScene(model);
+        return model;
+    }
+
+    /**
+     * Start building the scene registered with the id provided in the background,
+     * so pushing it later doesn't need to construct it on the animation thread.
+     * Nothing happens if that scene is already being prepared.
+     * @param sceneModelId of the scene that will likely be pushed next
+     */
+    public synchronized void prepareScene(String sceneModelId) {
+        if (this.sceneModels.containsKey(sceneModelId)) {
+            prepareScene(this.sceneModels.get(sceneModelId));
+        }
+    }
+
+    /**
+     * Start building the scene a button leads to in the background.
+     * @param button that was clicked
+     */
+    public synchronized void prepareScene(ButtonModel button) {
+        SceneModel target = this.runtime == null ? null : this.runtime.getTarget(button);
+        if (target != null) {
+            prepareScene(target);
+        } else {
+            prepareScene(button.target);
+        }
+    }
+
+    /**
+     * Start building the end scene of a career in the background.
+     * @param career whose end scene will likely be pushed next
+     */
+    public synchronized void prepareEndScene(CareerModel career) {
+        if (!(preparedModel instanceof CareerDescriptionModel)
+                || ((CareerDescriptionModel) preparedModel).careerModel != career) {
+            prepareScene(createEndSceneModel(career));
+        }
+    }
+
+    /**
+     * Start building a scene in the background. Any other prepared scene is
+     * discarded. The scene prepare callbacks are invoked on the background
+     * thread once the scene is built.
+     *
+     * <p>Only the scene's constructor runs in the background, which is safe
+     * because scenes don't change the models they're built from. Scene.init
+     * still runs on the animation thread, the first frame the scene is shown,
+     * because it needs the sketch to load images and hook up controls.
+     * @param sceneModel of the scene that will likely be pushed next
+     */
+    public synchronized void prepareScene(SceneModel sceneModel) {
+        if (sceneModel == preparedModel) {
+            return;
+        }
+        discardPreparedScene();
+
+        if (scenePreparer == null) {
+            scenePreparer = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "scene-preparer");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        preparedModel = sceneModel;
+        SurveyRuntime preparedRuntime = this.runtime;
+        preparedScene = scenePreparer.submit(() -> {
+            Scene scene = createScene(preparedRuntime, sceneModel);
+            for (EventListener<SceneModel> callback : getScenePrepareCallbacks()) {
+                callback.invoke(sceneModel);
+            }
+            return scene;
+        });
+    }
+
+    /**
+     * Throw away the scene being prepared, e.g. because the user backed out.
+     */
+    public synchronized void discardPreparedScene() {
+        if (preparedScene != null) {
+            preparedScene.cancel(false);
+        }
+        preparedScene = null;
+        preparedModel = null;
     }
 
-    public synchronized boolean containsScene(String sceneId) {
-        return this.sceneModels.containsKey(sceneId);
+    /**
+     * Get the scene to show for a model. The prepared scene is used if it
+     * was built from this model and is ready, otherwise the scene is built now.
+     */
+    private Scene takeScene(SceneModel sceneModel) {
+        Future<Scene> prepared = sceneModel == preparedModel ? preparedScene : null;
+        discardPreparedScene();
+
+        if (prepared != null && prepared.isDone() && !prepared.isCancelled()) {
+            try {
+                return prepared.get();
+            } catch (ExecutionException | InterruptedException exception) {
+                // Fall back to building the scene here
+                exception.printStackTrace();
+            }
+        }
+        return createScene(sceneModel);
+    }
+
+    /**
+     * Create a scene from a model, using the compiled copy of the model if the
+     * survey is compiled.
+     */
+    private Scene createScene(SceneModel sceneModel) {
+        return createScene(this.runtime, sceneModel);
+    }
+
+    private static Scene createScene(SurveyRuntime runtime, SceneModel sceneModel) {
+        SceneModel compiled = runtime == null ? null : runtime.getCompiled(sceneModel);
+        if (compiled != null) {
+            return compiled.createScene();
+        }
+        // The model may still be edited while its scene is shown, so give the scene a copy
+        return sceneModel.deepCopy().createScene();
+    }
+
+    /**
+     * Choose whether to compile the survey, so showing a scene doesn't copy its
+     * model. Only for surveys that aren't edited while they're shown: the
+     * compiled copies only see edits to a model once it's registered again.
+     * @param compileSurvey true to compile the survey now and whenever it changes
+     */
+    public synchronized void setCompileSurvey(boolean compileSurvey) {
+        this.compileSurvey = compileSurvey;
+        this.runtime = compileSurvey ? new SurveyRuntime(this.sceneModels.values()) : null;
+    }
+
+    private void onSceneModelsChanged() {
+        this.sceneModelsChanged = true;
+        if (this.compileSurvey) {
+            this.runtime = new SurveyRuntime(this.sceneModels.values());
+        }
+    }
+
+    public boolean containsScene(String sceneId) {
+        return this.snapshot.sceneModels.containsKey(sceneId);
     }
 
     /**
@@ -207,28 +392,20 @@ public class SceneGraph {
      * on the last SceneModel.
      */
     public synchronized void popScene() {
+        long startNanos = System.nanoTime();
+        this.discardPreparedScene();
 
-        String lastScene = this.history.peek().toString();
-        if (lastScene.contains("Career Description")) {
-            this.recentScene = RecentScene.CAREER_DESCRIPTION;
-        } else if (lastScene.contains("Career Pathway")) {
-            this.recentScene = RecentScene.CAREER_PATHWAY;
-        } else if (lastScene.contains("Credits")) {
-            this.recentScene = RecentScene.CREDITS;
-        } else if (lastScene.contains("Details")) {
-            this.recentScene = RecentScene.DETAILS;
-        } else if (lastScene.contains("Pathway")) {
-            this.recentScene = RecentScene.PATHWAY;
-        } else if (lastScene.contains("Spoke Graph Prompt")) {
-            this.recentScene = RecentScene.SPOKE_GRAPH_PROMPT;
-        } else if (lastScene.contains("Prompt")) {
-            this.recentScene = RecentScene.PROMPT;
+        SceneModel last = this.history.peek();
+        SceneKind lastKind = last.getKind();
+        if (!lastKind.isOverlay) {
+            this.recentScene = lastKind;
         }
         this.recentActivity = RecentActivity.POP;
 
 
         // Remove the current scene from history
         this.history.pop();
+        navigations.incrementAndGet(RecentActivity.POP.ordinal());
 
         // Undo the last operation on the user score
         previousUserScore.setRealistic(userScore.getCategoryScore(Riasec.Realistic));
@@ -247,10 +424,12 @@ public class SceneGraph {
             this.previousScene = this.currentScene;
             this.currentScene = errorScene.createScene();
             this.onSceneChange(errorScene);
+            FlightEvents.sceneChange("pop", last.getId(), errorScene.getId(), startNanos);
         } else {
             this.previousScene = this.currentScene;
-            this.currentScene = next.deepCopy().createScene();
+            this.currentScene = createScene(next);
             this.onSceneChange(next);
+            FlightEvents.sceneChange("pop", last.getId(), next.getId(), startNanos);
         }
     }
 
@@ -259,18 +438,25 @@ public class SceneGraph {
      * the scene history.
      */
     public synchronized void reset() {
+        long startNanos = System.nanoTime();
+        SceneModel last = this.history.peek();
+        this.discardPreparedScene();
+
         // Reset the user score
         previousUserScore.reset();
         userScore.reset();
 
         // Reset the root scene
-        SceneModel root = getRootSceneModel();
+        SceneModel root = this.sceneModels.get(this.rootId);
         this.previousScene = this.currentScene;
-        this.currentScene = root.deepCopy().createScene();
+        this.currentScene = createScene(root);
         this.history.clear();
         this.history.push(root);
         this.onSceneChange(root);
         this.recentActivity = RecentActivity.RESET;
+        navigations.incrementAndGet(RecentActivity.RESET.ordinal());
+        FlightEvents.sceneChange("reset", last == null ? null : last.getId(), root.getId(),
+                startNanos);
     }
 
     /**
@@ -291,6 +477,8 @@ public class SceneGraph {
         }
 
         sceneModels.put(sceneModel.getId(), sceneModel);
+        this.onSceneModelsChanged();
+        this.publish();
         Controller.setHasPendingChanges(true);
     }
 
@@ -305,7 +493,7 @@ public class SceneGraph {
             throws SceneModelException {
         // Can't remove the root scene
         if (!sceneModel.getId().equals(rootId)) {
-            SceneModel currentScene = getCurrentSceneModel();
+            SceneModel currentScene = this.history.peek();
 
             // If we are removing the current active scene, pop it before removing
             if (currentScene != null && sceneModel.getId().equals(currentScene.getId())) {
@@ -313,6 +501,8 @@ public class SceneGraph {
             }
 
             sceneModels.remove(sceneModel.getId());
+            this.onSceneModelsChanged();
+            this.publish();
         } else {
             throw new SceneModelException("Cannot delete the root scene");
         }
@@ -329,15 +519,18 @@ public class SceneGraph {
             return;
         }
 
-        SceneModel sceneModel = getSceneById(currentId);
+        SceneModel sceneModel = findSceneModel(this.sceneModels, currentId);
         sceneModels.remove(currentId);
         sceneModel.setId(newId);
         sceneModels.put(newId, sceneModel);
+        this.onSceneModelsChanged();
 
-        if (this.getCurrentSceneModel().getId().equals(sceneModel.getId())) {
+        if (this.history.peek().getId().equals(sceneModel.getId())) {
             this.previousScene = this.currentScene;
             this.currentScene = sceneModel.deepCopy().createScene();
             this.onSceneChange(sceneModel);
+        } else {
+            this.publish();
         }
     }
 
@@ -349,30 +542,76 @@ public class SceneGraph {
         sceneChangeCallbacks.add(callBack);
     }
 
+    /**
+     * Pass in a callback which will be called, off of the animation thread, after a
+     * scene has been prepared. Unlike scene change callbacks, these are kept when a
+     * new survey is loaded.
+     * @param callBack The callback to be registered
+     */
+    public synchronized void addScenePrepareCallback(EventListener<SceneModel> callBack) {
+        scenePrepareCallbacks.add(callBack);
+    }
+
+    private synchronized List<EventListener<SceneModel>> getScenePrepareCallbacks() {
+        return new ArrayList<>(scenePrepareCallbacks);
+    }
+
     private synchronized void onSceneChange(SceneModel nextScene) {
+        // Callbacks read the new scene from the graph
+        this.publish();
         for (EventListener<SceneModel> sceneChangeCallback : sceneChangeCallbacks) {
             sceneChangeCallback.invoke(nextScene);
         }
     }
 
+    /**
+     * Publish the navigation state for readers. Must be called with the lock
+     * held, after every change.
+     */
+    private void publish() {
+        Snapshot previous = this.snapshot;
+        Map<String, SceneModel> models = previous != null && !sceneModelsChanged
+                ? previous.sceneModels
+                : Collections.unmodifiableMap(new HashMap<>(this.sceneModels));
+        this.sceneModelsChanged = false;
+        this.snapshot = new Snapshot(this.currentScene, this.previousScene,
+                Collections.unmodifiableList(new ArrayList<>(this.history)),
+                this.rootId, models);
+    }
+
     /**
      * Get the scene most recently pushed to the state.
      * @return The current scene.
      */
-    public synchronized Scene getCurrentScene() {
-        return currentScene;
+    public Scene getCurrentScene() {
+        return this.snapshot.currentScene;
     }
 
     /**
      * Get the previous scene that was somewhat-recently pushed to the state.
      * @return The previous scene.
      */
-    public synchronized Scene getPreviousScene() {
-        return previousScene;
+    public Scene getPreviousScene() {
+        return this.snapshot.previousScene;
     }
 
-    public synchronized SceneModel getCurrentSceneModel() {
-        return this.history.peek();
+    /**
+     * Get the number of times the scene graph has changed scenes a certain
+     * way. Safe to call from any thread.
+     * @param activity the kind of change, e.g. a push
+     * @return the number of changes since the scene graph was created
+     */
+    public long getNavigationCount(RecentActivity activity) {
+        return navigations.get(activity.ordinal());
+    }
+
+    /**
+     * Get the model of the current scene.
+     * @return the model at the top of the history, or null if it's empty
+     */
+    public SceneModel getCurrentSceneModel() {
+        List<SceneModel> history = this.snapshot.history;
+        return history.isEmpty() ? null : history.get(0);
     }
 
     /**
@@ -380,8 +619,24 @@ public class SceneGraph {
      * @param id of the scene model
      * @return Scene model associated with the idea or an error scene model.
      */
-    public synchronized SceneModel getSceneById(String id) {
-        SceneModel sceneModel = this.sceneModels.get(id);
+    public SceneModel getSceneById(String id) {
+        return findSceneModel(this.snapshot.sceneModels, id);
+    }
+
+    /**
+     * Get the scene a button leads to. Buttons of a compiled survey were
+     * resolved when it was compiled, others are looked up by their target id.
+     * @param button of the current scene
+     * @return Scene model the button leads to or an error scene model.
+     */
+    public SceneModel getSceneByButton(ButtonModel button) {
+        SurveyRuntime runtime = this.runtime;
+        SceneModel target = runtime == null ? null : runtime.getTarget(button);
+        return target != null ? target : getSceneById(button.target);
+    }
+
+    private static SceneModel findSceneModel(Map<String, SceneModel> sceneModels, String id) {
+        SceneModel sceneModel = sceneModels.get(id);
 
         if (sceneModel == null) {
             sceneModel = new ErrorSceneModel("You might have deleted a scene that a button led to."
@@ -392,16 +647,17 @@ public class SceneGraph {
         return sceneModel;
     }
 
-    public synchronized Set<String> getAllIds() {
-        return this.sceneModels.keySet();
+    public Set<String> getAllIds() {
+        return this.snapshot.sceneModels.keySet();
     }
 
     /**
      * Get the root scene's model.
      * @return The root sceneModel
      */
-    public synchronized SceneModel getRootSceneModel() {
-        return sceneModels.get(this.rootId);
+    public SceneModel getRootSceneModel() {
+        Snapshot state = this.snapshot;
+        return state.sceneModels.get(state.rootId);
     }
 
     /**
@@ -409,7 +665,12 @@ public class SceneGraph {
      * @param newRoot The scene which will become the launching point for the Kiosk.
      */
     public synchronized void setRootSceneModel(SceneModel newRoot) {
-        SceneModel previousRoot = this.getRootSceneModel();
+        assignRoot(newRoot);
+        this.publish();
+    }
+
+    private void assignRoot(SceneModel newRoot) {
+        SceneModel previousRoot = this.sceneModels.get(this.rootId);
         if (previousRoot != null) {
             previousRoot.setName(previousRoot.getName()
                     .replaceAll(ChildIdentifiers.ROOT, ChildIdentifiers.CHILD));
@@ -425,12 +686,12 @@ public class SceneGraph {
      * Returns the set of the scene Ids currently in the SceneGraph.
      * @return The set of the scene Ids currently in the SceneGraph.
      */
-    public synchronized Set<String> getSceneIds() {
-        return sceneModels.keySet();
+    public Set<String> getSceneIds() {
+        return this.snapshot.sceneModels.keySet();
     }
 
-    public synchronized Collection<SceneModel> getAllSceneModels() {
-        return sceneModels.values();
+    public Collection<SceneModel> getAllSceneModels() {
+        return this.snapshot.sceneModels.values();
     }
 
     public UserScore getPreviousUserScore() {
@@ -447,7 +708,7 @@ public class SceneGraph {
      * @return Whether or not 2 or more scenes have the same name.
      */
     public SceneModel getSceneModelByName(String sceneName) {
-        return sceneModels
+        return this.snapshot.sceneModels
             .values().stream()
             .filter(sceneModel -> sceneModel.getName().equals(sceneName))
             .findFirst().orElse(null);
@@ -458,7 +719,7 @@ public class SceneGraph {
      * @return a set of unique categories
      */
     public Set<String> getCareerCategories() {
-        return this.careerCategories;
+        return this.careerCatalog.getCategories();
     }
 
     /**
@@ -467,11 +728,7 @@ public class SceneGraph {
      * @return a set of unique fields
      */
     public Set<String> getCareerFields(String category) {
-        if (this.careerFields.containsKey(category)) {
-            return this.careerFields.get(category);
-        } else {
-            return new HashSet<>();
-        }
+        return this.careerCatalog.getFields(category);
     }
 
     /**
@@ -481,22 +738,15 @@ public class SceneGraph {
      * @return a set of unique careers
      */
     public Set<String> findCareers(String category, String field) {
-        boolean allFields = field.equals("All");
-
-        if (!careerCategories.contains(category)) {
-            return new HashSet<>();
-        }
-        if (!allFields && !careerFields.get(category).contains(field)) {
-            return new HashSet<>();
-        }
+        return this.careerCatalog.getCareerNames(category, field);
+    }
 
-        HashSet<String> careers = new HashSet<>();
-        for (CareerModel career : allCareers) {
-            if (career.category.equals(category) && (allFields || career.field.equals(field))) {
-                careers.add(career.name);
-            }
-        }
-        return careers;
+    /**
+     * Get the index of the careers loaded with the survey.
+     * @return the career catalog
+     */
+    public CareerCatalog getCareerCatalog() {
+        return this.careerCatalog;
     }
 
     /**
@@ -505,7 +755,15 @@ public class SceneGraph {
      * @return the scenemodel of that item in the history
      */
     public SceneModel getFromHistory(int index) {
-        return history.get(index);
+        return this.snapshot.history.get(index);
+    }
+
+    /**
+     * Get the whole history at once. Safe to call from any thread.
+     * @return an unmodifiable copy of the history, the current scene's model first
+     */
+    public List<SceneModel> getHistory() {
+        return this.snapshot.history;
     }
 
     /**
@@ -513,6 +771,6 @@ public class SceneGraph {
      * @return the history's size
      */
     public int getHistorySize() {
-        return history.size();
+        return this.snapshot.history.size();
     }
 }
@@ -0,0 +1,67 @@
+package kiosk;
+
+import java.util.concurrent.atomic.AtomicLong;
+import kiosk.models.SceneKind;
+
+/**
+ * Counts visitor sessions. A session starts when a visitor leaves the root
+ * scene, completes when it reaches a career's description, and times out
+ * when the kiosk gives up waiting and returns to the root scene itself.
+ *
+ * <p>The counters are updated on the animation thread and can be read from
+ * any thread without locking.
+ */
+public class SessionCounter {
+
+    private final AtomicLong started = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong timedOut = new AtomicLong();
+
+    // Only used by the animation thread
+    private boolean active = false;
+    private boolean reachedEnd = false;
+
+    /**
+     * Record a scene being shown. Must be called from the animation thread.
+     * @param kind of the scene
+     * @param isRoot true if the scene is the survey's root scene
+     */
+    public void onSceneShown(SceneKind kind, boolean isRoot) {
+        if (isRoot) {
+            active = false;
+            return;
+        }
+        if (!active) {
+            active = true;
+            reachedEnd = false;
+            started.incrementAndGet();
+        }
+        if (kind == SceneKind.CAREER_DESCRIPTION && !reachedEnd) {
+            reachedEnd = true;
+            completed.incrementAndGet();
+        }
+    }
+
+    /**
+     * Record the kiosk timing out and returning to the root scene. Must be
+     * called from the animation thread.
+     */
+    public void onTimeout() {
+        if (active) {
+            timedOut.incrementAndGet();
+            active = false;
+        }
+    }
+
+    public long getStarted() {
+        return started.get();
+    }
+
+    public long getCompleted() {
+        return completed.get();
+    }
+
+    public long getTimedOut() {
+        return timedOut.get();
+    }
+}
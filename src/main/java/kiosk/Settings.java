@@ -1,5 +1,6 @@
 package kiosk;
 
+import graphics.TapRipples;
 import java.awt.Dimension;
 import java.awt.HeadlessException;
 import java.awt.Toolkit;
@@ -25,6 +26,20 @@ public class Settings {
     public int screenW;
     public int screenH;
     public boolean fullScreenDesired;
+    public int imageCacheMegabytes;
+    public int frameTimeLogSeconds;
+    public int idleFrameRateSeconds;
+    public int idleFrameRate;
+    public int sleepFrameRateSeconds;
+    public int sleepFrameRate;
+    public int maxTapRipples;
+    public TapRipples.Effect tapRippleEffect;
+    // Keep a continuous flight recording, dumped to a file with the 'd' key
+    public boolean flightRecording;
+    // Serve metrics for Prometheus on this loopback port, or not at all if zero
+    public int metricsPort;
+    // Log frames taking longer than this to frame-stalls.log, or none if zero
+    public int frameStallMillis;
 
     /**
      * Default constructor.
@@ -49,6 +64,17 @@ public class Settings {
         buttonAnimationFrames = 80;
         buttonAnimationLengthFrames = 20;
         buttonAnimationIntensity = buttonAnimationFrames * buttonAnimationLengthFrames / 2.0;
+        imageCacheMegabytes = 128;
+        frameTimeLogSeconds = 60;
+        idleFrameRateSeconds = 120;
+        idleFrameRate = 30;
+        sleepFrameRateSeconds = 1800;
+        sleepFrameRate = 15;
+        maxTapRipples = 16;
+        tapRippleEffect = TapRipples.Effect.RING;
+        flightRecording = false;
+        metricsPort = 0;
+        frameStallMillis = 1000;
         this.fullScreenDesired = fullScreenDesired;
         if (this.fullScreenDesired) {
             try {
@@ -0,0 +1,133 @@
+package kiosk;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import kiosk.models.ButtonModel;
+import kiosk.models.CareerDescriptionModel;
+import kiosk.models.DetailsSceneModel;
+import kiosk.models.FilterGroupModel;
+import kiosk.models.PathwaySceneModel;
+import kiosk.models.PromptSceneModel;
+import kiosk.models.SceneModel;
+import kiosk.models.SpokeGraphPromptSceneModel;
+
+/**
+ * A survey compiled for showing rather than editing. Every scene model is
+ * copied once, when the survey is compiled, instead of every time its scene
+ * is shown. The targets of the copies' buttons are resolved to the models
+ * they lead to, so clicking a button doesn't look its target up by id, and
+ * buttons with the same filter share one copy of it.
+ *
+ * <p>The copies are read-only once compiled. Scenes may be created from them
+ * on any thread and several scenes may share one, so anything a scene sizes
+ * or changes while it's shown is kept on the scene, e.g. in its
+ * ButtonControls. The filters' career names can't be modified at all.
+ *
+ * <p>The copies aren't updated when the original models are edited, so a
+ * survey must be compiled again after it changes.
+ */
+final class SurveyRuntime {
+
+    private final Map<SceneModel, Integer> indices;
+    private final SceneModel[] sources;
+    private final SceneModel[] scenes;
+    // The index of the scene each compiled button leads to
+    private final Map<ButtonModel, Integer> targets = new IdentityHashMap<>();
+
+    /**
+     * Compile the scenes of a survey.
+     * @param sceneModels every scene model in the survey
+     */
+    SurveyRuntime(Collection<SceneModel> sceneModels) {
+        this.indices = new IdentityHashMap<>(sceneModels.size() * 2);
+        this.sources = new SceneModel[sceneModels.size()];
+        this.scenes = new SceneModel[sceneModels.size()];
+        Map<String, Integer> indicesById = new HashMap<>(sceneModels.size() * 2);
+        int index = 0;
+        for (SceneModel sceneModel : sceneModels) {
+            sources[index] = sceneModel;
+            scenes[index] = sceneModel.deepCopy();
+            indices.put(sceneModel, index);
+            indicesById.put(sceneModel.getId(), index);
+            index++;
+        }
+
+        Map<List<Object>, FilterGroupModel> filters = new HashMap<>();
+        for (SceneModel scene : scenes) {
+            for (ButtonModel button : getButtons(scene)) {
+                Integer target = indicesById.get(button.target);
+                if (target != null) {
+                    targets.put(button, target);
+                }
+                if (button.filter != null) {
+                    button.filter = shareFilter(filters, button.filter);
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the buttons of a compiled model that lead to other scenes.
+     */
+    private static ButtonModel[] getButtons(SceneModel sceneModel) {
+        ButtonModel[] buttons = null;
+        if (sceneModel instanceof PromptSceneModel) {
+            buttons = ((PromptSceneModel) sceneModel).answers;
+        } else if (sceneModel instanceof SpokeGraphPromptSceneModel) {
+            buttons = ((SpokeGraphPromptSceneModel) sceneModel).answers;
+        } else if (sceneModel instanceof PathwaySceneModel) {
+            buttons = ((PathwaySceneModel) sceneModel).buttonModels;
+        } else if (sceneModel instanceof DetailsSceneModel) {
+            buttons = ((DetailsSceneModel) sceneModel).targets;
+        } else if (sceneModel instanceof CareerDescriptionModel) {
+            ButtonModel button = ((CareerDescriptionModel) sceneModel).button;
+            buttons = button == null ? null : new ButtonModel[] { button };
+        }
+        return buttons == null ? new ButtonModel[0] : buttons;
+    }
+
+    /**
+     * Get the read-only filter shared by every button with the same filter.
+     */
+    private static FilterGroupModel shareFilter(Map<List<Object>, FilterGroupModel> filters,
+                                                FilterGroupModel filter) {
+        Collection<String> careerNames = filter.careerNames == null
+                ? Collections.emptySet() : filter.careerNames;
+        List<Object> key = Arrays.asList(filter.category, filter.field, new HashSet<>(careerNames));
+        return filters.computeIfAbsent(key, unused -> {
+            FilterGroupModel shared = new FilterGroupModel();
+            shared.category = filter.category;
+            shared.field = filter.field;
+            shared.careerNames = Collections.unmodifiableSet(new HashSet<>(careerNames));
+            return shared;
+        });
+    }
+
+    /**
+     * Get the compiled copy of a model.
+     * @param sceneModel one of the survey's models, as it was compiled
+     * @return the copy, or null if the model isn't part of the compiled survey,
+     *     e.g. a timeout popup or a model replaced since the survey was compiled
+     */
+    SceneModel getCompiled(SceneModel sceneModel) {
+        Integer index = indices.get(sceneModel);
+        return index == null ? null : scenes[index];
+    }
+
+    /**
+     * Get the model a button leads to.
+     * @param button a button of one of the compiled copies
+     * @return the model the button's target was resolved to, or null if the button
+     *     isn't part of the compiled survey or leads to a scene that doesn't exist
+     */
+    SceneModel getTarget(ButtonModel button) {
+        Integer index = targets.get(button);
+        return index == null ? null : sources[index];
+    }
+}
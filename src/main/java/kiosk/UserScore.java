@@ -1,8 +1,10 @@
 package kiosk;
 
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.LinkedList;
-import java.util.Set;
+import java.util.Map;
+import java.util.WeakHashMap;
+import kiosk.models.CareerCatalog;
 import kiosk.models.CareerModel;
 import kiosk.models.FilterGroupModel;
 
@@ -15,26 +17,41 @@ public class UserScore {
     private int enterprising = 0;
     private int conventional = 0;
 
-    private final HashMap<String, CareerModel> allCareers = new HashMap<>();
-    private final HashMap<String, CareerModel> includedCareers = new HashMap<>();
+    // Sets of careers are stored as bit masks, where bit i is the career
+    // with id i in the catalog
+    private final CareerCatalog catalog;
+    private long[] includedCareers;
     private final LinkedList<ScoreOperation> history = new LinkedList<>();
 
+    // Included careers, rebuilt only after the mask changes
+    private CareerModel[] includedCareersCache = null;
+    // The mask of each filter applied so far. FilterGroupModel doesn't override
+    // equals, so filters are told apart by identity. The keys are weak so the
+    // filters of scenes that are gone, e.g. in the editor, can be collected
+    private final Map<FilterGroupModel, long[]> filterMasks = new WeakHashMap<>();
+
     /**
      * Create a new user score object.
      * @param careers that are available to the user
      */
     public UserScore(CareerModel[] careers) {
-        if (careers != null) {
-            for (CareerModel career : careers) {
-                this.allCareers.put(career.name, career);
-                this.includedCareers.put(career.name, career);
-            }
-        }
+        this(new CareerCatalog(careers));
+    }
+
+    /**
+     * Create a new user score object.
+     * @param catalog of the careers that are available to the user
+     */
+    public UserScore(CareerCatalog catalog) {
+        this.catalog = catalog;
+        this.includedCareers = createFullMask(catalog.size());
     }
 
     /**
      * Apply a category and filter to the user score. Intended to
      * be called every time the user makes a selection in the survey.
+     * A filter's careers are only read the first time it's applied,
+     * so it must not change afterwards.
      * @param category score to add to
      * @param filterOrNull careers to filter out. Null if none
      */
@@ -44,21 +61,19 @@ public class UserScore {
 
         // Apply filter
         if (filterOrNull != null) {
-            // Filter careers and store the removed careers in a list
-            // for undo history
-            final LinkedList<String> removedCareers = new LinkedList<>();
-            Set<String> includedKeySet = includedCareers.keySet();
-
-            includedKeySet.removeIf(career -> {
-                if (!filterOrNull.careerNames.contains(career)) {
-                    removedCareers.add(career);
-                    return true;
-                }
-                return false;
-            });
+            // Keep the careers both included and in the filter. The previous
+            // mask is kept for undo history
+            long[] previousMask = includedCareers;
+            long[] filterMask = filterMasks.computeIfAbsent(filterOrNull, this::compileFilter);
+            long[] mask = new long[previousMask.length];
+            for (int i = 0; i < mask.length; i++) {
+                mask[i] = previousMask[i] & filterMask[i];
+            }
+            includedCareers = mask;
+            includedCareersCache = null;
 
             // Push to history
-            this.history.push(new ScoreOperation(category, removedCareers));
+            this.history.push(new ScoreOperation(category, previousMask));
         } else {
             // Push to history
             this.history.push(new ScoreOperation(category, null));
@@ -74,10 +89,9 @@ public class UserScore {
             ScoreOperation operation = this.history.pop();
 
             // Careers were removed in the previous operation, so add them back
-            if (operation.careersRemoved != null) {
-                for (String career : operation.careersRemoved) {
-                    includedCareers.put(career, allCareers.get(career));
-                }
+            if (operation.previousMask != null) {
+                includedCareers = operation.previousMask;
+                includedCareersCache = null;
             }
 
             // Undo RIASEC operation
@@ -161,13 +175,97 @@ public class UserScore {
         this.conventional = 0;
 
         this.history.clear();
-        for (String career : this.allCareers.keySet()) {
-            this.includedCareers.put(career, this.allCareers.get(career));
-        }
+        this.includedCareers = createFullMask(catalog.size());
+        this.includedCareersCache = null;
     }
 
+    /**
+     * Get the careers that haven't been filtered out. The same array is
+     * returned until the included careers change, so it must not be modified.
+     * @return the included careers
+     */
     public CareerModel[] getCareers() {
-        return this.includedCareers.values().toArray(new CareerModel[0]);
+        if (includedCareersCache == null) {
+            CareerModel[] careers = new CareerModel[getCareerCount()];
+            int index = 0;
+            for (int id = nextIncludedId(0); id >= 0; id = nextIncludedId(id + 1)) {
+                careers[index++] = catalog.getCareer(id);
+            }
+            includedCareersCache = careers;
+        }
+        return includedCareersCache;
+    }
+
+    /**
+     * Count the careers that haven't been filtered out.
+     * @return the number of included careers
+     */
+    public int getCareerCount() {
+        int count = 0;
+        for (long word : includedCareers) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Check if a career hasn't been filtered out.
+     * @param careerName name of the career
+     * @return true if the career exists and is included
+     */
+    public boolean isIncluded(String careerName) {
+        int id = catalog.getId(careerName);
+        return id >= 0 && (includedCareers[id >>> 6] & (1L << id)) != 0;
+    }
+
+    /**
+     * Find the next included career, by id.
+     * @param fromId the first id to check
+     * @return the id of the next included career at or after fromId, or -1 if there are none
+     */
+    private int nextIncludedId(int fromId) {
+        int wordIndex = fromId >>> 6;
+        if (wordIndex >= includedCareers.length) {
+            return -1;
+        }
+
+        long word = includedCareers[wordIndex] & (-1L << fromId);
+        while (true) {
+            if (word != 0) {
+                return wordIndex * 64 + Long.numberOfTrailingZeros(word);
+            }
+            if (++wordIndex == includedCareers.length) {
+                return -1;
+            }
+            word = includedCareers[wordIndex];
+        }
+    }
+
+    /**
+     * Convert a filter into a mask of the careers it includes. Careers in
+     * the filter that don't exist are ignored.
+     */
+    private long[] compileFilter(FilterGroupModel filter) {
+        long[] mask = new long[includedCareers.length];
+        if (filter.careerNames != null) {
+            for (String careerName : filter.careerNames) {
+                int id = catalog.getId(careerName);
+                if (id >= 0) {
+                    mask[id >>> 6] |= 1L << id;
+                }
+            }
+        }
+        return mask;
+    }
+
+    private static long[] createFullMask(int careerCount) {
+        long[] mask = new long[(careerCount + 63) / 64];
+        Arrays.fill(mask, -1L);
+        // Clear the bits past the last career
+        if (careerCount % 64 != 0) {
+            mask[mask.length - 1] = (1L << careerCount) - 1;
+        }
+        return mask;
     }
 
     public int getRealistic() {
@@ -267,11 +365,12 @@ public class UserScore {
 
     private static class ScoreOperation {
         private final Riasec category;
-        private final LinkedList<String> careersRemoved;
+        // The included careers before the operation, or null if none were removed
+        private final long[] previousMask;
 
-        private ScoreOperation(Riasec category, LinkedList<String> careersRemoved) {
+        private ScoreOperation(Riasec category, long[] previousMask) {
             this.category = category;
-            this.careersRemoved = careersRemoved;
+            this.previousMask = previousMask;
         }
     }
 }
@@ -0,0 +1,213 @@
+package kiosk.models;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import kiosk.Riasec;
+
+/**
+ * An immutable index of the careers loaded from the CSV. Built once per
+ * survey load, so every query about categories, fields and careers is
+ * answered from a precomputed lookup instead of scanning all careers.
+ * Each career is assigned a dense id, its index in the catalog.
+ */
+public final class CareerCatalog {
+
+    // The field name used by filters that include every field of a category
+    public static final String ALL_FIELDS = "All";
+
+    private static final int[] NO_IDS = new int[0];
+
+    private final CareerModel[] careers;
+    private final Map<String, Integer> ids;
+    private final Set<String> categories;
+    private final Map<String, Set<String>> fields;
+    // K: category V: ids of the careers in that category
+    private final Map<String, int[]> categoryIds;
+    // K: category V: (K: field V: ids of the careers in that field)
+    private final Map<String, Map<String, int[]>> fieldIds;
+    private final Map<Riasec, List<CareerModel>> riasecCareers;
+
+    /**
+     * Build a catalog of the careers provided. Careers are identified by
+     * name, so a career with a duplicate name replaces the earlier career.
+     * The category and field of every career are interned, so careers
+     * sharing a category or field share the same string.
+     * @param careers to index. May be null
+     */
+    public CareerCatalog(CareerModel[] careers) {
+        LinkedHashMap<String, CareerModel> uniqueCareers = new LinkedHashMap<>();
+        if (careers != null) {
+            for (CareerModel career : careers) {
+                uniqueCareers.put(career.name, career);
+            }
+        }
+        this.careers = uniqueCareers.values().toArray(new CareerModel[0]);
+
+        HashMap<String, Integer> ids = new HashMap<>();
+        LinkedHashMap<String, List<Integer>> categoryIds = new LinkedHashMap<>();
+        LinkedHashMap<String, LinkedHashMap<String, List<Integer>>> fieldIds =
+                new LinkedHashMap<>();
+        EnumMap<Riasec, List<CareerModel>> riasecCareers = new EnumMap<>(Riasec.class);
+        for (Riasec riasec : Riasec.values()) {
+            riasecCareers.put(riasec, new ArrayList<>());
+        }
+
+        for (int id = 0; id < this.careers.length; id++) {
+            CareerModel career = this.careers[id];
+            career.category = intern(career.category);
+            career.field = intern(career.field);
+
+            ids.put(career.name, id);
+            categoryIds.computeIfAbsent(career.category, k -> new ArrayList<>()).add(id);
+            fieldIds.computeIfAbsent(career.category, k -> new LinkedHashMap<>())
+                    .computeIfAbsent(career.field, k -> new ArrayList<>()).add(id);
+            if (career.riasecCategory != null) {
+                riasecCareers.get(career.riasecCategory).add(career);
+            }
+        }
+
+        // Freeze the indexes
+        this.ids = Collections.unmodifiableMap(ids);
+
+        HashMap<String, int[]> frozenCategoryIds = new HashMap<>();
+        for (Map.Entry<String, List<Integer>> entry : categoryIds.entrySet()) {
+            frozenCategoryIds.put(entry.getKey(), toArray(entry.getValue()));
+        }
+        this.categoryIds = Collections.unmodifiableMap(frozenCategoryIds);
+        this.categories = Collections.unmodifiableSet(new LinkedHashSet<>(categoryIds.keySet()));
+
+        HashMap<String, Map<String, int[]>> frozenFieldIds = new HashMap<>();
+        HashMap<String, Set<String>> frozenFields = new HashMap<>();
+        for (Map.Entry<String, LinkedHashMap<String, List<Integer>>> category
+                : fieldIds.entrySet()) {
+            HashMap<String, int[]> categoryFields = new HashMap<>();
+            for (Map.Entry<String, List<Integer>> field : category.getValue().entrySet()) {
+                categoryFields.put(field.getKey(), toArray(field.getValue()));
+            }
+            frozenFieldIds.put(category.getKey(), Collections.unmodifiableMap(categoryFields));
+            frozenFields.put(category.getKey(), Collections.unmodifiableSet(
+                    new LinkedHashSet<>(category.getValue().keySet())));
+        }
+        this.fieldIds = Collections.unmodifiableMap(frozenFieldIds);
+        this.fields = Collections.unmodifiableMap(frozenFields);
+
+        for (Riasec riasec : Riasec.values()) {
+            riasecCareers.put(riasec, Collections.unmodifiableList(riasecCareers.get(riasec)));
+        }
+        this.riasecCareers = Collections.unmodifiableMap(riasecCareers);
+    }
+
+    private static String intern(String value) {
+        return value == null ? null : value.intern();
+    }
+
+    private static int[] toArray(List<Integer> list) {
+        int[] array = new int[list.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = list.get(i);
+        }
+        return array;
+    }
+
+    /**
+     * Get the number of careers in the catalog.
+     * @return the number of careers
+     */
+    public int size() {
+        return careers.length;
+    }
+
+    /**
+     * Get a career by its id.
+     * @param id of the career
+     * @return the career
+     */
+    public CareerModel getCareer(int id) {
+        return careers[id];
+    }
+
+    /**
+     * Get every career, ordered by id.
+     * @return a copy of the careers
+     */
+    public CareerModel[] getCareers() {
+        return careers.clone();
+    }
+
+    /**
+     * Look up the id of a career by name.
+     * @param name of the career
+     * @return the id of the career, or -1 if there isn't one by that name
+     */
+    public int getId(String name) {
+        Integer id = ids.get(name);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Get the unique categories, in the order they first appear.
+     * @return an unmodifiable set of categories
+     */
+    public Set<String> getCategories() {
+        return categories;
+    }
+
+    /**
+     * Get the unique fields of a category, in the order they first appear.
+     * @param category the fields belong to
+     * @return an unmodifiable set of fields. Empty if the category doesn't exist
+     */
+    public Set<String> getFields(String category) {
+        Set<String> categoryFields = fields.get(category);
+        return categoryFields == null ? Collections.emptySet() : categoryFields;
+    }
+
+    /**
+     * Get the ids of the careers that belong to a category and field.
+     * @param category to filter by
+     * @param field to filter by, or ALL_FIELDS for the entire category
+     * @return a copy of the ids. Empty if the category or field doesn't exist
+     */
+    public int[] getCareerIds(String category, String field) {
+        int[] ids;
+        if (ALL_FIELDS.equals(field)) {
+            ids = categoryIds.get(category);
+        } else {
+            Map<String, int[]> categoryFields = fieldIds.get(category);
+            ids = categoryFields == null ? null : categoryFields.get(field);
+        }
+        return ids == null ? NO_IDS : ids.clone();
+    }
+
+    /**
+     * Get the names of the careers that belong to a category and field.
+     * @param category to filter by
+     * @param field to filter by, or ALL_FIELDS for the entire category
+     * @return a new, modifiable set of career names
+     */
+    public Set<String> getCareerNames(String category, String field) {
+        int[] ids = getCareerIds(category, field);
+        Set<String> names = new HashSet<>();
+        for (int id : ids) {
+            names.add(careers[id].name);
+        }
+        return names;
+    }
+
+    /**
+     * Get the careers of a RIASEC category.
+     * @param category to get careers of
+     * @return an unmodifiable list of careers, ordered by id
+     */
+    public List<CareerModel> getCareers(Riasec category) {
+        return riasecCareers.get(category);
+    }
+}
@@ -77,4 +77,9 @@ public class CareerDescriptionModel implements SceneModel {
     public String toString() {
         return "Career Description Scene";
     }
-}
\ No newline at end of file
+
+    @Override
+    public SceneKind getKind() {
+        return SceneKind.CAREER_DESCRIPTION;
+    }
+}
@@ -7,32 +7,70 @@ import java.io.FileNotFoundException;
 import java.io.FileReader;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import kiosk.Doctor;
+import kiosk.FlightEvents;
 import kiosk.Riasec;
 
 public class CareerModelLoader {
 
     public static final String DEFAULT_CAREERS_CSV_PATH = "careers.csv";
     public static final String DEFAULT_IMAGE_PATH = "assets/default.png";
+    public static final String SNAPSHOT_EXTENSION = ".snapshot";
     private static final int COLUMN_COUNT = 6;
+    // Number of rows whose images are checked together on a background thread
+    private static final int CHUNK_SIZE = 64;
 
     private final File csvFile;
+    private final File snapshotFile;
     private final Doctor doctor;
     private final HashMap<String, Integer> categories;
     private final HashMap<String, Integer> fields;
+    // Every issue given to the doctor, so they can be saved in the snapshot
+    private final ArrayList<String[]> diagnoses;
+    // K: image path V: whether the image exists
+    private final ConcurrentHashMap<String, Boolean> imageExists;
+    private final ConcurrentHashMap<File, Boolean> imageDirectories;
 
     /**
-     * Loads careers, and validates it.l
+     * Loads careers, and validates it.
      *
      * @param csvFile to load from
      */
     public CareerModelLoader(File csvFile) {
+        this(csvFile, null);
+    }
+
+    /**
+     * Loads careers, and validates it.
+     *
+     * @param csvFile to load from
+     * @param useSnapshot true to save the careers to a snapshot next to the
+     *     CSV, so they load faster next time. Only the kiosk should
+     */
+    public CareerModelLoader(File csvFile, boolean useSnapshot) {
+        this(csvFile, useSnapshot ? new File(csvFile.getPath() + SNAPSHOT_EXTENSION) : null);
+    }
+
+    /**
+     * Loads careers, and validates it.
+     *
+     * @param csvFile to load from
+     * @param snapshotFile to save the careers to, or null to always parse the CSV
+     */
+    public CareerModelLoader(File csvFile, File snapshotFile) {
         this.csvFile = csvFile;
+        this.snapshotFile = snapshotFile;
         this.doctor = new Doctor();
         this.categories = new HashMap<>();
         this.fields = new HashMap<>();
+        this.diagnoses = new ArrayList<>();
+        this.imageExists = new ConcurrentHashMap<>();
+        this.imageDirectories = new ConcurrentHashMap<>();
     }
 
     public boolean hasIssues() {
@@ -46,46 +84,68 @@ public class CareerModelLoader {
     /**
      * Loads the careers. Does not throw on IO exceptions. Will
      * return a valid careers array (even if it's a length of 0).
+     * If the CSV hasn't changed since the last load, the careers
+     * and issues are read from the snapshot instead.
      *
      * @return a list of careers loaded from disk
      */
     public CareerModel[] load() {
+        long startNanos = System.nanoTime();
+        CareerModel[] careers = loadCareers();
+        FlightEvents.careersLoad(csvFile.getPath(), careers.length, startNanos);
+        return careers;
+    }
+
+    private CareerModel[] loadCareers() {
         if (!this.csvFile.exists()) {
             createBlankCsv();
         }
 
-        LinkedList<CareerModel> careers = new LinkedList<>();
+        if (snapshotFile != null) {
+            CareerSnapshot snapshot = CareerSnapshot.read(snapshotFile, csvFile);
+            if (snapshot != null) {
+                for (String[] diagnosis : snapshot.diagnoses) {
+                    diagnose(diagnosis[0], diagnosis[1]);
+                }
+                return snapshot.careers;
+            }
+        }
+
+        // Read the rows a chunk at a time. Each chunk's images are checked on a
+        // background thread while the chunk before it is conformed
+        ArrayList<CareerModel> careers = new ArrayList<>();
+        int lastRowNumber = 0;
+        List<String[]> chunk = new ArrayList<>(CHUNK_SIZE);
+        List<String[]> checkingChunk = new ArrayList<>(0);
+        CompletableFuture<Void> checkingImages = CompletableFuture.completedFuture(null);
         try (CSVReader reader = new CSVReader(new FileReader(csvFile))) {
             // Discard the first row because it's the header
             if (reader.peek() != null) {
                 reader.readNext();
             }
 
-            for (int rowNumber = 1; reader.peek() != null; rowNumber++) {
-                String[] row = reader.readNext();
-
-                if (validateRow(rowNumber, row)) {
-                    // Create a careerModel and conform values
-                    CareerModel career = new CareerModel();
-                    career.category = conformCategory(rowNumber, row[0]);
-                    career.field = conformField(rowNumber, row[1]);
-                    career.riasecCategory = conformHollandCode(rowNumber, row[2]);
-                    career.name = conformName(rowNumber, row[3]);
-                    career.description = conformDescription(rowNumber, row[4]);
-                    career.imagePath = conformImagePath(rowNumber, row[5]);
-
-                    // Add to list
-                    careers.add(career);
+            while (reader.peek() != null) {
+                chunk.add(reader.readNext());
+                if (chunk.size() == CHUNK_SIZE) {
+                    CompletableFuture<Void> chunkImages = checkImages(chunk);
+                    lastRowNumber = conformRows(checkingChunk, checkingImages, lastRowNumber,
+                            careers);
+                    checkingChunk = chunk;
+                    checkingImages = chunkImages;
+                    chunk = new ArrayList<>(CHUNK_SIZE);
                 }
             }
 
         } catch (IOException | CsvValidationException e) {
             // Do nothing
         }
+        // Chunks are conformed in order, so the issues are reported in order
+        lastRowNumber = conformRows(checkingChunk, checkingImages, lastRowNumber, careers);
+        conformRows(chunk, checkImages(chunk), lastRowNumber, careers);
 
         // Warn the user that there are no careers
         if (careers.size() == 0) {
-            doctor.diagnose("The careers file is empty at " + csvFile.getPath(),
+            diagnose("The careers file is empty at " + csvFile.getPath(),
                     "Add careers. Check sample_careers.csv for inspiration");
         }
 
@@ -95,14 +155,77 @@ public class CareerModelLoader {
         validateCategories();
         validateFields();
 
-        // Convert to primitive array and return
-        CareerModel[] careersResult = new CareerModel[careers.size()];
-        for (int i = 0; !careers.isEmpty(); i++) {
-            careersResult[i] = careers.pop();
+        CareerModel[] careersResult = careers.toArray(new CareerModel[0]);
+
+        // An empty file is quick to parse, so only save careers worth skipping
+        if (snapshotFile != null && careersResult.length > 0) {
+            CareerSnapshot.write(snapshotFile, csvFile, careersResult, diagnoses,
+                    imageDirectories.keySet());
         }
         return careersResult;
     }
 
+    /**
+     * Check whether the images of some rows exist on a background thread.
+     * @param rows to check the images of
+     * @return a future that completes once every image is checked
+     */
+    private CompletableFuture<Void> checkImages(List<String[]> rows) {
+        ArrayList<String> paths = new ArrayList<>();
+        for (String[] row : rows) {
+            if (row.length == COLUMN_COUNT && !row[5].isEmpty()
+                    && imageExists.putIfAbsent(row[5], false) == null) {
+                paths.add(row[5]);
+            }
+        }
+
+        return CompletableFuture.runAsync(() -> {
+            for (String path : paths) {
+                File file = new File(path);
+                imageExists.put(path, file.exists());
+                imageDirectories.put(file.getAbsoluteFile().getParentFile(), Boolean.TRUE);
+            }
+        });
+    }
+
+    /**
+     * Conform rows into careers once their images have been checked.
+     * @param rows to conform
+     * @param imageCheck of the rows
+     * @param lastRowNumber of the row before the first of these rows
+     * @param careers to add the rows' careers to
+     * @return the row number of the last of these rows
+     */
+    private int conformRows(List<String[]> rows, CompletableFuture<Void> imageCheck,
+                            int lastRowNumber, List<CareerModel> careers) {
+        imageCheck.join();
+
+        int rowNumber = lastRowNumber;
+        for (String[] row : rows) {
+            rowNumber++;
+
+            if (validateRow(rowNumber, row)) {
+                // Create a careerModel and conform values
+                CareerModel career = new CareerModel();
+                career.category = conformCategory(rowNumber, row[0]);
+                career.field = conformField(rowNumber, row[1]);
+                career.riasecCategory = conformHollandCode(rowNumber, row[2]);
+                career.name = conformName(rowNumber, row[3]);
+                career.description = conformDescription(rowNumber, row[4]);
+                career.imagePath = conformImagePath(rowNumber, row[5]);
+
+                // Add to list
+                careers.add(career);
+            }
+        }
+        return rowNumber;
+    }
+
+    private void diagnose(String problem, String solution) {
+        diagnoses.add(new String[] { problem, solution });
+        doctor.diagnose(problem, solution);
+    }
+
     private void createBlankCsv() {
         try (PrintWriter printWriter = new PrintWriter(this.csvFile)) {
             printWriter.println(
@@ -124,7 +247,7 @@ public class CareerModelLoader {
                     + " should have " + COLUMN_COUNT + " columns.";
             String solution = "Make sure there is a column for "
                     + "category, field, holland code, name, description, and image path.";
-            doctor.diagnose(problem, solution);
+            diagnose(problem, solution);
             return false;
         }
 
@@ -137,7 +260,7 @@ public class CareerModelLoader {
             String problem = "Row " + rowNumber + " of " + csvFile.getName()
                     + " should not have a blank category name.";
             String solution = "Add a category name";
-            doctor.diagnose(problem, solution);
+            diagnose(problem, solution);
 
             return "CategoryRow" + rowNumber;
         }
@@ -151,7 +274,7 @@ public class CareerModelLoader {
             String problem = "Row " + rowNumber + " of " + csvFile.getName()
                     + " should not have a blank field name.";
             String solution = "Add a field name";
-            doctor.diagnose(problem, solution);
+            diagnose(problem, solution);
 
             return "FieldRow" + rowNumber;
         }
@@ -174,7 +297,7 @@ public class CareerModelLoader {
                     + Riasec.Social.name() + ", "
                     + Riasec.Enterprising.name() + ", or "
                     + Riasec.Conventional.name();
-            doctor.diagnose(problem, solution);
+            diagnose(problem, solution);
         }
 
         return value;
@@ -185,7 +308,7 @@ public class CareerModelLoader {
             String problem = "Row " + rowNumber + " of " + csvFile.getName()
                     + " should not have a blank career name.";
             String solution = "Add a career name";
-            doctor.diagnose(problem, solution);
+            diagnose(problem, solution);
 
             return "CareerNameRow" + rowNumber;
         }
@@ -198,7 +321,7 @@ public class CareerModelLoader {
             String problem = "Row " + rowNumber + " of " + csvFile.getName()
                     + " should not have a blank career description.";
             String solution = "Add a career description";
-            doctor.diagnose(problem, solution);
+            diagnose(problem, solution);
 
             return "Career Description Row" + rowNumber;
         }
@@ -212,15 +335,14 @@ public class CareerModelLoader {
             return DEFAULT_IMAGE_PATH;
         }
 
-        // Make sure the image exists
-        File file = new File(imagePath);
-        if (file.exists()) {
+        // Make sure the image exists. It was checked while the CSV was read
+        if (imageExists.get(imagePath)) {
             return imagePath;
         } else {
             String problem = "Row " + rowNumber + " of " + csvFile.getName()
                     + " image not in assets folder";
-            String solution = "Add an image to " + file.getAbsolutePath();
-            doctor.diagnose(problem, solution);
+            String solution = "Add an image to " + new File(imagePath).getAbsolutePath();
+            diagnose(problem, solution);
             return DEFAULT_IMAGE_PATH;
         }
     }
@@ -231,7 +353,7 @@ public class CareerModelLoader {
                 String problem = "There is only one career in the category '"
                         + category + "'. Is this intentional?";
                 String solution = "Grouping careers under the same category let you filter them";
-                doctor.diagnose(problem, solution);
+                diagnose(problem, solution);
             }
         }
     }
@@ -242,7 +364,7 @@ public class CareerModelLoader {
                 String problem = "There is only one career in the field '"
                         + field + "'. Is this intentional?";
                 String solution = "Grouping careers under the same field let you filter them";
-                doctor.diagnose(problem, solution);
+                diagnose(problem, solution);
             }
         }
     }
@@ -86,4 +86,9 @@ public class CareerPathwaySceneModel implements SceneModel {
     public String toString() {
         return "Career Pathway Scene";
     }
+
+    @Override
+    public SceneKind getKind() {
+        return SceneKind.CAREER_PATHWAY;
+    }
 }
@@ -0,0 +1,190 @@
+package kiosk.models;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import kiosk.Riasec;
+
+/**
+ * A compact binary copy of the careers loaded from a CSV, along with the
+ * issues the Doctor found while loading them. A snapshot is only valid while
+ * the CSV has the same size and modification time, and the directories the
+ * images were looked up in haven't changed since it was written.
+ */
+final class CareerSnapshot {
+
+    private static final int MAGIC = 0x4B43534E; // "KCSN"
+    private static final int VERSION = 1;
+    // Strings written for each career
+    private static final int CAREER_FIELDS = 6;
+
+    final CareerModel[] careers;
+    // Each diagnosis is a { problem, solution } pair, in the order they were found
+    final List<String[]> diagnoses;
+
+    private CareerSnapshot(CareerModel[] careers, List<String[]> diagnoses) {
+        this.careers = careers;
+        this.diagnoses = diagnoses;
+    }
+
+    /**
+     * Read a snapshot of the CSV provided.
+     * @param snapshotFile to read
+     * @param csvFile the snapshot must have been made from
+     * @return the snapshot, or null if it's missing, corrupt or out of date
+     */
+    static CareerSnapshot read(File snapshotFile, File csvFile) {
+        if (!snapshotFile.exists()) {
+            return null;
+        }
+
+        // Read from memory, so every length can be checked against the bytes left
+        try (DataInputStream in = new DataInputStream(
+                new ByteArrayInputStream(Files.readAllBytes(snapshotFile.toPath())))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                return null;
+            }
+
+            // The diagnoses mention the path of the CSV and the working directory
+            if (!readString(in).equals(csvFile.getPath())
+                    || !readString(in).equals(getWorkingDirectory())
+                    || in.readLong() != csvFile.length()
+                    || in.readLong() != csvFile.lastModified()) {
+                return null;
+            }
+
+            // Adding or removing an image changes the modification time of its directory
+            int directoryCount = readCount(in, Integer.BYTES + Long.BYTES);
+            for (int i = 0; i < directoryCount; i++) {
+                File directory = new File(readString(in));
+                if (in.readLong() != directory.lastModified()) {
+                    return null;
+                }
+            }
+
+            CareerModel[] careers = new CareerModel[readCount(in, CAREER_FIELDS * Integer.BYTES)];
+            for (int i = 0; i < careers.length; i++) {
+                CareerModel career = new CareerModel();
+                career.category = readString(in);
+                career.field = readString(in);
+                career.riasecCategory = Riasec.valueOf(readString(in));
+                career.name = readString(in);
+                career.description = readString(in);
+                career.imagePath = readString(in);
+                careers[i] = career;
+            }
+
+            int diagnosisCount = readCount(in, 2 * Integer.BYTES);
+            List<String[]> diagnoses = new ArrayList<>(diagnosisCount);
+            for (int i = 0; i < diagnosisCount; i++) {
+                diagnoses.add(new String[] { readString(in), readString(in) });
+            }
+
+            return new CareerSnapshot(careers, diagnoses);
+        } catch (IOException | RuntimeException e) {
+            // Corrupt, e.g. an unknown holland code or a length past the end
+            return null;
+        }
+    }
+
+    /**
+     * Write a snapshot of the careers loaded from a CSV. Failing to write
+     * is not an error, the CSV will just be parsed again next time.
+     * @param snapshotFile to write
+     * @param csvFile the careers were loaded from
+     * @param careers that were loaded
+     * @param diagnoses found while loading
+     * @param imageDirectories that images were looked up in
+     */
+    static void write(File snapshotFile, File csvFile, CareerModel[] careers,
+                      List<String[]> diagnoses, Collection<File> imageDirectories) {
+        // Write to a temporary file first, so a crash never leaves half a snapshot
+        File tempFile = new File(snapshotFile.getPath() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+
+            writeString(out, csvFile.getPath());
+            writeString(out, getWorkingDirectory());
+            out.writeLong(csvFile.length());
+            out.writeLong(csvFile.lastModified());
+
+            out.writeInt(imageDirectories.size());
+            for (File directory : imageDirectories) {
+                writeString(out, directory.getPath());
+                out.writeLong(directory.lastModified());
+            }
+
+            out.writeInt(careers.length);
+            for (CareerModel career : careers) {
+                writeString(out, career.category);
+                writeString(out, career.field);
+                writeString(out, career.riasecCategory.name());
+                writeString(out, career.name);
+                writeString(out, career.description);
+                writeString(out, career.imagePath);
+            }
+
+            out.writeInt(diagnoses.size());
+            for (String[] diagnosis : diagnoses) {
+                writeString(out, diagnosis[0]);
+                writeString(out, diagnosis[1]);
+            }
+        } catch (IOException e) {
+            System.err.println("Could not write the careers snapshot to " + snapshotFile.getPath());
+            tempFile.delete();
+            return;
+        }
+
+        try {
+            Files.move(tempFile.toPath(), snapshotFile.toPath(),
+                    StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            System.err.println("Could not write the careers snapshot to " + snapshotFile.getPath());
+            tempFile.delete();
+        }
+    }
+
+    private static String getWorkingDirectory() {
+        return new File("").getAbsolutePath();
+    }
+
+    // Unlike writeUTF, these aren't limited to 64KB, so long descriptions fit
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        // available() is exact, since the snapshot is read from memory
+        if (length < 0 || length > in.available()) {
+            throw new IOException("A string of " + length + " bytes doesn't fit in the "
+                    + in.available() + " bytes left");
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int readCount(DataInputStream in, int minBytesEach) throws IOException {
+        int count = in.readInt();
+        if (count < 0 || count > in.available() / minBytesEach) {
+            throw new IOException(count + " items of at least " + minBytesEach
+                    + " bytes don't fit in the " + in.available() + " bytes left");
+        }
+        return count;
+    }
+}
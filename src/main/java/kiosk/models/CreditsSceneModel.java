@@ -74,5 +74,9 @@ public class CreditsSceneModel implements SceneModel {
     public String toString() {
         return "Credits Scene";
     }
-}
 
+    @Override
+    public SceneKind getKind() {
+        return SceneKind.CREDITS;
+    }
+}
@@ -62,4 +62,9 @@ public class DefaultSceneModel implements SceneModel {
     public String[] getTargets() {
         return new String[0];
     }
+
+    @Override
+    public SceneKind getKind() {
+        return SceneKind.DEFAULT;
+    }
 }
@@ -80,4 +80,9 @@ public class DetailsSceneModel implements SceneModel {
     public String toString() {
         return "Details Scene";
     }
+
+    @Override
+    public SceneKind getKind() {
+        return SceneKind.DETAILS;
+    }
 }
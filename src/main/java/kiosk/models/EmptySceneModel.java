@@ -71,4 +71,9 @@ public class EmptySceneModel implements SceneModel {
     public String toString() {
         return "Empty Scene";
     }
+
+    @Override
+    public SceneKind getKind() {
+        return SceneKind.EMPTY;
+    }
 }
@@ -98,4 +98,9 @@ public class ErrorSceneModel implements SceneModel {
     public String toString() {
         return "Error Scene";
     }
+
+    @Override
+    public SceneKind getKind() {
+        return SceneKind.ERROR;
+    }
 }
@@ -5,24 +5,33 @@ import java.beans.XMLEncoder;
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
+import kiosk.FlightEvents;
 import kiosk.Riasec;
 
 public class LoadedSurveyModel implements Serializable {
 
+    // Added to the path of an XML survey to get the path of its binary copy
+    public static final String SNAPSHOT_EXTENSION = ".snapshot";
+
     public String rootSceneId;
     public SceneModel[] scenes;
 
@@ -114,27 +123,70 @@ public class LoadedSurveyModel implements Serializable {
     }
 
     /**
-     * Reads the survey as XML from the specified file.
+     * Writes the survey in the binary format to the specified file.
+     * Binary surveys are much faster to load than XML, but can't be
+     * edited by hand.
+     * @param file to write the survey to
+     * @return true if successful, false otherwise
+     */
+    public boolean writeToBinaryFile(File file) {
+        try (OutputStream stream = new BufferedOutputStream(new FileOutputStream(file))) {
+            SurveyCodec.write(this, stream);
+            return true;
+        } catch (IOException | IllegalArgumentException exc) {
+            System.err.println("Could not write survey to '" + file.getPath()
+                    + "': " + exc.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Reads the survey from the specified file. Both XML and binary surveys
+     * can be read.
      * @param file to read the survey from
      * @return a valid survey, always (i.e. never null)
      */
     public static LoadedSurveyModel readFromFile(File file) {
-        try (XMLDecoder decoder = new XMLDecoder(
-                new BufferedInputStream(new FileInputStream(file)))) {
-            decoder.setExceptionListener(ex -> {
-                throw new RuntimeException("Malformed XML Dataset");
-            });
-            Object surveyObject = decoder.readObject();
-            if (!(surveyObject instanceof LoadedSurveyModel)) {
-                String errorMsg = "Successfully loaded the survey XML, but\n"
-                        + "the root object is not of the type 'LoadedSurveyModel'";
-                ErrorSceneModel defaultScene = new ErrorSceneModel(errorMsg);
-                ArrayList<SceneModel> defaultSceneList = new ArrayList<SceneModel>();
-                defaultSceneList.add(defaultScene);
-                LoadedSurveyModel errorSurvey = new LoadedSurveyModel(defaultSceneList);
-                return errorSurvey;
+        return readFromFile(file, false);
+    }
+
+    /**
+     * Reads the survey from the specified file. Both XML and binary surveys
+     * can be read.
+     * @param file to read the survey from
+     * @param useSnapshot true to convert XML surveys to binary and save them as
+     *     a snapshot next to the XML, so they load faster until the XML is
+     *     changed. Only the kiosk should, since the editor changes the XML
+     * @return a valid survey, always (i.e. never null)
+     */
+    public static LoadedSurveyModel readFromFile(File file, boolean useSnapshot) {
+        long startNanos = System.nanoTime();
+        LoadedSurveyModel survey = read(file, useSnapshot);
+        FlightEvents.surveyLoad(file.getPath(),
+                survey.scenes == null ? 0 : survey.scenes.length, startNanos);
+        return survey;
+    }
+
+    private static LoadedSurveyModel read(File file, boolean useSnapshot) {
+        try {
+            if (isBinaryFile(file)) {
+                return readBinary(file);
             }
-            return (LoadedSurveyModel) surveyObject;
+
+            File snapshotFile = new File(file.getPath() + SNAPSHOT_EXTENSION);
+            LoadedSurveyModel survey = useSnapshot ? readSnapshot(snapshotFile, file) : null;
+            if (survey == null) {
+                survey = readXml(file);
+                if (survey == null) {
+                    String errorMsg = "Successfully loaded the survey XML, but\n"
+                            + "the root object is not of the type 'LoadedSurveyModel'";
+                    return createErrorSurvey(errorMsg);
+                }
+                if (useSnapshot) {
+                    writeSnapshot(snapshotFile, file, survey);
+                }
+            }
+            return survey;
         } catch (FileNotFoundException exc) {
             exc.printStackTrace();
             String errorMsg = "Could not read from survey at '" + file.getPath()
@@ -144,21 +196,93 @@ public class LoadedSurveyModel implements Serializable {
                     + "\nThe program can also be started from the command line with the command "
                     + "\n\"java -jar kiosk.jar <survey file>\""
                     + "\nwhere <survey file> is the path to the survey file.";
-            ErrorSceneModel defaultScene = new ErrorSceneModel(errorMsg);
-            ArrayList<SceneModel> defaultSceneList = new ArrayList<SceneModel>();
-            defaultSceneList.add(defaultScene);
-            LoadedSurveyModel errorSurvey = new LoadedSurveyModel(defaultSceneList);
-            return errorSurvey;
+            return createErrorSurvey(errorMsg);
         } catch (Exception e) {
             e.printStackTrace();
             String errorMsg = "Could not read from survey at '" + file.getPath()
-                    + "'\nThe XML is probably deformed in some way."
+                    + "'\nThe file is probably deformed in some way."
                     + "\nRefer to the console for more specific details.";
-            ErrorSceneModel defaultScene = new ErrorSceneModel(errorMsg);
-            ArrayList<SceneModel> defaultSceneList = new ArrayList<SceneModel>();
-            defaultSceneList.add(defaultScene);
-            LoadedSurveyModel errorSurvey = new LoadedSurveyModel(defaultSceneList);
-            return errorSurvey;
+            return createErrorSurvey(errorMsg);
+        }
+    }
+
+    private static LoadedSurveyModel createErrorSurvey(String errorMsg) {
+        ErrorSceneModel defaultScene = new ErrorSceneModel(errorMsg);
+        ArrayList<SceneModel> defaultSceneList = new ArrayList<SceneModel>();
+        defaultSceneList.add(defaultScene);
+        return new LoadedSurveyModel(defaultSceneList);
+    }
+
+    private static boolean isBinaryFile(File file) throws IOException {
+        try (DataInputStream stream = new DataInputStream(new FileInputStream(file))) {
+            return SurveyCodec.isBinary(stream.readInt());
+        } catch (EOFException exc) {
+            // Too short to be anything but XML
+            return false;
+        }
+    }
+
+    private static LoadedSurveyModel readBinary(File file) throws IOException {
+        try (InputStream stream = new BufferedInputStream(new FileInputStream(file))) {
+            return SurveyCodec.read(stream);
+        }
+    }
+
+    /**
+     * Decodes the XML survey.
+     * @return the survey, or null if the XML isn't a survey
+     */
+    private static LoadedSurveyModel readXml(File file) throws FileNotFoundException {
+        try (XMLDecoder decoder = new XMLDecoder(
+                new BufferedInputStream(new FileInputStream(file)))) {
+            decoder.setExceptionListener(ex -> {
+                throw new RuntimeException("Malformed XML Dataset");
+            });
+            Object surveyObject = decoder.readObject();
+            if (!(surveyObject instanceof LoadedSurveyModel)) {
+                return null;
+            }
+            return (LoadedSurveyModel) surveyObject;
+        }
+    }
+
+    /**
+     * Reads the binary copy of an XML survey.
+     * @return the survey, or null if the snapshot is missing, corrupt, or
+     *     the XML has changed since it was written
+     */
+    private static LoadedSurveyModel readSnapshot(File snapshotFile, File xmlFile) {
+        if (!snapshotFile.exists()) {
+            return null;
+        }
+
+        try (DataInputStream stream = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(snapshotFile)))) {
+            if (stream.readLong() != xmlFile.length()
+                    || stream.readLong() != xmlFile.lastModified()) {
+                return null;
+            }
+            return SurveyCodec.read(stream);
+        } catch (IOException | RuntimeException exc) {
+            return null;
+        }
+    }
+
+    private static void writeSnapshot(File snapshotFile, File xmlFile, LoadedSurveyModel survey) {
+        // Write to a temporary file first, so a crash never leaves half a snapshot
+        File tempFile = new File(snapshotFile.getPath() + ".tmp");
+        try {
+            try (DataOutputStream stream = new DataOutputStream(
+                    new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+                stream.writeLong(xmlFile.length());
+                stream.writeLong(xmlFile.lastModified());
+                SurveyCodec.write(survey, stream);
+            }
+            Files.move(tempFile.toPath(), snapshotFile.toPath(),
+                    StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | IllegalArgumentException exc) {
+            // The XML will just be decoded again next time
+            tempFile.delete();
         }
     }
 
@@ -196,58 +320,16 @@ public class LoadedSurveyModel implements Serializable {
      */
     @SuppressWarnings("checkstyle:VariableDeclarationUsageDistance")
     public static LoadedSurveyModel createSampleSurvey() {
-        HashMap<String, FilterGroupModel> fieldFilters = new HashMap<>();
-        HashMap<String, FilterGroupModel> categoryFilters = new HashMap<>();
-
         // Load careers from CSV
         CareerModelLoader loader =
                 new CareerModelLoader(new File(CareerModelLoader.DEFAULT_CAREERS_CSV_PATH));
-
-        CareerModel[] careers = loader.load();
-
-        LinkedList<String> fields = new LinkedList<>();
-        LinkedList<String> categories = new LinkedList<>();
-
-        // Find the unique fields and categories
-        {
-            HashSet<String> fieldsSet = new HashSet<>();
-            HashSet<String> categoriesSet = new HashSet<>();
-
-            for (CareerModel career : careers) {
-                if (!fieldsSet.contains(career.field)) {
-                    fields.add(career.field);
-                    fieldsSet.add(career.field);
-                }
-                if (!categoriesSet.contains(career.category)) {
-                    categories.add(career.category);
-                    categoriesSet.add(career.category);
-                }
-            }
-        }
+        CareerCatalog catalog = new CareerCatalog(loader.load());
 
         // Create filters based off of the careers
-        for (CareerModel career : careers) {
-            FilterGroupModel fieldFilter;
-            if (fieldFilters.containsKey(career.field)) {
-                fieldFilter = fieldFilters.get(career.field);
-                fieldFilter.category = career.category;
-                fieldFilter.field = career.field;
-            } else {
-                fieldFilter = FilterGroupModel.create();
-                fieldFilters.put(career.field, fieldFilter);
-            }
-            fieldFilter.careerNames.add(career.name);
-
-            FilterGroupModel categoryFilter;
-            if (categoryFilters.containsKey(career.category)) {
-                categoryFilter = categoryFilters.get(career.category);
-                categoryFilter.category = career.category;
-                categoryFilter.field = "All";
-            } else {
-                categoryFilter = FilterGroupModel.create();
-                categoryFilters.put(career.category, categoryFilter);
-            }
-            categoryFilter.careerNames.add(career.name);
+        HashMap<String, FilterGroupModel> categoryFilters = new HashMap<>();
+        for (String category : catalog.getCategories()) {
+            categoryFilters.put(category,
+                    createFilter(catalog, category, CareerCatalog.ALL_FIELDS));
         }
 
         // Create scenes
@@ -277,9 +359,9 @@ public class LoadedSurveyModel implements Serializable {
                 + "What challenges do you want to take on?";
         categoryScene.actionPhrase = "Choose one of the Icons. Explore different paths.\n"
                 + "You can always go back and begin again";
-        categoryScene.answers = new ButtonModel[categories.size()];
+        categoryScene.answers = new ButtonModel[catalog.getCategories().size()];
         int j = 0;
-        for (String category : categories) {
+        for (String category : catalog.getCategories()) {
             ButtonModel button = new ButtonModel();
             button.text = category;
             button.target = "fieldPicker" + category;
@@ -292,9 +374,8 @@ public class LoadedSurveyModel implements Serializable {
         scenes.push(categoryScene);
 
         // Field picker for each category
-        List<CareerModel> careersList = Arrays.asList(careers);
-        for (String category : categories) {
-            scenes.push(createFieldPicker(fieldFilters, careersList, category));
+        for (String category : catalog.getCategories()) {
+            scenes.push(createFieldPicker(catalog, category));
         }
 
         // Construct a 6 question survey. One question for each category of RIASEC
@@ -346,20 +427,20 @@ public class LoadedSurveyModel implements Serializable {
         return survey;
     }
 
-    private static SceneModel createFieldPicker(HashMap<String, FilterGroupModel> fieldFilters,
-                                                List<CareerModel> careers,
-                                                String category) {
-        final int maxFields = 8;
+    private static FilterGroupModel createFilter(CareerCatalog catalog,
+                                                 String category,
+                                                 String field) {
+        FilterGroupModel filter = FilterGroupModel.create();
+        filter.category = category;
+        filter.field = field;
+        filter.careerNames = catalog.getCareerNames(category, field);
+        return filter;
+    }
 
-        List<CareerModel> categoryCareers = careers
-                .stream()
-                .filter(career -> career.category.equals(category))
-                .collect(Collectors.toList());
+    private static SceneModel createFieldPicker(CareerCatalog catalog, String category) {
+        final int maxFields = 8;
 
-        HashSet<String> uniqueFields = new HashSet<>();
-        for (CareerModel career : categoryCareers) {
-            uniqueFields.add(career.field);
-        }
+        Set<String> uniqueFields = catalog.getFields(category);
 
         PathwaySceneModel scene = new PathwaySceneModel();
 
@@ -374,7 +455,7 @@ public class LoadedSurveyModel implements Serializable {
             button.isCircle = true;
             button.text = fieldsArray[i];
             button.target = "fieldPrompt0";
-            button.filter = fieldFilters.get(fieldsArray[i]);
+            button.filter = createFilter(catalog, category, fieldsArray[i]);
             scene.buttonModels[i] = button;
         }
         scene.centerText = "Pick one!";
@@ -90,4 +90,9 @@ public class PathwaySceneModel implements SceneModel {
     public String toString() {
         return "Pathway Scene";
     }
+
+    @Override
+    public SceneKind getKind() {
+        return SceneKind.PATHWAY;
+    }
 }
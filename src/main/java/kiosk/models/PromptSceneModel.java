@@ -83,4 +83,9 @@ public final class PromptSceneModel implements SceneModel {
     public String toString() {
         return "Prompt Scene";
     }
+
+    @Override
+    public SceneKind getKind() {
+        return SceneKind.PROMPT;
+    }
 }
@@ -58,4 +58,9 @@ public final class ResetSceneModel implements SceneModel {
     public String[] getTargets() {
         return new String[0];
     }
+
+    @Override
+    public SceneKind getKind() {
+        return SceneKind.RESET;
+    }
 }
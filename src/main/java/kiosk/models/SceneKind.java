@@ -0,0 +1,46 @@
+package kiosk.models;
+
+/**
+ * The kind of a scene, so code that depends on which scene is shown can
+ * switch on it instead of matching class names. Each kind also carries
+ * hints for what is drawn on top of it.
+ */
+public enum SceneKind {
+    PROMPT,
+    SPOKE_GRAPH_PROMPT(6 / 15f, 7.5f / 15),
+    PATHWAY(9 / 15f, 5 / 6f),
+    CAREER_PATHWAY(9 / 15f, 5 / 6f),
+    CAREER_DESCRIPTION,
+    DETAILS,
+    CREDITS,
+    DEFAULT,
+    EMPTY,
+    ERROR,
+    RESET,
+    TIMEOUT(true),
+    WAVE_TRANSITION;
+
+    // Boop wanders between these fractions of the screen width
+    public final float boopMinX;
+    public final float boopMaxX;
+    // Shown on top of another scene, which stays the most recent scene
+    public final boolean isOverlay;
+
+    SceneKind() {
+        this(1 / 6f, 5 / 6f, false);
+    }
+
+    SceneKind(float boopMinX, float boopMaxX) {
+        this(boopMinX, boopMaxX, false);
+    }
+
+    SceneKind(boolean isOverlay) {
+        this(1 / 6f, 5 / 6f, isOverlay);
+    }
+
+    SceneKind(float boopMinX, float boopMaxX, boolean isOverlay) {
+        this.boopMinX = boopMinX;
+        this.boopMaxX = boopMaxX;
+        this.isOverlay = isOverlay;
+    }
+}
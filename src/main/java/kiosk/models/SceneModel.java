@@ -43,5 +43,11 @@ public interface SceneModel extends Serializable {
      */
     SceneModel deepCopy();
 
+    /**
+     * Get the kind of scene this model creates.
+     * @return the kind of scene
+     */
+    SceneKind getKind();
+
     String[] getTargets();
 }
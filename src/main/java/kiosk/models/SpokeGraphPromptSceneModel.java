@@ -108,4 +108,9 @@ public final class SpokeGraphPromptSceneModel implements SceneModel {
     public String toString() {
         return "Spoke Graph Prompt Scene";
     }
+
+    @Override
+    public SceneKind getKind() {
+        return SceneKind.SPOKE_GRAPH_PROMPT;
+    }
 }
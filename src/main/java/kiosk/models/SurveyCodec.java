@@ -0,0 +1,681 @@
+package kiosk.models;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import kiosk.Riasec;
+
+/**
+ * Reads and writes surveys in a compact, versioned binary format. Every
+ * scene model type has its own serializer that writes its fields in a fixed
+ * order, so no reflection is needed. Strings and objects are written once
+ * per stream and referred to by index afterwards. This keeps repeated career
+ * names small, and keeps objects shared between scenes shared, like XMLEncoder.
+ *
+ * <p>When a field is added to a model, bump VERSION and read the new field
+ * only when the stream's version is high enough.
+ */
+public final class SurveyCodec {
+
+    public static final int MAGIC = 0x4B535256; // "KSRV"
+    public static final int VERSION = 1;
+
+    // Written in place of a string or object index
+    private static final int NULL = -1;
+    private static final int NEW = -2;
+
+    private static final HashMap<Class<?>, Serializer<?>> serializersByType = new HashMap<>();
+    private static final HashMap<Integer, Serializer<?>> serializersByTag = new HashMap<>();
+
+    private SurveyCodec() {
+        // Static utility class
+    }
+
+    /**
+     * Writes a scene model's fields.
+     * @param <T> type of scene model
+     */
+    private interface Writer<T extends SceneModel> {
+        void write(Output out, T model) throws IOException;
+    }
+
+    /**
+     * Reads a scene model's fields, in the order they were written.
+     * @param <T> type of scene model
+     */
+    private interface Reader<T extends SceneModel> {
+        T read(Input in) throws IOException;
+    }
+
+    private static final class Serializer<T extends SceneModel> {
+        final int tag;
+        final Writer<T> writer;
+        final Reader<T> reader;
+
+        Serializer(int tag, Writer<T> writer, Reader<T> reader) {
+            this.tag = tag;
+            this.writer = writer;
+            this.reader = reader;
+        }
+
+        @SuppressWarnings("unchecked")
+        void write(Output out, SceneModel model) throws IOException {
+            writer.write(out, (T) model);
+        }
+    }
+
+    private static <T extends SceneModel> void register(int tag, Class<T> type,
+                                                        Writer<T> writer, Reader<T> reader) {
+        Serializer<T> serializer = new Serializer<>(tag, writer, reader);
+        serializersByType.put(type, serializer);
+        serializersByTag.put(tag, serializer);
+    }
+
+    // Tags are part of the format. Never reuse or renumber them
+    static {
+        register(1, PromptSceneModel.class, (out, model) -> {
+            out.writeString(model.id);
+            out.writeString(model.name);
+            out.writeString(model.title);
+            out.writeString(model.prompt);
+            out.writeString(model.actionPhrase);
+            out.writeButtons(model.answers);
+        }, in -> {
+            PromptSceneModel model = new PromptSceneModel();
+            model.id = in.readString();
+            model.name = in.readString();
+            model.title = in.readString();
+            model.prompt = in.readString();
+            model.actionPhrase = in.readString();
+            model.answers = in.readButtons();
+            return model;
+        });
+        register(2, SpokeGraphPromptSceneModel.class, (out, model) -> {
+            out.writeString(model.id);
+            out.writeString(model.name);
+            out.writeString(model.headerTitle);
+            out.writeString(model.headerBody);
+            out.writeString(model.careerCenterText);
+            out.writeString(model.promptText);
+            out.writeButtons(model.answers);
+            out.writeInts(model.answerCenterColor);
+            out.writeInts(model.careersCenterColor);
+        }, in -> {
+            SpokeGraphPromptSceneModel model = new SpokeGraphPromptSceneModel();
+            model.id = in.readString();
+            model.name = in.readString();
+            model.headerTitle = in.readString();
+            model.headerBody = in.readString();
+            model.careerCenterText = in.readString();
+            model.promptText = in.readString();
+            model.answers = in.readButtons();
+            model.answerCenterColor = in.readInts();
+            model.careersCenterColor = in.readInts();
+            return model;
+        });
+        register(3, PathwaySceneModel.class, (out, model) -> {
+            out.writeString(model.id);
+            out.writeString(model.name);
+            out.writeString(model.headerTitle);
+            out.writeString(model.headerBody);
+            out.writeString(model.centerText);
+            out.writeButtons(model.buttonModels);
+            out.writeInts(model.centerColor);
+        }, in -> {
+            PathwaySceneModel model = new PathwaySceneModel();
+            model.id = in.readString();
+            model.name = in.readString();
+            model.headerTitle = in.readString();
+            model.headerBody = in.readString();
+            model.centerText = in.readString();
+            model.buttonModels = in.readButtons();
+            model.centerColor = in.readInts();
+            return model;
+        });
+        register(4, CareerPathwaySceneModel.class, (out, model) -> {
+            out.writeString(model.id);
+            out.writeString(model.name);
+            out.writeString(model.centerText);
+            out.writeString(model.headerTitle);
+            out.writeString(model.headerBody);
+            out.writeCareers(model.careers);
+            out.writeInts(model.centerColor);
+        }, in -> {
+            CareerPathwaySceneModel model = new CareerPathwaySceneModel();
+            model.id = in.readString();
+            model.name = in.readString();
+            model.centerText = in.readString();
+            model.headerTitle = in.readString();
+            model.headerBody = in.readString();
+            model.careers = in.readCareers();
+            model.centerColor = in.readInts();
+            return model;
+        });
+        register(5, CareerDescriptionModel.class, (out, model) -> {
+            out.writeString(model.id);
+            out.writeString(model.name);
+            out.writeString(model.title);
+            out.writeString(model.body);
+            out.writeCareer(model.careerModel);
+            out.writeButton(model.button);
+            out.writeImage(model.image);
+        }, in -> {
+            CareerDescriptionModel model = new CareerDescriptionModel();
+            model.id = in.readString();
+            model.name = in.readString();
+            model.title = in.readString();
+            model.body = in.readString();
+            model.careerModel = in.readCareer();
+            model.button = in.readButton();
+            model.image = in.readImage();
+            return model;
+        });
+        register(6, DetailsSceneModel.class, (out, model) -> {
+            out.writeString(model.id);
+            out.writeString(model.name);
+            out.writeString(model.title);
+            out.writeString(model.body);
+            out.writeButtons(model.targets);
+        }, in -> {
+            DetailsSceneModel model = new DetailsSceneModel();
+            model.id = in.readString();
+            model.name = in.readString();
+            model.title = in.readString();
+            model.body = in.readString();
+            model.targets = in.readButtons();
+            return model;
+        });
+        register(7, CreditsSceneModel.class, (out, model) -> {
+            out.writeString(model.id);
+            out.writeString(model.name);
+            out.writeString(model.title);
+            out.writeString(model.creatorTitle);
+            out.writeString(model.creators);
+            out.writeString(model.supporterTitle);
+            out.writeString(model.supporters);
+        }, in -> {
+            CreditsSceneModel model = new CreditsSceneModel();
+            model.id = in.readString();
+            model.name = in.readString();
+            model.title = in.readString();
+            model.creatorTitle = in.readString();
+            model.creators = in.readString();
+            model.supporterTitle = in.readString();
+            model.supporters = in.readString();
+            return model;
+        });
+        register(8, TimeoutSceneModel.class, (out, model) -> {
+            out.writeString(model.id);
+            out.writeString(model.name);
+            out.writeString(model.title);
+            out.writeString(model.warning);
+            out.writeString(model.timerText);
+            out.writeImage(model.imageModel);
+        }, in -> {
+            TimeoutSceneModel model = new TimeoutSceneModel();
+            model.id = in.readString();
+            model.name = in.readString();
+            model.title = in.readString();
+            model.warning = in.readString();
+            model.timerText = in.readString();
+            model.imageModel = in.readImage();
+            return model;
+        });
+        register(9, WaveTransitionSceneModel.class, (out, model) -> {
+            out.writeString(model.id);
+            out.writeString(model.name);
+            out.writeString(model.target);
+            out.writeBoolean(model.invertedColors);
+        }, in -> {
+            WaveTransitionSceneModel model = new WaveTransitionSceneModel();
+            model.id = in.readString();
+            model.name = in.readString();
+            model.target = in.readString();
+            model.invertedColors = in.readBoolean();
+            return model;
+        });
+        register(10, ResetSceneModel.class, (out, model) -> {
+            out.writeString(model.id);
+            out.writeString(model.name);
+        }, in -> {
+            ResetSceneModel model = new ResetSceneModel();
+            model.id = in.readString();
+            model.name = in.readString();
+            return model;
+        });
+        register(11, EmptySceneModel.class, (out, model) -> {
+            out.writeString(model.id);
+            out.writeString(model.name);
+            out.writeString(model.message);
+            out.writeBoolean(model.intent);
+        }, in -> {
+            EmptySceneModel model = new EmptySceneModel();
+            model.id = in.readString();
+            model.name = in.readString();
+            model.message = in.readString();
+            model.intent = in.readBoolean();
+            return model;
+        });
+        register(12, ErrorSceneModel.class, (out, model) -> {
+            out.writeString(model.id);
+            out.writeString(model.name);
+            out.writeString(model.errorMsg);
+            out.writeString(model.intensity == null ? null : model.intensity.name());
+        }, in -> {
+            ErrorSceneModel model = new ErrorSceneModel();
+            model.id = in.readString();
+            model.name = in.readString();
+            model.errorMsg = in.readString();
+            String intensity = in.readString();
+            model.intensity = intensity == null
+                    ? null : ErrorSceneModel.ErrorIntensity.valueOf(intensity);
+            return model;
+        });
+        register(13, DefaultSceneModel.class, (out, model) -> {
+            out.writeString(model.id);
+            out.writeString(model.name);
+        }, in -> {
+            DefaultSceneModel model = new DefaultSceneModel();
+            model.id = in.readString();
+            model.name = in.readString();
+            return model;
+        });
+    }
+
+    /**
+     * Check whether a stream starts like a binary survey.
+     * @param header the first four bytes of the stream, as a big-endian int
+     * @return true if the stream is a binary survey
+     */
+    public static boolean isBinary(int header) {
+        return header == MAGIC;
+    }
+
+    /**
+     * Write a survey to a stream. The stream is not closed.
+     * @param survey to write
+     * @param stream to write to
+     * @throws IOException if the stream can't be written to
+     * @throws IllegalArgumentException if a scene has no serializer
+     */
+    public static void write(LoadedSurveyModel survey, OutputStream stream) throws IOException {
+        Output out = new Output(stream);
+        out.data.writeInt(MAGIC);
+        out.data.writeInt(VERSION);
+        out.writeString(survey.rootSceneId);
+
+        SceneModel[] scenes = survey.scenes == null ? new SceneModel[0] : survey.scenes;
+        out.data.writeInt(scenes.length);
+        for (SceneModel scene : scenes) {
+            Serializer<?> serializer = serializersByType.get(scene.getClass());
+            if (serializer == null) {
+                throw new IllegalArgumentException(
+                        "No serializer for " + scene.getClass().getSimpleName());
+            }
+            out.data.writeByte(serializer.tag);
+            serializer.write(out, scene);
+        }
+        out.data.flush();
+    }
+
+    /**
+     * Read a survey from a stream. The stream is not closed.
+     * @param stream to read from
+     * @return the survey
+     * @throws IOException if the stream isn't a binary survey, is from a newer
+     *     version of the kiosk, or is corrupt
+     */
+    public static LoadedSurveyModel read(InputStream stream) throws IOException {
+        Input in = new Input(stream);
+        if (!isBinary(in.data.readInt())) {
+            throw new IOException("Not a binary survey");
+        }
+        in.version = in.data.readInt();
+        if (in.version < 1 || in.version > VERSION) {
+            throw new IOException("Unsupported survey version " + in.version);
+        }
+
+        LoadedSurveyModel survey = new LoadedSurveyModel();
+        survey.rootSceneId = in.readString();
+        survey.scenes = new SceneModel[in.readLength()];
+        for (int i = 0; i < survey.scenes.length; i++) {
+            int tag = in.data.readUnsignedByte();
+            Serializer<?> serializer = serializersByTag.get(tag);
+            if (serializer == null) {
+                throw new IOException("Unknown scene type " + tag);
+            }
+            survey.scenes[i] = serializer.reader.read(in);
+        }
+        return survey;
+    }
+
+    private static final class Output {
+        final DataOutputStream data;
+        // K: string V: its index in the string table
+        private final HashMap<String, Integer> strings = new HashMap<>();
+        // K: object V: its index in the object table
+        private final IdentityHashMap<Object, Integer> objects = new IdentityHashMap<>();
+
+        Output(OutputStream stream) {
+            this.data = new DataOutputStream(stream);
+        }
+
+        void writeBoolean(boolean value) throws IOException {
+            data.writeBoolean(value);
+        }
+
+        void writeString(String value) throws IOException {
+            if (value == null) {
+                data.writeInt(NULL);
+                return;
+            }
+
+            Integer index = strings.get(value);
+            if (index != null) {
+                data.writeInt(index);
+                return;
+            }
+
+            strings.put(value, strings.size());
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            data.writeInt(NEW);
+            data.writeInt(bytes.length);
+            data.write(bytes);
+        }
+
+        /**
+         * Write a reference to an object. Like XMLEncoder, an object shared
+         * by several scenes is written once and shared again when read.
+         * @return true if this is the first time the object is written,
+         *     and its contents should follow
+         */
+        boolean writeReference(Object value) throws IOException {
+            if (value == null) {
+                data.writeInt(NULL);
+                return false;
+            }
+
+            Integer index = objects.get(value);
+            if (index != null) {
+                data.writeInt(index);
+                return false;
+            }
+
+            objects.put(value, objects.size());
+            data.writeInt(NEW);
+            return true;
+        }
+
+        void writeInts(int[] values) throws IOException {
+            if (writeReference(values)) {
+                data.writeInt(values.length);
+                for (int value : values) {
+                    data.writeInt(value);
+                }
+            }
+        }
+
+        void writeRiasec(Riasec value) throws IOException {
+            writeString(value == null ? null : value.name());
+        }
+
+        void writeImage(ImageModel image) throws IOException {
+            if (writeReference(image)) {
+                writeString(image.path);
+                data.writeInt(image.width);
+                data.writeInt(image.height);
+            }
+        }
+
+        void writeFilter(FilterGroupModel filter) throws IOException {
+            if (writeReference(filter)) {
+                writeString(filter.category);
+                writeString(filter.field);
+                if (writeReference(filter.careerNames)) {
+                    data.writeInt(filter.careerNames.size());
+                    for (String careerName : filter.careerNames) {
+                        writeString(careerName);
+                    }
+                }
+            }
+        }
+
+        void writeButton(ButtonModel button) throws IOException {
+            if (writeReference(button)) {
+                writeString(button.text);
+                writeString(button.target);
+                data.writeBoolean(button.isCircle);
+                data.writeBoolean(button.noButton);
+                writeInts(button.rgb);
+                writeImage(button.image);
+                writeRiasec(button.category);
+                writeFilter(button.filter);
+            }
+        }
+
+        void writeButtons(ButtonModel[] buttons) throws IOException {
+            if (writeReference(buttons)) {
+                data.writeInt(buttons.length);
+                for (ButtonModel button : buttons) {
+                    writeButton(button);
+                }
+            }
+        }
+
+        void writeCareer(CareerModel career) throws IOException {
+            if (writeReference(career)) {
+                writeString(career.name);
+                writeString(career.category);
+                writeString(career.field);
+                writeRiasec(career.riasecCategory);
+                writeString(career.description);
+                writeString(career.imagePath);
+            }
+        }
+
+        void writeCareers(CareerModel[] careers) throws IOException {
+            if (writeReference(careers)) {
+                data.writeInt(careers.length);
+                for (CareerModel career : careers) {
+                    writeCareer(career);
+                }
+            }
+        }
+    }
+
+    private static final class Input {
+        final DataInputStream data;
+        int version;
+        private final ArrayList<String> strings = new ArrayList<>();
+        private final ArrayList<Object> objects = new ArrayList<>();
+
+        Input(InputStream stream) {
+            this.data = new DataInputStream(stream);
+        }
+
+        boolean readBoolean() throws IOException {
+            return data.readBoolean();
+        }
+
+        int readLength() throws IOException {
+            int length = data.readInt();
+            if (length < 0) {
+                throw new IOException("Negative length " + length);
+            }
+            return length;
+        }
+
+        String readString() throws IOException {
+            int index = data.readInt();
+            if (index == NULL) {
+                return null;
+            } else if (index == NEW) {
+                byte[] bytes = new byte[readLength()];
+                data.readFully(bytes);
+                String value = new String(bytes, StandardCharsets.UTF_8);
+                strings.add(value);
+                return value;
+            } else if (index >= 0 && index < strings.size()) {
+                return strings.get(index);
+            } else {
+                throw new IOException("Unknown string " + index);
+            }
+        }
+
+        /**
+         * Read a reference to an object.
+         * @return NEW if the object's contents follow, otherwise the index
+         *     of an object that was already read, or NULL
+         */
+        int readReference() throws IOException {
+            int index = data.readInt();
+            if (index != NULL && index != NEW && (index < 0 || index >= objects.size())) {
+                throw new IOException("Unknown object " + index);
+            }
+            return index;
+        }
+
+        /**
+         * Get an object that was already read.
+         * @throws IOException if the object isn't of the type expected
+         */
+        <T> T getObject(int index, Class<T> type) throws IOException {
+            if (index == NULL) {
+                return null;
+            }
+            Object value = objects.get(index);
+            if (!type.isInstance(value)) {
+                throw new IOException("Object " + index + " is not a " + type.getSimpleName());
+            }
+            return type.cast(value);
+        }
+
+        /**
+         * Remember an object before its contents are read, so the order
+         * matches the order they were written.
+         */
+        <T> T addObject(T value) {
+            objects.add(value);
+            return value;
+        }
+
+        int[] readInts() throws IOException {
+            int index = readReference();
+            if (index != NEW) {
+                return getObject(index, int[].class);
+            }
+            int[] values = addObject(new int[readLength()]);
+            for (int i = 0; i < values.length; i++) {
+                values[i] = data.readInt();
+            }
+            return values;
+        }
+
+        Riasec readRiasec() throws IOException {
+            String value = readString();
+            return value == null ? null : Riasec.valueOf(value);
+        }
+
+        ImageModel readImage() throws IOException {
+            int index = readReference();
+            if (index != NEW) {
+                return getObject(index, ImageModel.class);
+            }
+            ImageModel image = addObject(new ImageModel());
+            image.path = readString();
+            image.width = data.readInt();
+            image.height = data.readInt();
+            return image;
+        }
+
+        FilterGroupModel readFilter() throws IOException {
+            int index = readReference();
+            if (index != NEW) {
+                return getObject(index, FilterGroupModel.class);
+            }
+            FilterGroupModel filter = addObject(new FilterGroupModel());
+            filter.category = readString();
+            filter.field = readString();
+            filter.careerNames = readCareerNames();
+            return filter;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<String> readCareerNames() throws IOException {
+            int index = readReference();
+            if (index != NEW) {
+                return getObject(index, Set.class);
+            }
+            Set<String> careerNames = addObject(new HashSet<>());
+            int size = readLength();
+            for (int i = 0; i < size; i++) {
+                careerNames.add(readString());
+            }
+            return careerNames;
+        }
+
+        ButtonModel readButton() throws IOException {
+            int index = readReference();
+            if (index != NEW) {
+                return getObject(index, ButtonModel.class);
+            }
+            ButtonModel button = addObject(new ButtonModel());
+            button.text = readString();
+            button.target = readString();
+            button.isCircle = data.readBoolean();
+            button.noButton = data.readBoolean();
+            button.rgb = readInts();
+            button.image = readImage();
+            button.category = readRiasec();
+            button.filter = readFilter();
+            return button;
+        }
+
+        ButtonModel[] readButtons() throws IOException {
+            int index = readReference();
+            if (index != NEW) {
+                return getObject(index, ButtonModel[].class);
+            }
+            ButtonModel[] buttons = addObject(new ButtonModel[readLength()]);
+            for (int i = 0; i < buttons.length; i++) {
+                buttons[i] = readButton();
+            }
+            return buttons;
+        }
+
+        CareerModel readCareer() throws IOException {
+            int index = readReference();
+            if (index != NEW) {
+                return getObject(index, CareerModel.class);
+            }
+            CareerModel career = addObject(new CareerModel());
+            career.name = readString();
+            career.category = readString();
+            career.field = readString();
+            career.riasecCategory = readRiasec();
+            career.description = readString();
+            career.imagePath = readString();
+            return career;
+        }
+
+        CareerModel[] readCareers() throws IOException {
+            int index = readReference();
+            if (index != NEW) {
+                return getObject(index, CareerModel[].class);
+            }
+            CareerModel[] careers = addObject(new CareerModel[readLength()]);
+            for (int i = 0; i < careers.length; i++) {
+                careers[i] = readCareer();
+            }
+            return careers;
+        }
+    }
+}
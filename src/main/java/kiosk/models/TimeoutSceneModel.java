@@ -64,4 +64,9 @@ public final class TimeoutSceneModel implements SceneModel {
     public String[] getTargets() {
         return new String[0];
     }
+
+    @Override
+    public SceneKind getKind() {
+        return SceneKind.TIMEOUT;
+    }
 }
@@ -77,4 +77,9 @@ public final class WaveTransitionSceneModel implements SceneModel {
     public String[] getTargets() {
         return new String[0];
     }
+
+    @Override
+    public SceneKind getKind() {
+        return SceneKind.WAVE_TRANSITION;
+    }
 }
@@ -3,8 +3,9 @@ package kiosk.scenes;
 import editor.Editor;
 import graphics.Color;
 import graphics.Graphics;
+import graphics.OutlinedTextCache;
 import java.awt.Rectangle;
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.Map;
 import javafx.scene.input.TouchEvent;
 import javafx.stage.Stage;
@@ -14,6 +15,7 @@ import kiosk.Kiosk;
 import kiosk.Settings;
 import kiosk.TouchScreenEvent;
 import kiosk.models.ButtonModel;
+import kiosk.models.ImageModel;
 import processing.core.PConstants;
 import processing.event.MouseEvent;
 
@@ -33,6 +35,11 @@ public class ButtonControl implements Control<MouseEvent, TouchEvent> {
     private int defaultCornerRadius = buttonHeight / 5;
 
     private final ButtonModel model;
+    // How the model is drawn. Scenes may change these rather than the model,
+    // which can be shared with other scenes
+    private int[] rgb;
+    private boolean isCircle;
+    private ImageModel imageModel;
     private final Rectangle rect;
     private final Map<InputEvent, EventListener<MouseEvent>> eventListeners;
     private final Map<TouchScreenEvent, EventListener<TouchEvent>> touchEventListeners;
@@ -87,6 +94,9 @@ public class ButtonControl implements Control<MouseEvent, TouchEvent> {
      */
     public ButtonControl(ButtonModel model, int x, int y, int w, int h, boolean doesAnimate) {
         this.model = model;
+        this.rgb = model.rgb;
+        this.isCircle = model.isCircle;
+        this.imageModel = model.image;
         centerX = x;
         centerY = y;
         this.rect = new Rectangle(x, y, w, h);
@@ -112,12 +122,12 @@ public class ButtonControl implements Control<MouseEvent, TouchEvent> {
         // Radius of the rounded edge on rectangle buttons
         defaultCornerRadius = buttonHeight / 5;
 
-        this.eventListeners = new HashMap<>();
+        this.eventListeners = new EnumMap<>(InputEvent.class);
         this.eventListeners.put(InputEvent.MousePressed, this::onMousePressed);
         this.eventListeners.put(InputEvent.MouseReleased, this::onMouseReleased);
         this.eventListeners.put(InputEvent.MouseDragged, this::onMouseDragged);
 
-        this.touchEventListeners = new HashMap<>();
+        this.touchEventListeners = new EnumMap<>(TouchScreenEvent.class);
         this.touchEventListeners.put(TouchScreenEvent.TouchPressed, this::onTouchPressed);
     }
 
@@ -143,6 +153,9 @@ public class ButtonControl implements Control<MouseEvent, TouchEvent> {
      */
     public ButtonControl(ButtonModel model, int x, int y, int radius, boolean doesAnimate) {
         this.model = model;
+        this.rgb = model.rgb;
+        this.isCircle = model.isCircle;
+        this.imageModel = model.image;
         centerX = x;
         centerY = y;
         this.rect = new Rectangle(x, y, radius * 2, radius * 2);
@@ -168,12 +181,12 @@ public class ButtonControl implements Control<MouseEvent, TouchEvent> {
         // Radius of the rounded edge on rectangle buttons
         defaultCornerRadius = buttonHeight / 5;
 
-        this.eventListeners = new HashMap<>();
+        this.eventListeners = new EnumMap<>(InputEvent.class);
         this.eventListeners.put(InputEvent.MousePressed, this::onMousePressed);
         this.eventListeners.put(InputEvent.MouseReleased, this::onMouseReleased);
         this.eventListeners.put(InputEvent.MouseDragged, this::onMouseDragged);
 
-        this.touchEventListeners = new HashMap<>();
+        this.touchEventListeners = new EnumMap<>(TouchScreenEvent.class);
         this.touchEventListeners.put(TouchScreenEvent.TouchPressed, this::onTouchPressed);
     }
 
@@ -183,8 +196,8 @@ public class ButtonControl implements Control<MouseEvent, TouchEvent> {
      * @param sketch to load images to
      */
     public void init(Kiosk sketch) {
-        if (this.model.image != null) {
-            this.image = Image.createImage(sketch, model.image);
+        if (this.imageModel != null) {
+            this.image = Image.createImage(sketch, imageModel);
         }
         wasInit = true;
 
@@ -219,7 +232,7 @@ public class ButtonControl implements Control<MouseEvent, TouchEvent> {
 
         // Draw the shape
         if (!this.model.noButton) {
-            if (this.model.isCircle) {
+            if (this.isCircle) {
                 this.drawCircle(sketch);
             } else {
                 this.drawRectangle(sketch);
@@ -367,12 +380,12 @@ public class ButtonControl implements Control<MouseEvent, TouchEvent> {
     private void drawOutline(Kiosk sketch, double sizeMultiplier) {
         if (!this.disabled) {
             //Draw the darker button behind the button to add 3D effects
-            sketch.fill(clampColor(this.model.rgb[0] + colorDeltaOnClick),
-                    clampColor(this.model.rgb[1] + colorDeltaOnClick),
-                    clampColor(this.model.rgb[2] + colorDeltaOnClick));
+            sketch.fill(clampColor(this.rgb[0] + colorDeltaOnClick),
+                    clampColor(this.rgb[1] + colorDeltaOnClick),
+                    clampColor(this.rgb[2] + colorDeltaOnClick));
             sketch.stroke(Color.DW_BLACK_RGB[0], Color.DW_BLACK_RGB[1],
                     Color.DW_BLACK_RGB[2], 63f);
-            if (model.isCircle) {
+            if (this.isCircle) {
                 sketch.ellipse((float) (this.rect.x + animationOffsetX + this.rect.width / 2.f),
                         (float) (this.rect.y + animationOffsetY + this.rect.height
                                 / 2.f + this.rect.height / 10.f),
@@ -435,27 +448,27 @@ public class ButtonControl implements Control<MouseEvent, TouchEvent> {
         if (frameCount % buttonAnimationFrames
                 < (buttonAnimationLengthFrames / 2)
                 && !this.disabled && this.shouldAnimate) {
-            r = clampColor((int) (this.model.rgb[0] + colorDeltaOnClick
+            r = clampColor((int) (this.rgb[0] + colorDeltaOnClick
                     * (frameCount % buttonAnimationFrames
                     / buttonAnimationLengthFrames)));
-            g = clampColor((int) (this.model.rgb[1] + colorDeltaOnClick
+            g = clampColor((int) (this.rgb[1] + colorDeltaOnClick
                     * (frameCount % buttonAnimationFrames
                     / buttonAnimationLengthFrames)));
-            b = clampColor((int) (this.model.rgb[2] + colorDeltaOnClick
+            b = clampColor((int) (this.rgb[2] + colorDeltaOnClick
                     * (frameCount % buttonAnimationFrames
                     / buttonAnimationLengthFrames)));
         } else {
-            r = clampColor((int) (this.model.rgb[0] + colorDeltaOnClick
+            r = clampColor((int) (this.rgb[0] + colorDeltaOnClick
                     * ((buttonAnimationLengthFrames
                     - (frameCount
                     % buttonAnimationFrames))
                     / buttonAnimationLengthFrames)));
-            g = clampColor((int) (this.model.rgb[1] + colorDeltaOnClick
+            g = clampColor((int) (this.rgb[1] + colorDeltaOnClick
                     * ((buttonAnimationLengthFrames
                     - (frameCount
                     % buttonAnimationFrames))
                     / buttonAnimationLengthFrames)));
-            b = clampColor((int) (this.model.rgb[2] + colorDeltaOnClick
+            b = clampColor((int) (this.rgb[2] + colorDeltaOnClick
                     * ((buttonAnimationLengthFrames
                     - (frameCount
                     % buttonAnimationFrames))
@@ -466,7 +479,7 @@ public class ButtonControl implements Control<MouseEvent, TouchEvent> {
     }
 
     private void setNormalFillAndStroke(Kiosk sketch) {
-        sketch.fill(this.model.rgb[0], this.model.rgb[1], this.model.rgb[2]);
+        sketch.fill(this.rgb[0], this.rgb[1], this.rgb[2]);
         sketch.stroke(59, 58, 57, 63f);
     }
 
@@ -487,35 +500,18 @@ public class ButtonControl implements Control<MouseEvent, TouchEvent> {
     }
 
     private boolean isLightButton() {
-        return ((this.model.rgb[0] + this.model.rgb[1] + this.model.rgb[2]) / 3) >= 225;
+        return ((this.rgb[0] + this.rgb[1] + this.rgb[2]) / 3) >= 225;
     }
 
 
-    // TODO maybe this should be extracted to a graphics class
     private void textWithOutline(String text, float x, float y, float w,
                                  float h, Kiosk sketch, boolean blackTextDesired) {
         if (blackTextDesired) {
-            // Draw multiple copies of the text shifted by a few pixels to create the outline
-            sketch.fill(Color.DW_WHITE_RGB[0], Color.DW_WHITE_RGB[1], Color.DW_WHITE_RGB[2]);
-            for (int delta = -1; delta < 2; delta++) {
-                sketch.text(text, x + delta, y, w, h);
-                sketch.text(text, x, y + delta, w, h);
-            }
-
-            // Draw the text
-            sketch.fill(Color.DW_BLACK_RGB[0], Color.DW_BLACK_RGB[1], Color.DW_BLACK_RGB[2]);
-            sketch.text(text, x, y, w, h);
+            OutlinedTextCache.getInstance().draw(sketch, text, x, y, w, h,
+                    Color.DW_WHITE_RGB, Color.DW_BLACK_RGB);
         } else {
-            // Draw multiple copies of the text shifted by a few pixels to create the outline
-            sketch.fill(Color.DW_BLACK_RGB[0], Color.DW_BLACK_RGB[1], Color.DW_BLACK_RGB[2]);
-            for (int delta = -1; delta < 2; delta++) {
-                sketch.text(text, x + delta, y, w, h);
-                sketch.text(text, x, y + delta, w, h);
-            }
-
-            // Draw the text
-            sketch.fill(Color.DW_WHITE_RGB[0], Color.DW_WHITE_RGB[1], Color.DW_WHITE_RGB[2]);
-            sketch.text(text, x, y, w, h);
+            OutlinedTextCache.getInstance().draw(sketch, text, x, y, w, h,
+                    Color.DW_BLACK_RGB, Color.DW_WHITE_RGB);
         }
     }
 
@@ -557,6 +553,34 @@ public class ButtonControl implements Control<MouseEvent, TouchEvent> {
         return this.model;
     }
 
+    /**
+     * Change the color the button is drawn in, without changing its model.
+     * @param rgb color of the button
+     */
+    public void setRgb(int[] rgb) {
+        this.rgb = rgb;
+    }
+
+    /**
+     * Change whether the button is drawn as a circle, without changing its model.
+     * @param isCircle true to draw a circle, false for a rectangle
+     */
+    public void setCircle(boolean isCircle) {
+        this.isCircle = isCircle;
+    }
+
+    /**
+     * Change the size the button's image is resized to, without changing its
+     * model. Must be called before the button is initialized.
+     * @param width of the image
+     * @param height of the image
+     */
+    public void setImageSize(int width, int height) {
+        if (this.model.image != null) {
+            this.imageModel = new ImageModel(this.model.image.path, width, height);
+        }
+    }
+
     public void setWidth(int width) {
         this.rect.width = width;
     }
@@ -565,6 +589,18 @@ public class ButtonControl implements Control<MouseEvent, TouchEvent> {
         this.rect.height = height;
     }
 
+    /**
+     * Move and resize a circular button, e.g. while its spoke graph animates.
+     * @param x      of the top-left corner
+     * @param y      of the top-left corner
+     * @param radius of the circle
+     */
+    public void setCircleBounds(int x, int y, int radius) {
+        centerX = x;
+        centerY = y;
+        this.rect.setBounds(x, y, radius * 2, radius * 2);
+    }
+
     private double dragDistance(int x, int y) {
         int distX = pressX - x;
         int distY = pressY - y;
@@ -630,6 +666,11 @@ public class ButtonControl implements Control<MouseEvent, TouchEvent> {
         }
     }
 
+    @Override
+    public Rectangle getBounds() {
+        return this.rect;
+    }
+
     public float getCenterX() {
         return (float) this.rect.getCenterX();
     }
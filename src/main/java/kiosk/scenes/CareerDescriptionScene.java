@@ -8,6 +8,7 @@ import kiosk.Kiosk;
 import kiosk.SceneGraph;
 import kiosk.models.CareerDescriptionModel;
 import kiosk.models.ImageModel;
+import kiosk.models.SceneKind;
 import processing.core.PConstants;
 
 
@@ -71,36 +72,33 @@ public class CareerDescriptionScene implements Scene {
         titleY = screenH / 4;
         titleFontSize = screenW / 55;
         descriptionFontSize = screenW / 68;
-        imageSize = foregroundHeight / 2;
+        imageSize = getImageSize();
         padding = foregroundWidth / 16;
     }
 
+    /**
+     * Gets the size that career images are resized to. The images are square.
+     * @return the width and height of a career image
+     */
+    static int getImageSize() {
+        return Kiosk.getSettings().screenH * 3 / 4 / 2;
+    }
+
     @Override
     public void init(Kiosk sketch) {
         final int sketchWidth = Kiosk.getSettings().screenW;
 
-        // Images
-        if (this.model.image == null) {
-            this.model.image = new ImageModel();
-        }
-        this.model.image.width = imageSize;
-        this.model.image.height = imageSize;
-
-        File imageFile = new File(this.model.image.path);
-        if (!imageFile.exists()) {
-            this.model.image.path = "assets/default.png";
+        // Images. The model can be shared with other scenes, so it is sized locally
+        String imagePath = this.model.image != null ? this.model.image.path : null;
+        if (imagePath == null || !new File(imagePath).exists()) {
+            imagePath = "assets/default.png";
         }
-        image = Image.createImage(sketch, this.model.image);
+        image = Image.createImage(sketch, new ImageModel(imagePath, imageSize, imageSize));
 
         // Buttons
         this.homeButton = GraphicsUtil.initializeHomeButton(sketch);
         sketch.hookControl(this.homeButton);
 
-        if (this.model.button.image != null) {
-            this.model.button.image.width = buttonWidth;
-            this.model.button.image.height = buttonHeight;
-        }
-
         float imageY = foregroundCornerY + (foregroundHeight / 2f) - (imageSize / 2f);
         this.centerButton = new ButtonControl(
             this.model.button,
@@ -109,6 +107,7 @@ public class CareerDescriptionScene implements Scene {
                 buttonWidth,
                 buttonHeight
         );
+        this.centerButton.setImageSize(buttonWidth, buttonHeight);
         this.centerButton.init(sketch);
         sketch.hookControl(this.centerButton);
 
@@ -147,7 +146,7 @@ public class CareerDescriptionScene implements Scene {
 
         int[] returnVals = SceneAnimationHelper.sceneAnimationLogic(sketch,
                 clicked,
-                null, null, null,
+                null,
                 totalTimeOpening, totalTimeEnding, sceneAnimationMilliseconds,
                 screenW, screenH);
         drawThisFrame(sketch, returnVals[0], returnVals[1]);
@@ -213,4 +212,9 @@ public class CareerDescriptionScene implements Scene {
             supplementaryButton.draw(sketch, offsetX, 0);
         }
     }
+
+    @Override
+    public SceneKind getKind() {
+        return SceneKind.CAREER_DESCRIPTION;
+    }
 }
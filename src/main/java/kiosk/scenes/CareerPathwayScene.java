@@ -5,12 +5,14 @@ import graphics.GraphicsUtil;
 import graphics.SceneAnimationHelper;
 import graphics.SpokeGraph;
 import kiosk.Kiosk;
+import kiosk.Riasec;
 import kiosk.SceneGraph;
 import kiosk.UserScore;
 import kiosk.models.ButtonModel;
 import kiosk.models.CareerModel;
 import kiosk.models.CareerPathwaySceneModel;
 import kiosk.models.CreditsSceneModel;
+import kiosk.models.SceneKind;
 import processing.core.PConstants;
 
 /**
@@ -27,6 +29,8 @@ public class CareerPathwayScene implements Scene {
     private ButtonControl backButton;
     private ButtonControl homeButton;
     private CareerModel[] careers;
+    // Reused by every animation frame
+    private double[] careerWeights;
     private ButtonModel[] buttons;
     private ButtonControl supplementaryButton;
     private boolean isRoot = false;
@@ -59,7 +63,7 @@ public class CareerPathwayScene implements Scene {
 
         // Create spokes for each of the careers (weighted based on user's RIASEC scores)
         ButtonModel[] careerButtons = new ButtonModel[careers.length];
-        double[] careerWeights = new double[careers.length];
+        careerWeights = new double[careers.length];
 
         for (int i = 0; i < careers.length; i++) {
             CareerModel career = careers[i];
@@ -193,46 +197,35 @@ public class CareerPathwayScene implements Scene {
         }
     }
 
-    private void drawThisFrameCenteredSpoke(Kiosk sketch, int offsetX) {
-        GraphicsUtil.drawHeader(sketch, model.headerTitle, model.headerBody, offsetX, 0);
-
+    /**
+     * Move the spoke graph below the header and weight its spokes part way
+     * between two scores. The graph is only laid out again, not rebuilt, so
+     * its career buttons stay hooked while the scene animates.
+     * @param from the scores the animation starts at
+     * @param to the scores the animation ends at
+     * @param elapsedMilliseconds of the animation
+     */
+    private void layoutAnimatedSpokeGraph(UserScore from, UserScore to,
+                                          float elapsedMilliseconds) {
         float size = screenH - GraphicsUtil.headerY - GraphicsUtil.headerH;
-        // Grab careers from the Kiosk and userScore from the SceneGraph
-        UserScore userScore = sketch.getUserScore(); // Reference to user's RIASEC scores
-        UserScore previousUserScore = sketch.getPreviousUserScore();
-        this.careers = userScore.getCareers();
-
-        // Create spokes for each of the careers (weighted based on user's RIASEC scores)
-        ButtonModel[] careerButtons = new ButtonModel[careers.length];
-        double[] careerWeights = new double[careers.length];
-
         for (int i = 0; i < careers.length; i++) {
-            CareerModel career = careers[i];
-            ButtonModel button = new ButtonModel(career.name, "");
-            button.isCircle = true;
-            careerButtons[i] = button;
-            careerWeights[i] = previousUserScore.getCategoryScore(career.riasecCategory)
-                    + (((userScore.getCategoryScore(career.riasecCategory)
-                    - previousUserScore.getCategoryScore(career.riasecCategory))
-                    * ((totalTimeOpening) * 1.0
-                    / sceneAnimationMilliseconds)));
+            Riasec category = careers[i].riasecCategory;
+            careerWeights[i] = from.getCategoryScore(category)
+                    + (to.getCategoryScore(category) - from.getCategoryScore(category))
+                    * (elapsedMilliseconds * 1.0 / sceneAnimationMilliseconds);
         }
-
-        // Create spoke graph
-        this.spokeGraph = new SpokeGraph(size,
+        this.spokeGraph.setLayout(size,
                 screenW / 2f - size / 2,
                 GraphicsUtil.headerY + GraphicsUtil.headerH,
-                model.centerText,
-                careerButtons,
-                careerWeights,
-                model.centerColor);
-        this.spokeGraph.init(sketch);
+                careerWeights);
+    }
 
-        // Attach user input hooks
-        for (ButtonControl careerOption : this.spokeGraph.getButtonControls()) {
-            sketch.hookControl(careerOption);
-        }
+    private void drawThisFrameCenteredSpoke(Kiosk sketch, int offsetX) {
+        GraphicsUtil.drawHeader(sketch, model.headerTitle, model.headerBody, offsetX, 0);
 
+        // Grow the spokes from the previous scores to the user's scores
+        layoutAnimatedSpokeGraph(sketch.getPreviousUserScore(), sketch.getUserScore(),
+                totalTimeOpening);
         this.spokeGraph.draw(sketch, 0, 0);
 
         if (isRoot) {
@@ -262,43 +255,9 @@ public class CareerPathwayScene implements Scene {
         GraphicsUtil.drawHeader(sketch, model.headerTitle,
                 model.headerBody, headerOffsetX, 0);
 
-        float size = screenH - GraphicsUtil.headerY - GraphicsUtil.headerH;
-        // Grab careers from the Kiosk and userScore from the SceneGraph
-        UserScore userScore = sketch.getUserScore(); // Reference to user's RIASEC scores
-        UserScore previousUserScore = sketch.getPreviousUserScore();
-        this.careers = userScore.getCareers();
-
-        // Create spokes for each of the careers (weighted based on user's RIASEC scores)
-        ButtonModel[] careerButtons = new ButtonModel[careers.length];
-        double[] careerWeights = new double[careers.length];
-
-        for (int i = 0; i < careers.length; i++) {
-            CareerModel career = careers[i];
-            ButtonModel button = new ButtonModel(career.name, "");
-            button.isCircle = true;
-            careerButtons[i] = button;
-            careerWeights[i] = userScore.getCategoryScore(career.riasecCategory)
-                    + (((previousUserScore.getCategoryScore(career.riasecCategory)
-                    - userScore.getCategoryScore(career.riasecCategory))
-                    * ((totalTimeEnding) * 1.0
-                    / sceneAnimationMilliseconds)));
-        }
-
-        // Create spoke graph
-        this.spokeGraph = new SpokeGraph(size,
-                screenW / 2f - size / 2,
-                GraphicsUtil.headerY + GraphicsUtil.headerH,
-                model.centerText,
-                careerButtons,
-                careerWeights,
-                model.centerColor);
-        this.spokeGraph.init(sketch);
-
-        // Attach user input hooks
-        for (ButtonControl careerOption : this.spokeGraph.getButtonControls()) {
-            sketch.hookControl(careerOption);
-        }
-
+        // Shrink the spokes back to the previous scores
+        layoutAnimatedSpokeGraph(sketch.getUserScore(), sketch.getPreviousUserScore(),
+                totalTimeEnding);
         this.spokeGraph.draw(sketch, offsetX, 0);
 
         if (isRoot) {
@@ -321,4 +280,9 @@ public class CareerPathwayScene implements Scene {
             }
         }
     }
+
+    @Override
+    public SceneKind getKind() {
+        return SceneKind.CAREER_PATHWAY;
+    }
 }
@@ -1,5 +1,6 @@
 package kiosk.scenes;
 
+import java.awt.Rectangle;
 import java.util.Map;
 import kiosk.EventListener;
 import kiosk.InputEvent;
@@ -10,4 +11,14 @@ public interface Control<T, K> {
     Map<InputEvent, EventListener<T>> getEventListeners();
 
     Map<TouchScreenEvent, EventListener<K>> getTouchEventListeners();
+
+    /**
+     * Get the area of the screen the control responds to. Presses and clicks
+     * are only sent to the controls under them, and drags and releases also
+     * go to the controls that were pressed.
+     * @return the live bounds, or null if the control gets every event
+     */
+    default Rectangle getBounds() {
+        return null;
+    }
 }
@@ -6,6 +6,7 @@ import graphics.SceneAnimationHelper;
 import kiosk.Kiosk;
 import kiosk.SceneGraph;
 import kiosk.models.CreditsSceneModel;
+import kiosk.models.SceneKind;
 import processing.core.PConstants;
 
 public class CreditsScene implements Scene {
@@ -112,7 +113,7 @@ public class CreditsScene implements Scene {
 
         int[] returnVals = SceneAnimationHelper.sceneAnimationLogic(sketch,
                 clicked,
-                null, null, null,
+                null,
                 totalTimeOpening, totalTimeEnding, sceneAnimationMilliseconds,
                 screenW, screenH);
         drawThisFrame(sketch, returnVals[0], returnVals[1]);
@@ -169,4 +170,9 @@ public class CreditsScene implements Scene {
             backButton.draw(sketch);
         }
     }
+
+    @Override
+    public SceneKind getKind() {
+        return SceneKind.CREDITS;
+    }
 }
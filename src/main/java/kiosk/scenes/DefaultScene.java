@@ -5,6 +5,7 @@ import graphics.GraphicsUtil;
 import kiosk.Kiosk;
 import kiosk.SceneGraph;
 import kiosk.models.DefaultSceneModel;
+import kiosk.models.SceneKind;
 import processing.core.PConstants;
 
 /**
@@ -47,4 +48,9 @@ public class DefaultScene implements Scene {
 
         this.homeButton.draw(sketch);
     }
+
+    @Override
+    public SceneKind getKind() {
+        return SceneKind.DEFAULT;
+    }
 }
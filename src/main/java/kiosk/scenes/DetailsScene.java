@@ -4,11 +4,11 @@ import graphics.Graphics;
 import graphics.GraphicsUtil;
 import graphics.SceneAnimationHelper;
 import kiosk.Kiosk;
-import kiosk.Riasec;
 import kiosk.SceneGraph;
+import kiosk.models.ButtonModel;
 import kiosk.models.CreditsSceneModel;
 import kiosk.models.DetailsSceneModel;
-import kiosk.models.FilterGroupModel;
+import kiosk.models.SceneKind;
 import processing.core.PConstants;
 
 
@@ -51,9 +51,7 @@ public class DetailsScene implements Scene {
     //Animations
     private int sceneAnimationMilliseconds = Kiosk.getSettings().sceneAnimationMilliseconds;
     private SceneAnimationHelper.Clicked clicked;
-    private String sceneToGoTo;
-    private Riasec riasecToGoTo;
-    private FilterGroupModel filterToGoTo;
+    private ButtonModel buttonToGoTo;
     private float totalTimeOpening = 0;
     private float totalTimeEnding = 0;
     private float dt = 0;
@@ -87,8 +85,16 @@ public class DetailsScene implements Scene {
 
         // Button Image Props
         buttonRadius = Kiosk.getSettings().screenW / 8;
-        buttonImageWidth = buttonRadius * 4 / 5;
-        buttonImageHeight = buttonRadius * 4 / 5;
+        buttonImageWidth = getTargetImageSize();
+        buttonImageHeight = getTargetImageSize();
+    }
+
+    /**
+     * Gets the size that the target button's image is resized to. The image is square.
+     * @return the width and height of the target button's image
+     */
+    static int getTargetImageSize() {
+        return Kiosk.getSettings().screenW / 8 * 4 / 5;
     }
 
     @Override
@@ -107,11 +113,6 @@ public class DetailsScene implements Scene {
             sketch.hookControl(this.supplementaryButton);
         }
 
-        if (this.model.targets[0].image != null) {
-            this.model.targets[0].image.width = buttonImageWidth;
-            this.model.targets[0].image.height = buttonImageHeight;
-        }
-
         this.centerButton = new ButtonControl(
             this.model.targets[0],
             (sketchWidth / 2) - (buttonWidth * 5 / 8),
@@ -120,6 +121,7 @@ public class DetailsScene implements Scene {
                 buttonWidth * 5 / 4,
                 buttonWidth * 5 / 4
         );
+        this.centerButton.setImageSize(buttonImageWidth, buttonImageHeight);
         this.centerButton.init(sketch);
         sketch.hookControl(this.centerButton);
 
@@ -151,14 +153,10 @@ public class DetailsScene implements Scene {
 
         if (this.centerButton.wasClicked()) {
             clicked = SceneAnimationHelper.Clicked.NEXT;
-            sceneToGoTo = this.centerButton.getTarget();
-            riasecToGoTo = this.centerButton.getModel().category;
-            filterToGoTo = this.centerButton.getModel().filter;
+            buttonToGoTo = this.centerButton.getModel();
         } else if (this.nextButton.wasClicked()) {
             clicked = SceneAnimationHelper.Clicked.NEXT;
-            sceneToGoTo = this.centerButton.getTarget();
-            riasecToGoTo = this.centerButton.getModel().category;
-            filterToGoTo = this.centerButton.getModel().filter;
+            buttonToGoTo = this.centerButton.getModel();
         }
     }
 
@@ -174,7 +172,7 @@ public class DetailsScene implements Scene {
 
         int[] returnVals = SceneAnimationHelper.sceneAnimationLogic(sketch,
                 clicked,
-                sceneToGoTo, riasecToGoTo, filterToGoTo,
+                buttonToGoTo,
                 totalTimeOpening, totalTimeEnding, sceneAnimationMilliseconds,
                 screenW, screenH);
         drawThisFrame(sketch, returnVals[0], returnVals[1]);
@@ -233,4 +231,9 @@ public class DetailsScene implements Scene {
             }
         }
     }
+
+    @Override
+    public SceneKind getKind() {
+        return SceneKind.DETAILS;
+    }
 }
@@ -4,6 +4,7 @@ import graphics.Graphics;
 import kiosk.Kiosk;
 import kiosk.SceneGraph;
 import kiosk.models.EmptySceneModel;
+import kiosk.models.SceneKind;
 import processing.core.PConstants;
 
 public class EmptyScene implements Scene {
@@ -40,4 +41,9 @@ public class EmptyScene implements Scene {
         sketch.text(this.model.message,
                 this.textX, this.textY + 32, sketch.width / 2f, sketch.height / 3f);
     }
+
+    @Override
+    public SceneKind getKind() {
+        return SceneKind.EMPTY;
+    }
 }
@@ -4,6 +4,7 @@ import graphics.Graphics;
 import kiosk.Kiosk;
 import kiosk.SceneGraph;
 import kiosk.models.ErrorSceneModel;
+import kiosk.models.SceneKind;
 import processing.core.PConstants;
 
 public class ErrorScene implements Scene {
@@ -55,4 +56,9 @@ public class ErrorScene implements Scene {
         sketch.text(this.model.errorMsg,
                 sketch.width / 2f, sketch.height / 2f, sketch.width, sketch.height);
     }
+
+    @Override
+    public SceneKind getKind() {
+        return SceneKind.ERROR;
+    }
 }
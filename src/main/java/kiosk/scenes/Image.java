@@ -1,5 +1,6 @@
 package kiosk.scenes;
 
+import kiosk.FlightEvents;
 import kiosk.models.ImageModel;
 import processing.core.PApplet;
 import processing.core.PConstants;
@@ -7,6 +8,11 @@ import processing.core.PImage;
 
 public class Image {
 
+    // Opaque ARGB colors. Unlike sketch.color(), these are safe to use
+    // when images are created off of the animation thread
+    private static final int WHITE = 0xFFFFFFFF;
+    private static final int BLACK = 0xFF000000;
+
     public final ImageModel model;
     private final PImage image;
     private float rotation = 0;
@@ -49,22 +55,48 @@ public class Image {
      * be loaded from the disk, a checkered image of the same dimensions
      * is returned.
      * Note that the image is resized to the dimensions specified in the
-     * model.
+     * model. Resized images are kept in the shared ImageCache, so creating
+     * the same image again does not decode or resize it a second time.
      * @param sketch the image belongs to
      * @param model ImageModel containing path and image dimensions
      * @return the appropriately sized image
      */
     public static Image createImage(PApplet sketch, ImageModel model) {
+        return new Image(model, loadImage(sketch, model));
+    }
+
+    /**
+     * Loads the pixels of the image in the ImageModel provided, through
+     * the shared ImageCache, the same as createImage.
+     * @param sketch the image belongs to
+     * @param model ImageModel containing path and image dimensions
+     * @return the appropriately sized image
+     */
+    public static PImage loadImage(PApplet sketch, ImageModel model) {
+        return ImageCache.getInstance().load(model.path, model.width, model.height,
+                () -> loadResizedImage(sketch, model));
+    }
+
+    /**
+     * Decodes and resizes an image without going through the cache.
+     * Falls back to a checker image if the image cannot be loaded.
+     * @param sketch the image belongs to
+     * @param model ImageModel containing path and image dimensions
+     * @return the appropriately sized image
+     */
+    static PImage loadResizedImage(PApplet sketch, ImageModel model) {
         // Load image returns null if it fails
+        long startNanos = System.nanoTime();
         PImage image = sketch.loadImage(model.path);
 
         if (image == null) {
-            return Image.createCheckerImage(sketch, model);
+            return Image.createCheckerImage(sketch, model).image;
         }
 
         image.resize(model.width, model.height);
+        FlightEvents.imageDecode(model.path, model.width, model.height, startNanos);
 
-        return new Image(model, image);
+        return image;
     }
 
     /**
@@ -88,11 +120,11 @@ public class Image {
             int color2;
 
             if ((y / checkerSize) % 2 == 1) {
-                color1 = sketch.color(255, 255, 255);
-                color2 = sketch.color(0, 0, 0);
+                color1 = WHITE;
+                color2 = BLACK;
             } else {
-                color1 = sketch.color(0, 0, 0);
-                color2 = sketch.color(255, 255, 255);
+                color1 = BLACK;
+                color2 = WHITE;
             }
 
             for (int x = 0; x < model.width; x += checkerSize) {
@@ -0,0 +1,274 @@
+package kiosk.scenes;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import processing.core.PImage;
+
+/**
+ * Process-wide cache of decoded and resized images. Images are keyed by
+ * their path and the dimensions they were resized to, so the same file
+ * drawn at two sizes is stored twice. The cache is bounded by a memory
+ * budget and evicts the least recently used image once it is exceeded.
+ */
+public class ImageCache {
+
+    // Every pixel of a PImage is stored as a single ARGB int
+    private static final int BYTES_PER_PIXEL = 4;
+    public static final int DEFAULT_BUDGET_MEGABYTES = 128;
+
+    private static final ImageCache instance =
+            new ImageCache(DEFAULT_BUDGET_MEGABYTES * 1024L * 1024L);
+
+    private final LinkedHashMap<Key, PImage> images;
+    // Images currently being decoded, so two threads never decode the same image
+    private final HashMap<Key, FutureTask<PImage>> loading = new HashMap<>();
+    // Only changed while holding the lock, but read without it, e.g. by the metrics endpoint
+    private volatile long budgetBytes;
+    private volatile long usedBytes = 0;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public static ImageCache getInstance() {
+        return instance;
+    }
+
+    /**
+     * Create an empty image cache.
+     * @param budgetBytes the maximum number of pixel bytes to keep in memory
+     */
+    public ImageCache(long budgetBytes) {
+        // Access ordered, so iteration starts at the least recently used image
+        this.images = new LinkedHashMap<>(16, 0.75f, true);
+        this.budgetBytes = budgetBytes;
+    }
+
+    /**
+     * Get a previously cached image. Counts as a hit or a miss.
+     * @param path the image was loaded from
+     * @param width the image was resized to
+     * @param height the image was resized to
+     * @return the cached image, or null if it isn't cached
+     */
+    public synchronized PImage get(String path, int width, int height) {
+        PImage image = images.get(new Key(path, width, height));
+        if (image == null) {
+            misses.incrementAndGet();
+        } else {
+            hits.incrementAndGet();
+        }
+        return image;
+    }
+
+    /**
+     * Get a cached image, or load and cache it if it isn't cached yet. If
+     * another thread is already loading the same image, this waits for that
+     * thread instead of loading the image a second time.
+     * @param path the image is loaded from
+     * @param width the image is resized to
+     * @param height the image is resized to
+     * @param loader decodes and resizes the image on a miss
+     * @return the cached or freshly loaded image
+     */
+    public PImage load(String path, int width, int height, Supplier<PImage> loader) {
+        Key key = new Key(path, width, height);
+        FutureTask<PImage> task;
+        boolean isLoader = false;
+
+        synchronized (this) {
+            PImage image = images.get(key);
+            if (image != null) {
+                hits.incrementAndGet();
+                return image;
+            }
+            misses.incrementAndGet();
+
+            task = loading.get(key);
+            if (task == null) {
+                task = new FutureTask<>(loader::get);
+                loading.put(key, task);
+                isLoader = true;
+            }
+        }
+
+        if (!isLoader) {
+            try {
+                return task.get();
+            } catch (ExecutionException | InterruptedException exception) {
+                // The other thread failed, so fall back to loading it here
+                if (exception instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+                return loader.get();
+            }
+        }
+
+        task.run();
+        try {
+            PImage image = task.get();
+            synchronized (this) {
+                put(path, width, height, image);
+                loading.remove(key);
+            }
+            return image;
+        } catch (ExecutionException | InterruptedException exception) {
+            synchronized (this) {
+                loading.remove(key);
+            }
+            throw new IllegalStateException("Could not load image " + path, exception);
+        }
+    }
+
+    /**
+     * Check if an image is cached without touching the hit/miss counters
+     * or the image's position in the LRU order.
+     * @param path the image was loaded from
+     * @param width the image was resized to
+     * @param height the image was resized to
+     * @return true if the image is cached
+     */
+    public synchronized boolean contains(String path, int width, int height) {
+        return images.containsKey(new Key(path, width, height));
+    }
+
+    /**
+     * Add an image to the cache, evicting the least recently used images
+     * until the cache fits in its budget. Images larger than the whole
+     * budget are not cached.
+     * @param path the image was loaded from
+     * @param width the image was resized to
+     * @param height the image was resized to
+     * @param image the decoded and resized image
+     */
+    public synchronized void put(String path, int width, int height, PImage image) {
+        long size = sizeOf(image);
+        if (size > budgetBytes) {
+            return;
+        }
+
+        PImage previous = images.put(new Key(path, width, height), image);
+        if (previous != null) {
+            usedBytes -= sizeOf(previous);
+        }
+        usedBytes += size;
+
+        evictToFit(budgetBytes);
+    }
+
+    /**
+     * Remove an image from the cache, e.g. once it has been copied elsewhere.
+     * @param path the image was loaded from
+     * @param width the image was resized to
+     * @param height the image was resized to
+     */
+    public synchronized void remove(String path, int width, int height) {
+        PImage image = images.remove(new Key(path, width, height));
+        if (image != null) {
+            usedBytes -= sizeOf(image);
+        }
+    }
+
+    /**
+     * Change the memory budget. Images are evicted immediately if
+     * the cache no longer fits.
+     * @param budgetBytes the maximum number of pixel bytes to keep in memory
+     */
+    public synchronized void setBudgetBytes(long budgetBytes) {
+        this.budgetBytes = budgetBytes;
+        evictToFit(budgetBytes);
+    }
+
+    public long getBudgetBytes() {
+        return budgetBytes;
+    }
+
+    public long getUsedBytes() {
+        return usedBytes;
+    }
+
+    public synchronized int getSize() {
+        return images.size();
+    }
+
+    /**
+     * Remove every image from the cache. The counters are left untouched.
+     */
+    public synchronized void clear() {
+        images.clear();
+        usedBytes = 0;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    private void evictToFit(long budget) {
+        Iterator<Map.Entry<Key, PImage>> iterator = images.entrySet().iterator();
+        while (usedBytes > budget && iterator.hasNext()) {
+            usedBytes -= sizeOf(iterator.next().getValue());
+            iterator.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    private static long sizeOf(PImage image) {
+        return (long) image.width * image.height * BYTES_PER_PIXEL;
+    }
+
+    @Override
+    public String toString() {
+        return "ImageCache{"
+                + "size=" + getSize()
+                + ", usedBytes=" + getUsedBytes()
+                + ", budgetBytes=" + getBudgetBytes()
+                + ", hits=" + getHits()
+                + ", misses=" + getMisses()
+                + ", evictions=" + getEvictions()
+                + "}";
+    }
+
+    private static final class Key {
+        private final String path;
+        private final int width;
+        private final int height;
+
+        private Key(String path, int width, int height) {
+            this.path = path;
+            this.width = width;
+            this.height = height;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return width == key.width && height == key.height && Objects.equals(path, key.path);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, width, height);
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package kiosk.scenes;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import kiosk.models.ButtonModel;
+import kiosk.models.CareerDescriptionModel;
+import kiosk.models.CareerModel;
+import kiosk.models.CareerModelLoader;
+import kiosk.models.DetailsSceneModel;
+import kiosk.models.ImageModel;
+import kiosk.models.LoadedSurveyModel;
+import kiosk.models.PromptSceneModel;
+import kiosk.models.SceneModel;
+import kiosk.models.SpokeGraphPromptSceneModel;
+import kiosk.models.TimeoutSceneModel;
+import processing.core.PApplet;
+
+/**
+ * Decodes and resizes images into the ImageCache on a pool of background
+ * threads, so scenes find their images already cached when they are created.
+ * Only one batch of images is preloaded at a time. Starting a new batch
+ * cancels whatever is left of the previous one.
+ */
+public class ImagePreloader {
+
+    private final PApplet sketch;
+    private final ExecutorService workers;
+    private final List<Future<?>> pending = new ArrayList<>();
+
+    // Replaced whenever a batch is started. Each task counts against the
+    // batch it was queued for, so a task from an old batch can't count
+    // towards the new one
+    private volatile Batch batch = new Batch(0);
+
+    /**
+     * Create a preloader that loads images for the sketch provided.
+     * @param sketch the images belong to
+     */
+    public ImagePreloader(PApplet sketch) {
+        this(sketch, Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+    }
+
+    /**
+     * Create a preloader that loads images for the sketch provided.
+     * @param sketch the images belong to
+     * @param threadCount number of images to decode in parallel
+     */
+    public ImagePreloader(PApplet sketch, int threadCount) {
+        this.sketch = sketch;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable,
+                    "image-preloader-" + threadNumber.incrementAndGet());
+            // Never keep the kiosk from exiting
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+    }
+
+    /**
+     * Start preloading the images provided, cancelling any batch in progress.
+     * Images that are already cached are skipped.
+     * @param models the images to decode, at the size they will be drawn
+     */
+    public synchronized void preload(Collection<ImageModel> models) {
+        cancel();
+
+        final Batch thisBatch = new Batch(models.size());
+        batch = thisBatch;
+
+        for (ImageModel model : models) {
+            // Copy the model so later changes by the scenes can't affect the load
+            ImageModel image = model.deepCopy();
+            pending.add(workers.submit(() -> {
+                if (!thisBatch.cancelled) {
+                    Image.createImage(sketch, image);
+                    thisBatch.complete();
+                }
+            }));
+        }
+    }
+
+    /**
+     * Load images into the cache on the calling thread, without touching
+     * the current batch.
+     * @param models the images to decode, at the size they will be drawn
+     */
+    public void loadNow(Collection<ImageModel> models) {
+        for (ImageModel model : models) {
+            Image.createImage(sketch, model.deepCopy());
+        }
+    }
+
+    /**
+     * Stop preloading. Images that are already being decoded will finish,
+     * but nothing else from the current batch is started.
+     */
+    public synchronized void cancel() {
+        batch.cancelled = true;
+        for (Future<?> future : pending) {
+            future.cancel(false);
+        }
+        pending.clear();
+    }
+
+    /**
+     * Cancel the current batch and stop the worker threads.
+     */
+    public synchronized void shutdown() {
+        cancel();
+        workers.shutdown();
+    }
+
+    public int getCompleted() {
+        return batch.completed.get();
+    }
+
+    public int getTotal() {
+        return batch.total;
+    }
+
+    /**
+     * Get how much of the current batch has been loaded.
+     * @return a value between 0 and 1, where 1 means done
+     */
+    public float getProgress() {
+        Batch batch = this.batch;
+        return batch.total == 0 ? 1 : (float) batch.completed.get() / batch.total;
+    }
+
+    public boolean isDone() {
+        Batch batch = this.batch;
+        return batch.completed.get() >= batch.total;
+    }
+
+    /**
+     * Summarize the current batch for the frame log.
+     * @return one line with the progress of the batch, and how long it took once done
+     */
+    public String getSummary() {
+        Batch batch = this.batch;
+        long nanos = batch.nanos;
+        return String.format("%-12s %d of %d images%s%n", "Preloaded", batch.completed.get(),
+                batch.total, nanos < 0 ? "" : String.format(" in %dms", nanos / 1000000));
+    }
+
+    /**
+     * Find every image a survey and its careers will show, at the size each
+     * scene will resize it to. Images whose size depends on the user's score
+     * (like those in spoke graphs) can't be known ahead of time and are left out.
+     * @param survey to search for images
+     * @param careers to include the images of
+     * @return the images to preload
+     */
+    public static List<ImageModel> findImages(LoadedSurveyModel survey, CareerModel[] careers) {
+        List<ImageModel> images = new ArrayList<>();
+
+        for (SceneModel scene : survey.scenes) {
+            images.addAll(findImages(scene));
+        }
+
+        for (CareerModel career : careers) {
+            images.add(createCareerImage(career.imagePath));
+        }
+
+        return images;
+    }
+
+    /**
+     * Find every image a single scene will load when it's initialized.
+     * @param scene to search for images
+     * @return the images to preload
+     */
+    public static List<ImageModel> findImages(SceneModel scene) {
+        List<ImageModel> images = new ArrayList<>();
+
+        if (scene instanceof PromptSceneModel) {
+            addButtonImages(images, ((PromptSceneModel) scene).answers,
+                    PromptScene.getAnswerImageSize());
+        } else if (scene instanceof SpokeGraphPromptSceneModel) {
+            addButtonImages(images, ((SpokeGraphPromptSceneModel) scene).answers,
+                    SpokeGraphPromptScene.getAnswerImageSize());
+        } else if (scene instanceof DetailsSceneModel) {
+            ButtonModel[] targets = ((DetailsSceneModel) scene).targets;
+            if (targets.length > 0) {
+                addButtonImages(images, new ButtonModel[]{ targets[0] },
+                        DetailsScene.getTargetImageSize());
+            }
+        } else if (scene instanceof CareerDescriptionModel) {
+            ImageModel image = ((CareerDescriptionModel) scene).image;
+            if (image != null) {
+                images.add(createCareerImage(image.path));
+            }
+        } else if (scene instanceof TimeoutSceneModel) {
+            ImageModel image = ((TimeoutSceneModel) scene).imageModel;
+            if (image != null && image.path != null) {
+                images.add(image);
+            }
+        }
+
+        return images;
+    }
+
+    private static ImageModel createCareerImage(String path) {
+        // The career loader has already swapped missing images for the default
+        if (path == null) {
+            path = CareerModelLoader.DEFAULT_IMAGE_PATH;
+        }
+        int size = CareerDescriptionScene.getImageSize();
+        return new ImageModel(path, size, size);
+    }
+
+    private static void addButtonImages(List<ImageModel> images, ButtonModel[] buttons, int size) {
+        if (buttons == null) {
+            return;
+        }
+
+        for (ButtonModel button : buttons) {
+            if (button != null && button.image != null && button.image.path != null) {
+                images.add(new ImageModel(button.image.path, size, size));
+            }
+        }
+    }
+
+    private static final class Batch {
+        private final int total;
+        private final AtomicInteger completed = new AtomicInteger();
+        private final long startNanos = System.nanoTime();
+        // How long the batch took to finish, or -1 if it hasn't
+        private volatile long nanos = -1;
+        private volatile boolean cancelled = false;
+
+        private Batch(int total) {
+            this.total = total;
+        }
+
+        private void complete() {
+            if (completed.incrementAndGet() == total) {
+                nanos = System.nanoTime() - startNanos;
+            }
+        }
+    }
+}
@@ -12,13 +12,12 @@ import javafx.scene.control.Label;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 import kiosk.Kiosk;
-import kiosk.Riasec;
 import kiosk.SceneGraph;
 import kiosk.models.ButtonModel;
 import kiosk.models.CareerPathwaySceneModel;
 import kiosk.models.CreditsSceneModel;
-import kiosk.models.FilterGroupModel;
 import kiosk.models.PathwaySceneModel;
+import kiosk.models.SceneKind;
 import processing.core.PConstants;
 
 public class PathwayScene implements Scene {
@@ -37,9 +36,7 @@ public class PathwayScene implements Scene {
     //Animations
     private int sceneAnimationMilliseconds = Kiosk.getSettings().sceneAnimationMilliseconds;
     private SceneAnimationHelper.Clicked clicked;
-    private String sceneToGoTo;
-    private Riasec riasecToGoTo;
-    private FilterGroupModel filterToGoTo;
+    private ButtonModel buttonToGoTo;
     private float totalTimeOpening = 0;
     private float totalTimeEnding = 0;
     private float dt = 0;
@@ -54,9 +51,6 @@ public class PathwayScene implements Scene {
         this.model = model;
         screenW = Kiosk.getSettings().screenW;
         screenH = Kiosk.getSettings().screenH;
-        for (ButtonModel careerModel : model.buttonModels) {
-            careerModel.isCircle = true;
-        }
 
         this.originalButtonColors = new ArrayList<>();
         for (ButtonModel buttonModel : model.buttonModels) {
@@ -108,9 +102,7 @@ public class PathwayScene implements Scene {
         for (ButtonControl button : this.spokeGraph.getButtonControls()) {
             if (button.wasClicked()) {
                 clicked = SceneAnimationHelper.Clicked.NEXT;
-                sceneToGoTo = button.getTarget();
-                riasecToGoTo = button.getModel().category;
-                filterToGoTo = button.getModel().filter;
+                buttonToGoTo = button.getModel();
                 break;
             }
         }
@@ -143,7 +135,7 @@ public class PathwayScene implements Scene {
 
         int[] returnVals = SceneAnimationHelper.sceneAnimationLogic(sketch,
                 clicked,
-                sceneToGoTo, riasecToGoTo, filterToGoTo,
+                buttonToGoTo,
                 totalTimeOpening, totalTimeEnding, sceneAnimationMilliseconds,
                 screenW, screenH);
         drawThisFrame(sketch, returnVals[0], returnVals[1]);
@@ -173,4 +165,9 @@ public class PathwayScene implements Scene {
             }
         }
     }
+
+    @Override
+    public SceneKind getKind() {
+        return SceneKind.PATHWAY;
+    }
 }
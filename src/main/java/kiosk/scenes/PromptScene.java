@@ -4,11 +4,10 @@ import graphics.Graphics;
 import graphics.GraphicsUtil;
 import graphics.SceneAnimationHelper;
 import kiosk.Kiosk;
-import kiosk.Riasec;
 import kiosk.SceneGraph;
 import kiosk.models.ButtonModel;
-import kiosk.models.FilterGroupModel;
 import kiosk.models.PromptSceneModel;
+import kiosk.models.SceneKind;
 import processing.core.PConstants;
 
 
@@ -47,9 +46,7 @@ public class PromptScene implements Scene {
     private int sceneAnimationMilliseconds = Kiosk.getSettings().sceneAnimationMilliseconds;
     private SceneAnimationHelper.Clicked clicked;
 
-    private String sceneToGoTo;
-    private Riasec riasecToGoTo;
-    private FilterGroupModel filterToGoTo;
+    private ButtonModel buttonToGoTo;
     private float totalTimeOpening = 0;
     private float totalTimeEnding = 0;
     private float dt = 0;
@@ -92,12 +89,20 @@ public class PromptScene implements Scene {
         buttonWidth = screenW / 8;
         buttonHeight = screenH / 6;
         buttonRadius = screenW / 8;
-        buttonImageWidth = buttonRadius * 4 / 5;
-        buttonImageHeight = buttonRadius * 4 / 5;
+        buttonImageWidth = getAnswerImageSize();
+        buttonImageHeight = getAnswerImageSize();
         buttonPadding = 20;
         buttonY = screenH * 7 / 12;
     }
 
+    /**
+     * Gets the size that answer images are resized to. The images are square.
+     * @return the width and height of an answer image
+     */
+    static int getAnswerImageSize() {
+        return Kiosk.getSettings().screenW / 8 * 4 / 5;
+    }
+
     @Override
     public void init(Kiosk sketch) {
         final int sketchHeight = Kiosk.getSettings().screenH;
@@ -121,13 +126,9 @@ public class PromptScene implements Scene {
                 height = buttonHeight;
             }
 
-            // Modify the image so it fits inside the button
-            if (model.image != null) {
-                model.image.width = buttonImageWidth;
-                model.image.height = buttonImageHeight;
-            }
-
             ButtonControl button = new ButtonControl(model, x, buttonY, width, height);
+            // Resize the image so it fits inside the button
+            button.setImageSize(buttonImageWidth, buttonImageHeight);
             button.init(sketch);
 
             sketch.hookControl(button);
@@ -162,9 +163,7 @@ public class PromptScene implements Scene {
         for (ButtonControl button : this.buttons) {
             if (button.wasClicked()) {
                 clicked = SceneAnimationHelper.Clicked.NEXT;
-                sceneToGoTo = button.getTarget();
-                riasecToGoTo = button.getModel().category;
-                filterToGoTo = button.getModel().filter;
+                buttonToGoTo = button.getModel();
                 break;
             }
         }
@@ -194,7 +193,7 @@ public class PromptScene implements Scene {
 
         int[] returnVals = SceneAnimationHelper.sceneAnimationLogic(sketch,
                 clicked,
-                sceneToGoTo, riasecToGoTo, filterToGoTo,
+                buttonToGoTo,
                 totalTimeOpening, totalTimeEnding, sceneAnimationMilliseconds,
                 screenW, screenH);
         drawThisFrame(sketch, returnVals[0], returnVals[1]);
@@ -202,33 +201,7 @@ public class PromptScene implements Scene {
     }
 
     private void drawThisFrame(Kiosk sketch, float offsetX, float offsetY) {
-        final int centerX = Kiosk.getSettings().screenW / 2;
-        // Draw the white foreground box
-        sketch.fill(255);
-        Graphics.drawRoundedRectangle(sketch,
-                foregroundXPadding + offsetX, foregroundYPadding + offsetY,
-                foregroundWidth, foregroundHeight,
-                foregroundCurveRadius);
-
-        // Draw text
-        sketch.rectMode(PConstants.CENTER);
-        sketch.textAlign(PConstants.CENTER, PConstants.CENTER);
-        sketch.fill(0);
-
-        // Title
-        Graphics.useGothic(sketch, titleFontSize, true);
-        sketch.text(this.model.title, centerX + offsetX, titleY + offsetY,
-                sketch.width / 1.5f, sketch.height / 5f);
-
-        // Prompt
-        Graphics.useGothic(sketch, promptFontSize, false);
-        sketch.text(this.model.prompt, centerX + offsetX, promptY + offsetY,
-                sketch.width / 1.5f, sketch.height / 5f);
-
-        // Action
-        Graphics.useGothic(sketch, actionFontSize, true);
-        sketch.text(this.model.actionPhrase, centerX + offsetX, actionY + offsetY,
-                sketch.width / 1.5f, sketch.height / 6f);
+        drawForeground(sketch, offsetX, offsetY);
 
         // Draw buttons
         for (ButtonControl button : this.buttons) {
@@ -258,4 +231,40 @@ public class PromptScene implements Scene {
             }
         }
     }
+
+    private void drawForeground(Kiosk sketch, float offsetX, float offsetY) {
+        final int centerX = Kiosk.getSettings().screenW / 2;
+
+        // Draw the white foreground box
+        sketch.fill(255);
+        Graphics.drawRoundedRectangle(sketch,
+                foregroundXPadding + offsetX, foregroundYPadding + offsetY,
+                foregroundWidth, foregroundHeight,
+                foregroundCurveRadius);
+
+        // Draw text
+        sketch.rectMode(PConstants.CENTER);
+        sketch.textAlign(PConstants.CENTER, PConstants.CENTER);
+        sketch.fill(0);
+
+        // Title
+        Graphics.useGothic(sketch, titleFontSize, true);
+        sketch.text(this.model.title, centerX + offsetX, titleY + offsetY,
+                sketch.width / 1.5f, sketch.height / 5f);
+
+        // Prompt
+        Graphics.useGothic(sketch, promptFontSize, false);
+        sketch.text(this.model.prompt, centerX + offsetX, promptY + offsetY,
+                sketch.width / 1.5f, sketch.height / 5f);
+
+        // Action
+        Graphics.useGothic(sketch, actionFontSize, true);
+        sketch.text(this.model.actionPhrase, centerX + offsetX, actionY + offsetY,
+                sketch.width / 1.5f, sketch.height / 6f);
+    }
+
+    @Override
+    public SceneKind getKind() {
+        return SceneKind.PROMPT;
+    }
 }
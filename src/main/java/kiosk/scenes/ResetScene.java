@@ -2,6 +2,7 @@ package kiosk.scenes;
 
 import kiosk.Kiosk;
 import kiosk.SceneGraph;
+import kiosk.models.SceneKind;
 
 public class ResetScene implements Scene {
 
@@ -19,4 +20,9 @@ public class ResetScene implements Scene {
     public void draw(Kiosk sketch) {
 
     }
+
+    @Override
+    public SceneKind getKind() {
+        return SceneKind.RESET;
+    }
 }
@@ -2,10 +2,16 @@ package kiosk.scenes;
 
 import kiosk.Kiosk;
 import kiosk.SceneGraph;
+import kiosk.models.SceneKind;
 
 /**
  * A Scene the user sees and possibly interacts with.
  * Usually the visual side of the SceneModel interface.
+ *
+ * <p>Scenes may be constructed off the animation thread, see
+ * SceneGraph.prepareScene, while other scenes built from the same model are
+ * shown. Constructors must not change their model or use the sketch.
+ * Everything else, starting with init, runs on the animation thread.
  */
 public interface Scene {
     /**
@@ -28,4 +34,10 @@ public interface Scene {
      * @param sketch to draw to
      */
     void draw(Kiosk sketch);
+
+    /**
+     * Get the kind of this scene.
+     * @return the kind of scene
+     */
+    SceneKind getKind();
 }
@@ -5,12 +5,11 @@ import graphics.GraphicsUtil;
 import graphics.SceneAnimationHelper;
 import graphics.SpokeGraph;
 import kiosk.Kiosk;
-import kiosk.Riasec;
 import kiosk.SceneGraph;
 import kiosk.UserScore;
 import kiosk.models.ButtonModel;
 import kiosk.models.CareerModel;
-import kiosk.models.FilterGroupModel;
+import kiosk.models.SceneKind;
 import kiosk.models.SpokeGraphPromptSceneModel;
 import processing.core.PConstants;
 
@@ -23,9 +22,9 @@ public class SpokeGraphPromptScene implements Scene {
 
     // Header
     private static float headerW = screenW * 3f / 4;
-    private static float headerH = screenH / 6f;
+    private static float headerH = getHeaderHeight(screenH);
     private static float headerX = (screenW - headerW) / 2;
-    private static float headerY = screenH / 32f;
+    private static float headerY = getHeaderY(screenH);
     private static float headerCenterX = headerX + (headerW / 2);
     private static float headerCenterY = headerY + (headerH / 2);
     private static int headerCurveRadius = 25;
@@ -48,6 +47,9 @@ public class SpokeGraphPromptScene implements Scene {
     private ButtonControl[] answerButtons;
     private final ButtonControl promptButton;
     private SpokeGraph spokeGraph;
+    // Spoke graphs of the current scores, built on the first frame that needs them
+    private SpokeGraph settledSpokeGraph;
+    private SpokeGraph departingSpokeGraph;
     private ButtonControl backButton;
     private ButtonControl homeButton;
     private ButtonControl supplementaryButton;
@@ -56,9 +58,7 @@ public class SpokeGraphPromptScene implements Scene {
     //Animations
     private int sceneAnimationMilliseconds = Kiosk.getSettings().sceneAnimationMilliseconds;
     private SceneAnimationHelper.Clicked clicked;
-    private String sceneToGoTo;
-    private Riasec riasecToGoTo;
-    private FilterGroupModel filterToGoTo;
+    private ButtonModel buttonToGoTo;
     private float totalTimeOpening = 0;
     private float totalTimeEnding = 0;
     private float dt = 0;
@@ -78,9 +78,9 @@ public class SpokeGraphPromptScene implements Scene {
 
         // Header
         headerW = screenW * 3f / 4;
-        headerH = screenH / 6f;
+        headerH = getHeaderHeight(screenH);
         headerX = (screenW - headerW) / 2;
-        headerY = screenH / 32f;
+        headerY = getHeaderY(screenH);
         headerCenterX = headerX + (headerW / 2);
         headerCenterY = headerY + (headerH / 2);
         headerCurveRadius = 25;
@@ -100,8 +100,8 @@ public class SpokeGraphPromptScene implements Scene {
 
         this.answerButtons = new ButtonControl[this.model.answers.length];
 
-        int headerBottomY = (int) (headerY + headerH) + 40;
-        int answerDiameter = (screenH - headerBottomY) / 3;
+        int headerBottomY = getHeaderBottomY(screenH);
+        int answerDiameter = getAnswerDiameter(screenH);
         int answerRadius = answerDiameter / 2;
         int halfHeight = (screenH - headerBottomY) / 2;
 
@@ -144,11 +144,8 @@ public class SpokeGraphPromptScene implements Scene {
             );
         }
 
-        for (int i = 0; i < answersCount; i++) {
-            if (model.answers[i].image != null) {
-                model.answers[i].image.width = answerDiameter - ANSWER_IMAGE_PADDING;
-                model.answers[i].image.height = answerDiameter - ANSWER_IMAGE_PADDING;
-            }
+        for (ButtonControl answerButton : this.answerButtons) {
+            answerButton.setImageSize(getAnswerImageSize(), getAnswerImageSize());
         }
 
         ButtonModel prompt = new ButtonModel();
@@ -164,6 +161,32 @@ public class SpokeGraphPromptScene implements Scene {
         promptButton.setDisabled(true);
     }
 
+    /**
+     * Gets the size that answer images are resized to. The images are square.
+     * @return the width and height of an answer image
+     */
+    static int getAnswerImageSize() {
+        return getAnswerDiameter(Kiosk.getSettings().screenH) - ANSWER_IMAGE_PADDING;
+    }
+
+    // The layout is shared by the constructor and getAnswerImageSize, so the
+    // preloaded images are the size the answers are drawn at
+    private static float getHeaderY(int screenH) {
+        return screenH / 32f;
+    }
+
+    private static float getHeaderHeight(int screenH) {
+        return screenH / 6f;
+    }
+
+    private static int getHeaderBottomY(int screenH) {
+        return (int) (getHeaderY(screenH) + getHeaderHeight(screenH)) + 40;
+    }
+
+    private static int getAnswerDiameter(int screenH) {
+        return (screenH - getHeaderBottomY(screenH)) / 3;
+    }
+
     @Override
     public void init(Kiosk sketch) {
 
@@ -192,6 +215,8 @@ public class SpokeGraphPromptScene implements Scene {
                 this.model.careerCenterText, careerButtons, careerWeights, model.answerCenterColor);
         spokeGraph.setDisabled(true);
         spokeGraph.init(sketch);
+        settledSpokeGraph = null;
+        departingSpokeGraph = null;
 
         for (ButtonControl button : this.answerButtons) {
             button.init(sketch);
@@ -228,9 +253,7 @@ public class SpokeGraphPromptScene implements Scene {
         for (ButtonControl button : this.answerButtons) {
             if (button.wasClicked()) {
                 clicked = SceneAnimationHelper.Clicked.NEXT;
-                sceneToGoTo = button.getTarget();
-                riasecToGoTo = button.getModel().category;
-                filterToGoTo = button.getModel().filter;
+                buttonToGoTo = button.getModel();
                 break;
             }
         }
@@ -263,7 +286,7 @@ public class SpokeGraphPromptScene implements Scene {
 
         int[] returnVals = SceneAnimationHelper.sceneAnimationLogicSpokeGraphPromptScene(sketch,
                 clicked,
-                sceneToGoTo, riasecToGoTo, filterToGoTo,
+                buttonToGoTo,
                 totalTimeOpening, totalTimeEnding, sceneAnimationMilliseconds,
                 screenW, screenH, headerY, headerH);
 
@@ -283,7 +306,7 @@ public class SpokeGraphPromptScene implements Scene {
                 break;
             case 5:
                 drawThisFrame(sketch, returnVals[0], returnVals[1]);
-                sketch.getSceneGraph().pushScene(sceneToGoTo, riasecToGoTo, filterToGoTo);
+                sketch.getSceneGraph().pushScene(buttonToGoTo);
                 break;
             default:
                 break;
@@ -313,31 +336,12 @@ public class SpokeGraphPromptScene implements Scene {
         // Draw the center prompt button
         this.promptButton.draw(sketch, offsetX, offsetY);
 
-        // Draw the career spoke graph
-        // Define the size of the square that the spoke graph will fit in
-        final double availableHeight = (screenH - headerY - headerH);
-        final double size = Math.min(screenW, availableHeight);
-        // Reference to current list of careers
-        UserScore userScore = sketch.getUserScore(); // Reference to user's RIASEC scores
-        CareerModel[] careers = userScore.getCareers();
-
-        // Create spokes for each of the careers (weighted based on user's RIASEC scores)
-        ButtonModel[] careerButtons = new ButtonModel[careers.length];
-        double[] careerWeights = new double[careers.length];
-
-        for (int i = 0; i < careers.length; i++) {
-            CareerModel career = careers[i];
-            careerButtons[i] = new ButtonModel();
-            careerButtons[i].text = career.name;
-            careerWeights[i] = userScore.getCategoryScore(career.riasecCategory);
+        // Draw the career spoke graph of the current scores. The scores don't
+        // change while the scene is shown, so it's only built once
+        if (settledSpokeGraph == null) {
+            settledSpokeGraph = createCareerSpokeGraph(sketch, model.careersCenterColor);
         }
-
-        // Create spoke graph
-        spokeGraph = new SpokeGraph(size, 0, headerY + headerH,
-                this.model.careerCenterText, careerButtons,
-                careerWeights, model.careersCenterColor);
-        spokeGraph.setDisabled(true);
-        spokeGraph.init(sketch);
+        spokeGraph = settledSpokeGraph;
         spokeGraph.draw(sketch, offsetX, offsetY);
 
         if (isRoot) {
@@ -458,30 +462,11 @@ public class SpokeGraphPromptScene implements Scene {
         // Draw the center prompt button
         this.promptButton.draw(sketch, otherOffsetX, 0);
 
-        // Draw the career spoke graph
-        // Define the size of the square that the spoke graph will fit in
-        final double availableHeight = (screenH - headerY - headerH);
-        final double size = Math.min(screenW, availableHeight);
-        // Reference to current list of careers
-        UserScore userScore = sketch.getUserScore(); // Reference to user's RIASEC scores
-        CareerModel[] careers = userScore.getCareers();
-
-        // Create spokes for each of the careers (weighted based on user's RIASEC scores)
-        ButtonModel[] careerButtons = new ButtonModel[careers.length];
-        double[] careerWeights = new double[careers.length];
-
-        for (int i = 0; i < careers.length; i++) {
-            CareerModel career = careers[i];
-            careerButtons[i] = new ButtonModel();
-            careerButtons[i].text = career.name;
-            careerWeights[i] = userScore.getCategoryScore(career.riasecCategory);
+        // Draw the career spoke graph of the current scores
+        if (departingSpokeGraph == null) {
+            departingSpokeGraph = createCareerSpokeGraph(sketch, model.answerCenterColor);
         }
-
-        // Create spoke graph
-        spokeGraph = new SpokeGraph(size, 0, headerY + headerH,
-                this.model.careerCenterText, careerButtons, careerWeights, model.answerCenterColor);
-        spokeGraph.setDisabled(true);
-        spokeGraph.init(sketch);
+        spokeGraph = departingSpokeGraph;
         spokeGraph.draw(sketch, offsetX, 0);
 
         if (isRoot) {
@@ -504,4 +489,41 @@ public class SpokeGraphPromptScene implements Scene {
             }
         }
     }
+
+    /**
+     * Create a spoke graph of the careers, weighted by the user's current scores.
+     * @param sketch the spoke graph is drawn to
+     * @param centerColor of the center circle
+     * @return the spoke graph
+     */
+    private SpokeGraph createCareerSpokeGraph(Kiosk sketch, int[] centerColor) {
+        // Define the size of the square that the spoke graph will fit in
+        final double availableHeight = (screenH - headerY - headerH);
+        final double size = Math.min(screenW, availableHeight);
+        // Reference to current list of careers
+        UserScore userScore = sketch.getUserScore(); // Reference to user's RIASEC scores
+        CareerModel[] careers = userScore.getCareers();
+
+        // Create spokes for each of the careers (weighted based on user's RIASEC scores)
+        ButtonModel[] careerButtons = new ButtonModel[careers.length];
+        double[] careerWeights = new double[careers.length];
+
+        for (int i = 0; i < careers.length; i++) {
+            CareerModel career = careers[i];
+            careerButtons[i] = new ButtonModel();
+            careerButtons[i].text = career.name;
+            careerWeights[i] = userScore.getCategoryScore(career.riasecCategory);
+        }
+
+        SpokeGraph careerSpokeGraph = new SpokeGraph(size, 0, headerY + headerH,
+                this.model.careerCenterText, careerButtons, careerWeights, centerColor);
+        careerSpokeGraph.setDisabled(true);
+        careerSpokeGraph.init(sketch);
+        return careerSpokeGraph;
+    }
+
+    @Override
+    public SceneKind getKind() {
+        return SceneKind.SPOKE_GRAPH_PROMPT;
+    }
 }
@@ -5,6 +5,7 @@ import graphics.Graphics;
 import kiosk.Kiosk;
 import kiosk.SceneGraph;
 import kiosk.models.ButtonModel;
+import kiosk.models.SceneKind;
 import kiosk.models.TimeoutSceneModel;
 import processing.core.PConstants;
 
@@ -163,4 +164,9 @@ public class TimeoutScene implements Scene {
         homeButton.draw(sketch);
         backButton.draw(sketch);
     }
+
+    @Override
+    public SceneKind getKind() {
+        return SceneKind.TIMEOUT;
+    }
 }
@@ -2,6 +2,7 @@ package kiosk.scenes;
 
 import kiosk.Kiosk;
 import kiosk.SceneGraph;
+import kiosk.models.SceneKind;
 import kiosk.models.WaveTransitionSceneModel;
 import processing.core.PApplet;
 
@@ -59,4 +60,9 @@ public class WaveTransitionScene implements Scene {
         sketch.vertex(sketch.width, sketch.height);
         sketch.endShape();
     }
+
+    @Override
+    public SceneKind getKind() {
+        return SceneKind.WAVE_TRANSITION;
+    }
 }
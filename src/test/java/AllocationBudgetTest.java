@@ -0,0 +1,112 @@
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Properties;
+import kiosk.AllocationProbe;
+import kiosk.HeadlessRenderer;
+import kiosk.models.ButtonModel;
+import kiosk.models.CareerPathwaySceneModel;
+import kiosk.models.PromptSceneModel;
+import kiosk.models.SceneKind;
+import kiosk.models.SceneModel;
+import kiosk.models.SpokeGraphPromptSceneModel;
+import kiosk.scenes.Scene;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Fails when a scene's steady-state allocation per frame exceeds its budget
+ * in src/test/resources/allocation-budgets.properties.
+ */
+public class AllocationBudgetTest {
+    private static final File BUDGETS =
+            new File("src/test/resources/allocation-budgets.properties");
+    // Enough frames for scenes to finish animating in, and for the JIT to settle
+    private static final int WARMUP_FRAMES = 240;
+    private static final int MEASURED_FRAMES = 120;
+
+    private static HeadlessRenderer renderer;
+    private static Properties budgets;
+
+    @BeforeAll
+    static void createRenderer() throws IOException {
+        renderer = new HeadlessRenderer(640, 360);
+        budgets = new Properties();
+        try (Reader reader = new FileReader(BUDGETS)) {
+            budgets.load(reader);
+        }
+    }
+
+    private static ButtonModel[] createAnswers(int count) {
+        ButtonModel[] answers = new ButtonModel[count];
+        for (int i = 0; i < count; i++) {
+            answers[i] = new ButtonModel("Answer " + i, "next");
+        }
+        return answers;
+    }
+
+    private static long measureMeanBytes(SceneModel model) {
+        AllocationProbe probe = new AllocationProbe();
+        assumeTrue(probe.isSupported(), "This JVM can't count allocated bytes");
+        Scene scene = renderer.startScene(model);
+        for (int i = 0; i < WARMUP_FRAMES; i++) {
+            renderer.drawFrame(scene);
+        }
+        for (int i = 0; i < MEASURED_FRAMES; i++) {
+            probe.beginFrame();
+            renderer.drawFrame(scene);
+            probe.endFrame(scene.getKind());
+        }
+        return probe.getMeanBytes(scene.getKind());
+    }
+
+    private static void assertWithinBudget(SceneKind kind, long meanBytes) {
+        String budget = budgets.getProperty(kind.name());
+        assertNotNull(budget, "No allocation budget for " + kind);
+        assertTrue(meanBytes <= Long.parseLong(budget), kind + " allocates "
+                + meanBytes + " bytes per frame, over its budget of " + budget);
+    }
+
+    @Test
+    void promptSceneIsWithinBudget() {
+        // Arrange
+        PromptSceneModel model = new PromptSceneModel();
+        model.answers = createAnswers(3);
+
+        // Act
+        long meanBytes = measureMeanBytes(model);
+
+        // Assert
+        assertWithinBudget(SceneKind.PROMPT, meanBytes);
+    }
+
+    @Test
+    void spokeGraphPromptSceneIsWithinBudget() {
+        // Arrange
+        SpokeGraphPromptSceneModel model = SpokeGraphPromptSceneModel.create();
+        model.answers = createAnswers(4);
+
+        // Act
+        long meanBytes = measureMeanBytes(model);
+
+        // Assert
+        assertWithinBudget(SceneKind.SPOKE_GRAPH_PROMPT, meanBytes);
+    }
+
+    @Test
+    void careerPathwaySceneIsWithinBudget() {
+        // Arrange
+        CareerPathwaySceneModel model = CareerPathwaySceneModel.create();
+
+        // Act
+        long meanBytes = measureMeanBytes(model);
+
+        // Assert
+        assertWithinBudget(SceneKind.CAREER_PATHWAY, meanBytes);
+    }
+}
@@ -0,0 +1,53 @@
+import kiosk.Riasec;
+import kiosk.models.CareerCatalog;
+import kiosk.models.CareerModel;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CareerCatalogTest {
+
+    private static CareerModel createCareer(String name, String category, String field,
+                                            Riasec riasec) {
+        CareerModel career = new CareerModel();
+        career.name = name;
+        // Copy the strings so interning can be observed
+        career.category = new String(category);
+        career.field = new String(field);
+        career.riasecCategory = riasec;
+        return career;
+    }
+
+    @Test
+    void careersAreGroupedByCategoryAndField() {
+        // Arrange
+        CareerModel[] careers = new CareerModel[] {
+            createCareer("Nurse", "Health", "Care", Riasec.Social),
+            createCareer("Surgeon", "Health", "Medicine", Riasec.Investigative),
+            createCareer("Welder", "Industry", "Metal", Riasec.Realistic),
+            createCareer("Doctor", "Health", "Medicine", Riasec.Investigative),
+        };
+
+        // Act
+        CareerCatalog catalog = new CareerCatalog(careers);
+
+        // Assert
+        assertEquals(4, catalog.size());
+        assertArrayEquals(new String[] { "Health", "Industry" },
+                catalog.getCategories().toArray(new String[0]));
+        assertArrayEquals(new String[] { "Care", "Medicine" },
+                catalog.getFields("Health").toArray(new String[0]));
+        assertArrayEquals(new int[] { 1, 3 }, catalog.getCareerIds("Health", "Medicine"));
+        assertEquals(3, catalog.getCareerNames("Health", CareerCatalog.ALL_FIELDS).size());
+        assertTrue(catalog.getCareerNames("Space", CareerCatalog.ALL_FIELDS).isEmpty());
+        assertTrue(catalog.getFields("Space").isEmpty());
+        assertEquals(2, catalog.getCareers(Riasec.Investigative).size());
+        assertEquals(2, catalog.getId("Welder"));
+        assertEquals(-1, catalog.getId("Astronaut"));
+        assertSame(careers[1].category, careers[3].category);
+        assertSame(careers[1].field, careers[3].field);
+    }
+}
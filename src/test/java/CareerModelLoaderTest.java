@@ -0,0 +1,72 @@
+import kiosk.models.CareerModel;
+import kiosk.models.CareerModelLoader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CareerModelLoaderTest {
+
+    @Test
+    void snapshotMatchesParsedCsv(@TempDir Path directory) throws IOException {
+        // Arrange
+        File csvFile = directory.resolve("careers.csv").toFile();
+        File snapshotFile = directory.resolve("careers.csv.snapshot").toFile();
+        try (PrintWriter writer = new PrintWriter(csvFile)) {
+            writer.println("Categories,Fields,Holland Codes,Career Name,Description,Image Path");
+            writer.println("Health,Medicine,Investigative,Surgeon,Operates,missing.png");
+            writer.println("Health,Medicine,Nope,Doctor,,");
+            writer.println("Space,Rockets");
+        }
+        CareerModelLoader parser = new CareerModelLoader(csvFile, snapshotFile);
+
+        // Act
+        CareerModel[] parsed = parser.load();
+        CareerModelLoader reader = new CareerModelLoader(csvFile, snapshotFile);
+        CareerModel[] read = reader.load();
+
+        // Assert
+        assertTrue(snapshotFile.exists());
+        assertEquals(2, read.length);
+        for (int i = 0; i < parsed.length; i++) {
+            assertEquals(parsed[i].name, read[i].name);
+            assertEquals(parsed[i].riasecCategory, read[i].riasecCategory);
+            assertEquals(parsed[i].description, read[i].description);
+            assertEquals(parsed[i].imagePath, read[i].imagePath);
+        }
+        assertEquals(CareerModelLoader.DEFAULT_IMAGE_PATH, read[0].imagePath);
+        assertTrue(reader.hasIssues());
+        assertEquals(parser.getIssuesSummary(), reader.getIssuesSummary());
+    }
+
+    @Test
+    void corruptSnapshotIsParsedAgain(@TempDir Path directory) throws IOException {
+        // Arrange
+        File csvFile = directory.resolve("careers.csv").toFile();
+        File snapshotFile = directory.resolve("careers.csv.snapshot").toFile();
+        try (PrintWriter writer = new PrintWriter(csvFile)) {
+            writer.println("Categories,Fields,Holland Codes,Career Name,Description,Image Path");
+            writer.println("Health,Medicine,Investigative,Surgeon,Operates,");
+        }
+        new CareerModelLoader(csvFile, snapshotFile).load();
+        // The length of the first string, after the magic number and version
+        try (RandomAccessFile snapshot = new RandomAccessFile(snapshotFile, "rw")) {
+            snapshot.seek(8);
+            snapshot.writeInt(Integer.MAX_VALUE);
+        }
+
+        // Act
+        CareerModel[] careers = new CareerModelLoader(csvFile, snapshotFile).load();
+
+        // Assert
+        assertEquals(1, careers.length);
+        assertEquals("Surgeon", careers[0].name);
+    }
+}
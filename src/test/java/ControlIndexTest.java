@@ -0,0 +1,53 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import kiosk.ControlIndex;
+import kiosk.models.ButtonModel;
+import kiosk.scenes.ButtonControl;
+import kiosk.scenes.Control;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ControlIndexTest {
+
+    @Test
+    void findsControlsUnderPointTopmostFirst() {
+        // Arrange
+        ControlIndex<ButtonControl> index = new ControlIndex<>(50);
+        index.reset(400, 300);
+        ButtonControl bottom = new ButtonControl(new ButtonModel(), 0, 0, 200, 100);
+        ButtonControl top = new ButtonControl(new ButtonModel(), 100, 50, 200, 100);
+        ButtonControl elsewhere = new ButtonControl(new ButtonModel(), 300, 200, 50, 50);
+        index.add(bottom);
+        index.add(top);
+        index.add(elsewhere);
+        List<Control<?, ?>> hits = new ArrayList<>();
+
+        // Act
+        index.findAt(150, 75, hits);
+
+        // Assert
+        assertEquals(Arrays.asList(top, bottom), hits);
+    }
+
+    @Test
+    void refreshFollowsMovedControls() {
+        // Arrange
+        ControlIndex<ButtonControl> index = new ControlIndex<>(50);
+        index.reset(400, 300);
+        ButtonControl button = new ButtonControl(new ButtonModel(), 0, 0, 40, 40);
+        index.add(button);
+        List<Control<?, ?>> hits = new ArrayList<>();
+
+        // Act
+        button.getBounds().setLocation(300, 200);
+        index.refresh();
+
+        // Assert
+        index.findAt(10, 10, hits);
+        assertEquals(0, hits.size());
+        index.findAt(310, 210, hits);
+        assertEquals(Arrays.asList(button), hits);
+    }
+}
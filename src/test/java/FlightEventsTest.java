@@ -0,0 +1,60 @@
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import kiosk.FlightEvents;
+import kiosk.SceneGraph;
+import kiosk.models.CareerModelLoader;
+import kiosk.models.LoadedSurveyModel;
+import kiosk.models.PromptSceneModel;
+import kiosk.models.SceneModel;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class FlightEventsTest {
+
+    @Test
+    void sceneChangesAreRecorded() throws IOException {
+        // Arrange
+        assumeTrue(FlightEvents.isAvailable(), "This JVM has no flight recorder");
+        LoadedSurveyModel survey = new LoadedSurveyModel();
+        CareerModelLoader careerModelLoader = new CareerModelLoader(new File("non_existent.xxx"));
+        SceneModel scene1 = new PromptSceneModel();
+        SceneModel scene2 = new PromptSceneModel();
+        survey.scenes = new SceneModel[] { scene1, scene2 };
+        survey.rootSceneId = scene1.getId();
+        SceneGraph sceneGraph = new SceneGraph(survey, careerModelLoader);
+        Path dump = Files.createTempFile("scene-changes", ".jfr");
+        List<RecordedEvent> events;
+
+        // Act
+        try (Recording recording = new Recording()) {
+            recording.enable("kiosk.SceneChange");
+            recording.start();
+            sceneGraph.pushScene(scene2.getId());
+            sceneGraph.popScene();
+            recording.stop();
+            recording.dump(dump);
+            events = RecordingFile.readAllEvents(dump).stream()
+                    .filter(e -> e.getEventType().getName().equals("kiosk.SceneChange"))
+                    .collect(Collectors.toList());
+        } finally {
+            Files.delete(dump);
+        }
+
+        // Assert
+        assertEquals(2, events.size());
+        assertEquals("push", events.get(0).getString("action"));
+        assertEquals(scene1.getId(), events.get(0).getString("fromId"));
+        assertEquals(scene2.getId(), events.get(0).getString("toId"));
+        assertEquals("pop", events.get(1).getString("action"));
+        assertEquals(scene1.getId(), events.get(1).getString("toId"));
+    }
+}
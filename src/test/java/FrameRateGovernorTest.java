@@ -0,0 +1,38 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import kiosk.FrameRateGovernor;
+import kiosk.Settings;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class FrameRateGovernorTest {
+    private static final long SECOND = 1000000000L;
+
+    @Test
+    void frameRateStepsDownWhileIdleAndRecoversOnInput() {
+        // Arrange
+        Settings settings = new Settings();
+        settings.idleFrameRateSeconds = 10;
+        settings.idleFrameRate = 30;
+        settings.sleepFrameRateSeconds = 100;
+        settings.sleepFrameRate = 1;
+        List<Integer> frameRates = new ArrayList<>();
+        FrameRateGovernor governor = new FrameRateGovernor(settings, frameRates::add, 0);
+
+        // Act
+        governor.update(5 * SECOND);
+        governor.update(20 * SECOND);
+        governor.update(200 * SECOND);
+        governor.onInput(210 * SECOND);
+        governor.update(211 * SECOND);
+
+        // Assert
+        assertEquals(FrameRateGovernor.Tier.FULL, governor.getTier());
+        assertEquals(Arrays.asList(30, FrameRateGovernor.MIN_FRAME_RATE, 60), frameRates);
+        assertEquals(21 * SECOND, governor.getTimeInTier(FrameRateGovernor.Tier.FULL));
+        assertEquals(180 * SECOND, governor.getTimeInTier(FrameRateGovernor.Tier.IDLE));
+        assertEquals(10 * SECOND, governor.getTimeInTier(FrameRateGovernor.Tier.SLEEP));
+    }
+}
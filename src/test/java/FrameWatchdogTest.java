@@ -0,0 +1,71 @@
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import kiosk.FrameWatchdog;
+import kiosk.SceneGraph;
+import kiosk.models.CareerModelLoader;
+import kiosk.models.LoadedSurveyModel;
+import kiosk.models.PromptSceneModel;
+import kiosk.models.SceneModel;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FrameWatchdogTest {
+
+    private static void stallFrame(CountDownLatch finish) {
+        try {
+            finish.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    void stalledFrameIsLoggedWithItsStackAndScene() throws Exception {
+        // Arrange
+        LoadedSurveyModel survey = new LoadedSurveyModel();
+        CareerModelLoader careerModelLoader = new CareerModelLoader(new File("non_existent.xxx"));
+        SceneModel scene1 = new PromptSceneModel();
+        SceneModel scene2 = new PromptSceneModel();
+        survey.scenes = new SceneModel[] { scene1, scene2 };
+        survey.rootSceneId = scene1.getId();
+        SceneGraph sceneGraph = new SceneGraph(survey, careerModelLoader);
+        sceneGraph.pushScene(scene2.getId());
+        File log = File.createTempFile("frame-stalls", ".log");
+        FrameWatchdog watchdog = new FrameWatchdog(log.getPath(), 50, sceneGraph, () -> true);
+        CountDownLatch beaten = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        Thread sketch = new Thread(() -> {
+            watchdog.heartbeat();
+            beaten.countDown();
+            stallFrame(finish);
+            watchdog.heartbeat();
+        });
+        String contents;
+
+        // Act
+        try {
+            watchdog.start();
+            sketch.start();
+            beaten.await();
+            TimeUnit.MILLISECONDS.sleep(300);
+            finish.countDown();
+            sketch.join();
+            TimeUnit.MILLISECONDS.sleep(100);
+        } finally {
+            watchdog.stop();
+        }
+        contents = new String(Files.readAllBytes(log.toPath()), StandardCharsets.UTF_8);
+        log.delete();
+
+        // Assert
+        assertTrue(contents.contains("Frame stalled"), contents);
+        assertTrue(contents.contains("Scene: " + scene2.getId()), contents);
+        assertTrue(contents.contains("History: " + scene1.getId()), contents);
+        assertTrue(contents.contains("FrameWatchdogTest.stallFrame"), contents);
+        assertTrue(contents.contains("Frame stall ended after"), contents);
+    }
+}
@@ -0,0 +1,91 @@
+import kiosk.scenes.ImageCache;
+import org.junit.jupiter.api.Test;
+import processing.core.PImage;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ImageCacheTest {
+    // A 10x10 image takes up 400 bytes
+    private static final long IMAGE_BYTES = 10 * 10 * 4;
+
+    @Test
+    void cachedImageIsReturned() {
+        // Arrange
+        ImageCache cache = new ImageCache(IMAGE_BYTES * 4);
+        PImage image = new PImage(10, 10);
+
+        // Act
+        cache.put("a.png", 10, 10, image);
+
+        // Assert
+        assertSame(image, cache.get("a.png", 10, 10));
+        assertNull(cache.get("a.png", 20, 20));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    void leastRecentlyUsedImageIsEvicted() {
+        // Arrange
+        ImageCache cache = new ImageCache(IMAGE_BYTES * 2);
+        cache.put("a.png", 10, 10, new PImage(10, 10));
+        cache.put("b.png", 10, 10, new PImage(10, 10));
+
+        // Act
+        cache.get("a.png", 10, 10);
+        cache.put("c.png", 10, 10, new PImage(10, 10));
+
+        // Assert
+        assertTrue(cache.contains("a.png", 10, 10));
+        assertFalse(cache.contains("b.png", 10, 10));
+        assertTrue(cache.contains("c.png", 10, 10));
+        assertEquals(1, cache.getEvictions());
+        assertEquals(IMAGE_BYTES * 2, cache.getUsedBytes());
+    }
+
+    @Test
+    void shrinkingBudgetEvicts() {
+        // Arrange
+        ImageCache cache = new ImageCache(IMAGE_BYTES * 3);
+        cache.put("a.png", 10, 10, new PImage(10, 10));
+        cache.put("b.png", 10, 10, new PImage(10, 10));
+        cache.put("c.png", 10, 10, new PImage(10, 10));
+
+        // Act
+        cache.setBudgetBytes(IMAGE_BYTES);
+
+        // Assert
+        assertEquals(1, cache.getSize());
+        assertTrue(cache.contains("c.png", 10, 10));
+        assertEquals(2, cache.getEvictions());
+    }
+
+    @Test
+    void loadOnlyDecodesOnce() {
+        // Arrange
+        ImageCache cache = new ImageCache(IMAGE_BYTES * 4);
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        PImage first = cache.load("a.png", 10, 10, () -> {
+            loads.incrementAndGet();
+            return new PImage(10, 10);
+        });
+        PImage second = cache.load("a.png", 10, 10, () -> {
+            loads.incrementAndGet();
+            return new PImage(10, 10);
+        });
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+}
@@ -0,0 +1,64 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import kiosk.InputQueue;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InputQueueTest {
+
+    @Test
+    void fullQueueOnlyDropsDroppableEvents() {
+        // Arrange
+        // Negative events stand in for mouse moves
+        InputQueue<Integer> queue = new InputQueue<>(2, event -> event < 0);
+        List<Integer> handled = new ArrayList<>();
+
+        // Act
+        queue.offer(1, 0);
+        queue.offer(2, 0);
+        boolean acceptedMove = queue.offer(-3, 0);
+        boolean acceptedRelease = queue.offer(4, 0);
+        queue.offer(-5, 0);
+        queue.drain(handled::add, 0);
+        queue.offer(6, 0);
+        queue.drain(handled::add, 0);
+
+        // Assert
+        assertFalse(acceptedMove);
+        assertTrue(acceptedRelease);
+        assertEquals(Arrays.asList(1, 2, 4, 6), handled);
+        assertEquals(2, queue.getDropped());
+        assertEquals(1, queue.getOverflowed());
+        assertEquals(3, queue.getMaxDepth());
+    }
+
+    @Test
+    void eventsFromAnotherThreadArriveInOrder() throws InterruptedException {
+        // Arrange
+        int count = 100000;
+        // Nothing can be dropped, so events overflow whenever the ring fills up
+        InputQueue<Integer> queue = new InputQueue<>(64, event -> false);
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < count; i++) {
+                queue.offer(i, System.nanoTime());
+            }
+        });
+        List<Integer> handled = new ArrayList<>(count);
+
+        // Act
+        producer.start();
+        while (handled.size() < count) {
+            queue.drain(handled::add, System.nanoTime());
+        }
+        producer.join();
+
+        // Assert
+        for (int i = 0; i < count; i++) {
+            assertEquals(i, (int) handled.get(i));
+        }
+    }
+}
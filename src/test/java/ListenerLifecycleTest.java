@@ -0,0 +1,60 @@
+import kiosk.HeadlessRenderer;
+import kiosk.ListenerRegistry;
+import kiosk.models.ButtonModel;
+import kiosk.models.CareerPathwaySceneModel;
+import kiosk.models.PromptSceneModel;
+import kiosk.models.SceneModel;
+import kiosk.models.SpokeGraphPromptSceneModel;
+import kiosk.scenes.Scene;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ListenerLifecycleTest {
+    private static final int NAVIGATIONS = 1200;
+    private static final int FRAMES_PER_SCENE = 1;
+
+    private static ButtonModel[] createAnswers(int count) {
+        ButtonModel[] answers = new ButtonModel[count];
+        for (int i = 0; i < count; i++) {
+            answers[i] = new ButtonModel("Answer " + i, "next");
+        }
+        return answers;
+    }
+
+    @Test
+    void listenerCountsStayFlatAcrossNavigations() {
+        // Arrange
+        HeadlessRenderer renderer = new HeadlessRenderer(640, 360);
+        ListenerRegistry listeners = renderer.getSketch().getListenerRegistry();
+        PromptSceneModel prompt = new PromptSceneModel();
+        prompt.answers = createAnswers(3);
+        SpokeGraphPromptSceneModel spokeGraphPrompt = SpokeGraphPromptSceneModel.create();
+        spokeGraphPrompt.answers = createAnswers(4);
+        CareerPathwaySceneModel careerPathway = CareerPathwaySceneModel.create();
+        SceneModel[] models = { prompt, spokeGraphPrompt, careerPathway };
+        // Show the career pathway as it is reached from a spoke graph prompt, which
+        // lays out its spoke graph again every frame while it animates in
+        renderer.getSketch().isEditor = false;
+        renderer.getSketch().getSceneGraph().pushScene(spokeGraphPrompt);
+        renderer.getSketch().getSceneGraph().pushScene(careerPathway);
+        int[] firstVisitCounts = new int[models.length];
+
+        // Act
+        for (int i = 0; i < NAVIGATIONS; i++) {
+            Scene scene = renderer.startScene(models[i % models.length]);
+            for (int frame = 0; frame < FRAMES_PER_SCENE; frame++) {
+                renderer.drawFrame(scene);
+            }
+
+            // Assert
+            int count = listeners.getTotalCount();
+            if (i < models.length) {
+                firstVisitCounts[i] = count;
+            } else {
+                assertEquals(firstVisitCounts[i % models.length], count,
+                        "Listeners leaked after " + i + " navigations");
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+import kiosk.FrameProfiler;
+import kiosk.MetricsServer;
+import kiosk.SceneGraph;
+import kiosk.SessionCounter;
+import kiosk.models.CareerModelLoader;
+import kiosk.models.LoadedSurveyModel;
+import kiosk.models.PromptSceneModel;
+import kiosk.models.SceneKind;
+import kiosk.models.SceneModel;
+import kiosk.scenes.ImageCache;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MetricsServerTest {
+
+    @Test
+    void metricsAreServedOverHttp() throws IOException {
+        // Arrange
+        LoadedSurveyModel survey = new LoadedSurveyModel();
+        CareerModelLoader careerModelLoader = new CareerModelLoader(new File("non_existent.xxx"));
+        SceneModel scene1 = new PromptSceneModel();
+        SceneModel scene2 = new PromptSceneModel();
+        survey.scenes = new SceneModel[] { scene1, scene2 };
+        survey.rootSceneId = scene1.getId();
+        SceneGraph sceneGraph = new SceneGraph(survey, careerModelLoader);
+        sceneGraph.pushScene(scene2.getId());
+        SessionCounter sessions = new SessionCounter();
+        sessions.onSceneShown(SceneKind.PROMPT, false);
+        MetricsServer server = new MetricsServer(new FrameProfiler(), sceneGraph, sessions,
+                new ImageCache(1024));
+        server.start(0);
+        String body;
+        int status;
+
+        // Act
+        try {
+            URL url = new URL("http://127.0.0.1:" + server.getPort() + MetricsServer.PATH);
+            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+            status = connection.getResponseCode();
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    connection.getInputStream(), StandardCharsets.UTF_8))) {
+                body = reader.lines().collect(Collectors.joining("\n"));
+            }
+        } finally {
+            server.stop();
+        }
+
+        // Assert
+        assertEquals(200, status);
+        assertTrue(body.contains("kiosk_scene_info{scene_id=\"" + scene2.getId()
+                + "\",kind=\"PROMPT\"} 1"));
+        assertTrue(body.contains("kiosk_scene_navigations_total{action=\"push\"} 1"));
+        assertTrue(body.contains("kiosk_sessions_started_total 1"));
+        assertTrue(body.contains("kiosk_image_cache_budget_bytes 1024"));
+    }
+
+    @Test
+    void sessionsEndedByTheTimeoutAreCounted() {
+        // Arrange
+        SessionCounter sessions = new SessionCounter();
+
+        // Act
+        sessions.onSceneShown(SceneKind.PROMPT, false);
+        sessions.onSceneShown(SceneKind.CAREER_DESCRIPTION, false);
+        sessions.onTimeout();
+        sessions.onSceneShown(SceneKind.PROMPT, true);
+        sessions.onSceneShown(SceneKind.PROMPT, false);
+        sessions.onTimeout();
+
+        // Assert
+        assertEquals(2, sessions.getStarted());
+        assertEquals(1, sessions.getCompleted());
+        assertEquals(2, sessions.getTimedOut());
+    }
+}
@@ -0,0 +1,77 @@
+import graphics.OutlinedTextCache;
+import java.awt.Font;
+import kiosk.Kiosk;
+import kiosk.Settings;
+import org.junit.jupiter.api.Test;
+import processing.awt.PGraphicsJava2D;
+import processing.core.PConstants;
+import processing.core.PFont;
+import processing.core.PGraphics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class OutlinedTextCacheTest {
+    private static final int[] BLACK = new int[] { 0, 0, 0 };
+    private static final int[] WHITE = new int[] { 255, 255, 255 };
+
+    private static Kiosk createHeadlessSketch() {
+        Settings settings = new Settings();
+        Kiosk sketch = new Kiosk("", settings, true);
+        sketch.width = settings.screenW;
+        sketch.height = settings.screenH;
+
+        PGraphicsJava2D graphics = new PGraphicsJava2D();
+        graphics.setParent(sketch);
+        graphics.setPrimary(false);
+        graphics.setSize(settings.screenW, settings.screenH);
+        sketch.g = graphics;
+        return sketch;
+    }
+
+    @Test
+    void labelIsOnlyRasterizedOnce() {
+        // Arrange
+        Kiosk sketch = createHeadlessSketch();
+        OutlinedTextCache cache = new OutlinedTextCache(1024 * 1024);
+        sketch.g.beginDraw();
+        sketch.textFont(new PFont(new Font(Font.SANS_SERIF, Font.PLAIN, 16), true), 16);
+        sketch.rectMode(PConstants.CENTER);
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            cache.draw(sketch, "Nurse", 100 + i, 100, 80, 40, BLACK, WHITE);
+        }
+        cache.draw(sketch, "Nurse", 100, 100, 80, 40, WHITE, BLACK);
+        sketch.g.endDraw();
+
+        // Assert
+        assertEquals(2, cache.getSize());
+        assertEquals(2, cache.getMisses());
+        assertEquals(4, cache.getHits());
+    }
+
+    @Test
+    void textIsDrawnDirectlyForOtherRenderers() {
+        // Arrange
+        Kiosk sketch = createHeadlessSketch();
+        int[] textDraws = new int[1];
+        // Stands in for FX2D, which can't run without a display
+        sketch.g = new PGraphics() {
+            @Override
+            public void text(String str, float x1, float y1, float x2, float y2) {
+                textDraws[0]++;
+            }
+        };
+        sketch.g.textFont = new PFont(new Font(Font.SANS_SERIF, Font.PLAIN, 16), true);
+        sketch.g.textSize = 16;
+        OutlinedTextCache cache = new OutlinedTextCache(1024 * 1024);
+
+        // Act
+        cache.draw(sketch, "Nurse", 100, 100, 80, 40, BLACK, WHITE);
+
+        // Assert
+        assertEquals(0, cache.getSize());
+        assertEquals(0, cache.getMisses());
+        assertEquals(7, textDraws[0]);
+    }
+}
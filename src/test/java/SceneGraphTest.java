@@ -3,8 +3,11 @@ import kiosk.models.*;
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class SceneGraphTest {
@@ -42,4 +45,100 @@ public class SceneGraphTest {
         // Assert
         assertEquals(scene2.getId(), sceneGraph.getRootSceneModel().getId());
     }
+
+    @Test
+    void preparedSceneIsDiscardedOnPop() {
+        // Arrange
+        LoadedSurveyModel survey = new LoadedSurveyModel();
+        CareerModelLoader careerModelLoader = new CareerModelLoader(new File("non_existent.xxx"));
+        SceneModel scene1 = new PromptSceneModel();
+        SceneModel scene2 = new PromptSceneModel();
+        SceneModel scene3 = new PromptSceneModel();
+        survey.scenes = new SceneModel[] { scene1, scene2, scene3 };
+        survey.rootSceneId = scene1.getId();
+        SceneGraph sceneGraph = new SceneGraph(survey, careerModelLoader);
+        sceneGraph.pushScene(scene2.getId());
+
+        // Act
+        sceneGraph.prepareScene(scene3.getId());
+        sceneGraph.popScene();
+        sceneGraph.pushScene(scene2.getId());
+
+        // Assert
+        assertEquals(scene2.getId(), sceneGraph.getCurrentSceneModel().getId());
+    }
+
+    @Test
+    void recentSceneIgnoresTimeoutPopup() {
+        // Arrange
+        LoadedSurveyModel survey = new LoadedSurveyModel();
+        CareerModelLoader careerModelLoader = new CareerModelLoader(new File("non_existent.xxx"));
+        SceneModel scene1 = new PromptSceneModel();
+        SceneModel scene2 = SpokeGraphPromptSceneModel.create();
+        survey.scenes = new SceneModel[] { scene1, scene2 };
+        survey.rootSceneId = scene1.getId();
+        SceneGraph sceneGraph = new SceneGraph(survey, careerModelLoader);
+        sceneGraph.pushScene(scene2.getId());
+
+        // Act
+        sceneGraph.pushScene(new TimeoutSceneModel());
+        sceneGraph.popScene();
+
+        // Assert
+        assertEquals(SceneKind.SPOKE_GRAPH_PROMPT, sceneGraph.recentScene);
+        assertEquals(SceneKind.SPOKE_GRAPH_PROMPT, sceneGraph.getCurrentScene().getKind());
+    }
+
+    @Test
+    void sceneIdsAreASnapshot() {
+        // Arrange
+        LoadedSurveyModel survey = new LoadedSurveyModel();
+        CareerModelLoader careerModelLoader = new CareerModelLoader(new File("non_existent.xxx"));
+        SceneModel scene1 = new PromptSceneModel();
+        survey.scenes = new SceneModel[] { scene1 };
+        survey.rootSceneId = scene1.getId();
+        SceneGraph sceneGraph = new SceneGraph(survey, careerModelLoader);
+        Set<String> ids = sceneGraph.getSceneIds();
+        SceneModel scene2 = new PromptSceneModel();
+
+        // Act
+        sceneGraph.registerSceneModel(scene2);
+
+        // Assert
+        assertFalse(ids.contains(scene2.getId()));
+        assertTrue(sceneGraph.getSceneIds().contains(scene2.getId()));
+        assertThrows(UnsupportedOperationException.class, () -> ids.remove(scene1.getId()));
+    }
+
+    @Test
+    void compiledSurveyCopiesModelsOnce() {
+        // Arrange
+        LoadedSurveyModel survey = new LoadedSurveyModel();
+        CareerModelLoader careerModelLoader = new CareerModelLoader(new File("non_existent.xxx"));
+        SceneModel scene1 = new PromptSceneModel();
+        CopyCountingSceneModel scene2 = new CopyCountingSceneModel();
+        survey.scenes = new SceneModel[] { scene1, scene2 };
+        survey.rootSceneId = scene1.getId();
+        SceneGraph sceneGraph = new SceneGraph(survey, careerModelLoader);
+
+        // Act
+        sceneGraph.setCompileSurvey(true);
+        for (int i = 0; i < 3; i++) {
+            sceneGraph.pushScene(scene2.getId());
+            sceneGraph.popScene();
+        }
+
+        // Assert
+        assertEquals(1, scene2.copies);
+    }
+
+    private static class CopyCountingSceneModel extends EmptySceneModel {
+        private int copies = 0;
+
+        @Override
+        public SceneModel deepCopy() {
+            copies++;
+            return super.deepCopy();
+        }
+    }
 }
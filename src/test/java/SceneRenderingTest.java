@@ -0,0 +1,129 @@
+import graphics.SpokeGraph;
+import java.io.File;
+import java.io.IOException;
+import javax.imageio.ImageIO;
+import kiosk.HeadlessRenderer;
+import kiosk.models.ButtonModel;
+import kiosk.models.PromptSceneModel;
+import kiosk.models.SpokeGraphPromptSceneModel;
+import kiosk.scenes.ButtonControl;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import processing.core.PImage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Compares rendered frames against the golden images in
+ * src/test/resources/golden. Run with -Dgolden.update=true to record new
+ * golden images after an intended visual change.
+ */
+public class SceneRenderingTest {
+    private static final File GOLDEN_DIRECTORY = new File("src/test/resources/golden");
+    // Enough frames for scenes to finish animating in
+    private static final int FRAMES = 30;
+    // Antialiasing differs slightly between machines
+    private static final int TOLERANCE = 24;
+    private static final double MAX_DIFFERENT_FRACTION = 0.005;
+
+    private static HeadlessRenderer renderer;
+
+    @BeforeAll
+    static void createRenderer() {
+        renderer = new HeadlessRenderer(640, 360);
+    }
+
+    private static void assertMatchesGolden(String name, PImage frame) throws IOException {
+        File golden = new File(GOLDEN_DIRECTORY, name + ".png");
+        if (Boolean.getBoolean("golden.update") || !golden.exists()) {
+            GOLDEN_DIRECTORY.mkdirs();
+            assertTrue(frame.save(golden.getAbsolutePath()));
+            if (!Boolean.getBoolean("golden.update")) {
+                fail("Recorded a new golden image at " + golden.getPath());
+            }
+            return;
+        }
+
+        PImage expected = new PImage(ImageIO.read(golden));
+        int different = HeadlessRenderer.countDifferentPixels(expected, frame, TOLERANCE);
+        assertTrue(different <= expected.pixels.length * MAX_DIFFERENT_FRACTION,
+                name + " differs from its golden image in " + different + " pixels");
+    }
+
+    private static ButtonModel[] createAnswers(int count) {
+        ButtonModel[] answers = new ButtonModel[count];
+        for (int i = 0; i < count; i++) {
+            answers[i] = new ButtonModel("Answer " + i, "next");
+        }
+        return answers;
+    }
+
+    @Test
+    void promptSceneMatchesGolden() throws IOException {
+        // Arrange
+        PromptSceneModel model = new PromptSceneModel();
+        model.title = "Question";
+        model.prompt = "Which of these sounds the most like you?";
+        model.actionPhrase = "Pick one";
+        model.answers = createAnswers(3);
+
+        // Act
+        PImage frame = renderer.renderScene(model, FRAMES);
+
+        // Assert
+        assertMatchesGolden("prompt-scene", frame);
+    }
+
+    @Test
+    void spokeGraphPromptSceneMatchesGolden() throws IOException {
+        // Arrange
+        SpokeGraphPromptSceneModel model = SpokeGraphPromptSceneModel.create();
+        model.headerTitle = "Careers";
+        model.headerBody = "Which of these sounds the most like you?";
+        model.careerCenterText = "Careers";
+        model.promptText = "Pick one";
+        model.answers = createAnswers(4);
+
+        // Act
+        PImage frame = renderer.renderScene(model, FRAMES);
+
+        // Assert
+        assertMatchesGolden("spoke-graph-prompt-scene", frame);
+    }
+
+    @Test
+    void controlsMatchGolden() throws IOException {
+        // Arrange
+        SpokeGraph spokeGraph = new SpokeGraph(300, 20, 30, "Careers", createAnswers(4),
+                new int[] { 0, 0, 0 });
+        spokeGraph.init(renderer.getSketch());
+        ButtonControl button = new ButtonControl(new ButtonModel("Next", "next"),
+                400, 150, 200, 60);
+        button.init(renderer.getSketch());
+
+        // Act
+        for (int i = 0; i < FRAMES; i++) {
+            renderer.drawFrame(sketch -> {
+                spokeGraph.draw(sketch, 0, 0);
+                button.draw(sketch);
+            });
+        }
+
+        // Assert
+        assertMatchesGolden("controls", renderer.getFrame());
+    }
+
+    @Test
+    void identicalImagesHaveNoDifferentPixels() {
+        // Arrange
+        PImage frame = renderer.renderScene(new PromptSceneModel(), 1);
+
+        // Act
+        int different = HeadlessRenderer.countDifferentPixels(frame, frame.get(), 0);
+
+        // Assert
+        assertEquals(0, different);
+    }
+}
@@ -0,0 +1,33 @@
+import graphics.SpriteAtlas;
+import org.junit.jupiter.api.Test;
+import processing.core.PApplet;
+import processing.core.PConstants;
+import processing.core.PImage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SpriteAtlasTest {
+
+    @Test
+    void mirroredSpritesAreFlippedLeftToRight() {
+        // Arrange
+        PApplet sketch = new PApplet();
+        PImage image = sketch.createImage(4, 4, PConstants.ARGB);
+        image.pixels[0] = 0xFFFF0000;
+        image.updatePixels();
+        SpriteAtlas atlas = new SpriteAtlas(sketch, 4, 2);
+
+        // Act
+        atlas.add(image);
+        atlas.addMirrored(image);
+
+        // Assert
+        PImage pixels = atlas.getImage();
+        pixels.loadPixels();
+        // The atlas is two sprites wide, with padding after every sprite
+        int mirroredLeft = 4 + 2;
+        assertEquals(0xFFFF0000, pixels.pixels[0]);
+        assertEquals(0, pixels.pixels[mirroredLeft]);
+        assertEquals(0xFFFF0000, pixels.pixels[mirroredLeft + 3]);
+    }
+}
@@ -0,0 +1,100 @@
+import kiosk.models.CareerDescriptionModel;
+import kiosk.models.CareerModel;
+import kiosk.models.CareerPathwaySceneModel;
+import kiosk.models.CreditsSceneModel;
+import kiosk.models.DefaultSceneModel;
+import kiosk.models.DetailsSceneModel;
+import kiosk.models.EmptySceneModel;
+import kiosk.models.ErrorSceneModel;
+import kiosk.models.LoadedSurveyModel;
+import kiosk.models.ResetSceneModel;
+import kiosk.models.SceneModel;
+import kiosk.models.SpokeGraphPromptSceneModel;
+import kiosk.models.SurveyCodec;
+import kiosk.models.TimeoutSceneModel;
+import kiosk.models.WaveTransitionSceneModel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.beans.XMLEncoder;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SurveyCodecTest {
+
+    // XMLEncoder writes some lines in no particular order and numbers the
+    // objects it shares in that order, so compare sorted lines without numbers
+    private static List<String> toXmlLines(LoadedSurveyModel survey) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (XMLEncoder encoder = new XMLEncoder(bytes)) {
+            encoder.writeObject(survey);
+        }
+        List<String> lines = new ArrayList<>();
+        for (String line : bytes.toString().split("\n")) {
+            lines.add(line.trim().replaceAll("id=\"([A-Za-z]+)\\d+\"", "id=\"$1\""));
+        }
+        Collections.sort(lines);
+        return lines;
+    }
+
+    @Test
+    void everySceneTypeRoundTrips() throws IOException {
+        // Arrange
+        CareerPathwaySceneModel careerPathway = new CareerPathwaySceneModel();
+        careerPathway.careers = new CareerModel[] { new CareerModel() };
+        List<SceneModel> scenes = new ArrayList<>(
+                Arrays.asList(LoadedSurveyModel.createSampleSurvey().scenes));
+        scenes.addAll(Arrays.asList(
+                new SpokeGraphPromptSceneModel(), careerPathway, new CareerDescriptionModel(),
+                new DetailsSceneModel(), new CreditsSceneModel(), new TimeoutSceneModel(),
+                new WaveTransitionSceneModel(), new ResetSceneModel(), new EmptySceneModel(),
+                new ErrorSceneModel("Oops"), new DefaultSceneModel()));
+        LoadedSurveyModel survey = new LoadedSurveyModel(scenes);
+
+        // Act
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        SurveyCodec.write(survey, bytes);
+        LoadedSurveyModel decoded =
+                SurveyCodec.read(new ByteArrayInputStream(bytes.toByteArray()));
+
+        // Assert
+        ByteArrayOutputStream reencoded = new ByteArrayOutputStream();
+        SurveyCodec.write(decoded, reencoded);
+        assertArrayEquals(bytes.toByteArray(), reencoded.toByteArray());
+        assertEquals(toXmlLines(survey), toXmlLines(decoded));
+    }
+
+    @Test
+    void snapshotIsOnlySavedWhenAsked(@TempDir Path directory) {
+        // Arrange
+        File xmlFile = directory.resolve("survey.xml").toFile();
+        File snapshotFile = new File(xmlFile.getPath() + LoadedSurveyModel.SNAPSHOT_EXTENSION);
+        LoadedSurveyModel survey = LoadedSurveyModel.createSampleSurvey();
+        survey.writeToFile(xmlFile);
+
+        // Act
+        LoadedSurveyModel.readFromFile(xmlFile);
+        boolean savedWithoutAsking = snapshotFile.exists();
+        LoadedSurveyModel parsed = LoadedSurveyModel.readFromFile(xmlFile, true);
+        LoadedSurveyModel read = LoadedSurveyModel.readFromFile(xmlFile, true);
+
+        // Assert
+        assertFalse(savedWithoutAsking);
+        assertTrue(snapshotFile.exists());
+        // Just the XML and its snapshot, no temporary file
+        assertEquals(2, directory.toFile().list().length);
+        assertEquals(toXmlLines(parsed), toXmlLines(read));
+    }
+}
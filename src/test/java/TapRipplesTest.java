@@ -0,0 +1,26 @@
+import graphics.TapRipples;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TapRipplesTest {
+
+    @Test
+    void fullRingReplacesOldestRipple() {
+        // Arrange
+        TapRipples ripples = new TapRipples(2);
+        ripples.add(0, 0, 0);
+        ripples.update(TapRipples.LIFETIME_SECONDS / 2);
+
+        // Act
+        ripples.add(1, 1, 0);
+        ripples.add(2, 2, 0);
+        ripples.update(TapRipples.LIFETIME_SECONDS / 2);
+
+        // Assert
+        // The first ripple would have finished, but was replaced by the third
+        assertEquals(2, ripples.size());
+        ripples.update(TapRipples.LIFETIME_SECONDS / 2);
+        assertEquals(0, ripples.size());
+    }
+}
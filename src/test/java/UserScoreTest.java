@@ -0,0 +1,104 @@
+import kiosk.Riasec;
+import kiosk.UserScore;
+import kiosk.models.CareerModel;
+import kiosk.models.FilterGroupModel;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class UserScoreTest {
+
+    private static CareerModel[] createCareers(int count) {
+        CareerModel[] careers = new CareerModel[count];
+        for (int i = 0; i < count; i++) {
+            careers[i] = new CareerModel();
+            careers[i].name = "Career " + i;
+        }
+        return careers;
+    }
+
+    private static FilterGroupModel createFilter(int... careerIds) {
+        FilterGroupModel filter = new FilterGroupModel();
+        filter.careerNames = new HashSet<>();
+        for (int id : careerIds) {
+            filter.careerNames.add("Career " + id);
+        }
+        return filter;
+    }
+
+    @Test
+    void filtersAcrossWordBoundariesAreUndone() {
+        // Arrange
+        UserScore userScore = new UserScore(createCareers(150));
+
+        // Act
+        userScore.apply(Riasec.Realistic, createFilter(0, 63, 64, 130, 149));
+        userScore.apply(Riasec.Social, createFilter(63, 130, 200));
+
+        // Assert
+        assertEquals(2, userScore.getCareerCount());
+        assertTrue(userScore.isIncluded("Career 63"));
+        assertTrue(userScore.isIncluded("Career 130"));
+        assertFalse(userScore.isIncluded("Career 64"));
+        assertEquals("Career 63", userScore.getCareers()[0].name);
+
+        userScore.undo();
+        assertEquals(5, userScore.getCareerCount());
+        assertEquals(0, userScore.getCategoryScore(Riasec.Social));
+
+        userScore.reset();
+        assertEquals(150, userScore.getCareers().length);
+    }
+
+    @Test
+    void careersArrayIsReusedUntilChanged() {
+        // Arrange
+        UserScore userScore = new UserScore(createCareers(10));
+
+        // Act
+        CareerModel[] first = userScore.getCareers();
+        userScore.apply(Riasec.Artistic, null);
+        CareerModel[] second = userScore.getCareers();
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(10, second.length);
+    }
+
+    @Test
+    void filterIsCompiledOnce() {
+        // Arrange
+        UserScore userScore = new UserScore(createCareers(10));
+        FilterGroupModel filter = new FilterGroupModel();
+        IterationCountingSet careerNames = new IterationCountingSet();
+        careerNames.add("Career 2");
+        careerNames.add("Career 5");
+        filter.careerNames = careerNames;
+
+        // Act
+        userScore.apply(Riasec.Realistic, filter);
+        userScore.undo();
+        userScore.apply(Riasec.Realistic, filter);
+
+        // Assert
+        assertEquals(1, careerNames.iterations);
+        assertEquals(2, userScore.getCareerCount());
+        assertTrue(userScore.isIncluded("Career 5"));
+    }
+
+    private static class IterationCountingSet extends HashSet<String> {
+        private int iterations = 0;
+
+        @Override
+        public Iterator<String> iterator() {
+            iterations++;
+            return super.iterator();
+        }
+    }
+}